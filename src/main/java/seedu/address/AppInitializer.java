@@ -0,0 +1,273 @@
+package seedu.address;
+
+import static seedu.address.commons.events.model.TaskCollectionLoadProgressEvent.UNKNOWN_TOTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.TaskCollectionLoadProgressEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.Logic;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.CommandServer;
+import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TaskCollectionStorage;
+import seedu.address.storage.TextFileCommandHistoryStorage;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.xmlstorage.XmlTaskCollectionStorage;
+
+/**
+ * Initializes the components shared by the graphical and headless entry points of the application.
+ */
+public class AppInitializer {
+
+    /** Number of tasks added to the model at a time when it is loaded in the background. */
+    public static final int LOAD_BATCH_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br> The default file path
+     * {@code Config#DEFAULT_CONFIG_FILE} will be used instead if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning(
+                "Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path, or a
+     * new {@code UserPrefs} with default configuration if errors occur when reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning(
+                "Problem while reading from the file. Will be starting with an empty TaskCollection");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code Storage} for the files named in {@code userPrefs}, saving user prefs through
+     * {@code userPrefsStorage}.
+     */
+    public static Storage initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        TaskCollectionStorage taskCollectionStorage = new XmlTaskCollectionStorage(
+            userPrefs.getDeadlineManagerFilePath());
+        CommandHistoryStorage commandHistoryStorage = new TextFileCommandHistoryStorage(
+            userPrefs.getCommandHistoryFilePath(), CommandHistory.DEFAULT_CAPACITY);
+        return new StorageManager(taskCollectionStorage, userPrefsStorage, commandHistoryStorage);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s deadline manager and {@code
+     * userPrefs}. <br> The data from the sample deadline manager will be used instead if {@code
+     * storage}'s deadline manager is not found, or an empty deadline manager will be used instead if errors
+     * occur when reading {@code storage}'s deadline manager.
+     * If the managed attachment store is enabled and the data file was read, the stored files that no
+     * task refers to are deleted.
+     */
+    public static Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        InitialData initialData = readInitialData(storage);
+        Model model = new ModelManager(initialData.taskCollection, userPrefs);
+        if (initialData.isFromDataFile) {
+            collectAttachmentGarbage(model);
+        }
+        return model;
+    }
+
+    /**
+     * Loads {@code storage}'s deadline manager into {@code model}, which must be empty, in the background,
+     * falling back to the same data as {@link #initModelManager(Storage, UserPrefs)}.
+     * The file is read on another thread as soon as this method is called, while the tasks are added
+     * to the model on the command worker of {@code logic} in batches of {@link #LOAD_BATCH_SIZE}, once
+     * {@code canAddTasks} completes. Commands submitted to {@code logic} wait until all tasks are
+     * added. Progress is announced with {@code TaskCollectionLoadProgressEvent}s. If the tasks cannot
+     * all be added, loading is ended with {@link Model#failLoading(Exception)}, after which
+     * {@code logic} refuses commands that would change it.
+     *
+     * @param canAddTasks completes when the model may be changed, e.g. once the UI is bound to it.
+     * @return a future that completes when all tasks are in the model, or exceptionally if they are not.
+     */
+    public static CompletableFuture<Void> loadModelInBackground(Storage storage, Model model, Logic logic,
+                                                                CompletionStage<?> canAddTasks) {
+        CompletableFuture<InitialData> initialData =
+            CompletableFuture.supplyAsync(() -> readInitialData(storage));
+        CompletableFuture<?> canAddTasksFuture = canAddTasks.toCompletableFuture();
+        return logic.runAsync(() -> {
+            canAddTasksFuture.join();
+            EventsCenter.getInstance().post(new TaskCollectionLoadProgressEvent(0, UNKNOWN_TOTAL));
+            InitialData data;
+            List<Task> tasks;
+            try {
+                data = initialData.join();
+                tasks = data.taskCollection.getTaskList();
+                for (int start = 0; start < tasks.size(); start += LOAD_BATCH_SIZE) {
+                    int end = Math.min(start + LOAD_BATCH_SIZE, tasks.size());
+                    model.addLoadedTasks(tasks.subList(start, end));
+                    EventsCenter.getInstance().post(new TaskCollectionLoadProgressEvent(end, tasks.size()));
+                }
+            } catch (RuntimeException e) {
+                // the model may hold only some of the tasks, so it is kept from changing the data file
+                model.failLoading(e);
+                throw e;
+            }
+            model.finishLoading();
+            logger.info("Loaded " + tasks.size() + " tasks");
+            if (data.isFromDataFile) {
+                collectAttachmentGarbage(model);
+            }
+        });
+    }
+
+    /**
+     * Returns the data from {@code storage}'s deadline manager, the sample deadline manager if it is not
+     * found, or an empty deadline manager if errors occur when reading it.
+     */
+    private static InitialData readInitialData(Storage storage) {
+        try {
+            Optional<ReadOnlyTaskCollection> taskCollectionOptional = storage.readTaskCollection();
+            if (!taskCollectionOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample deadline manager");
+                return new InitialData(SampleDataUtil.getSampleTaskCollection(), false);
+            }
+            return new InitialData(taskCollectionOptional.get(), true);
+        } catch (DataConversionException e) {
+            logger.warning(
+                "Data file not in the correct format. Will be starting with an empty deadline manager");
+            return new InitialData(new TaskCollection(), false);
+        } catch (IOException e) {
+            logger.warning(
+                "Problem while reading from the file. Will be starting with an empty deadline manager");
+            return new InitialData(new TaskCollection(), false);
+        }
+    }
+
+    /**
+     * Deletes the files in {@code model}'s attachment store that no task refers to, if the store is enabled.
+     * Must only be called when the model holds the tasks of the data file, as the files of every task that
+     * is not in the model are deleted.
+     */
+    private static void collectAttachmentGarbage(Model model) {
+        if (model.getAttachmentStore().isPresent()) {
+            try {
+                model.getAttachmentStore().get().collectGarbage(model.getTaskCollection().getTaskList());
+            } catch (IOException e) {
+                logger.warning("Failed to clean up the attachment store: " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Returns a {@code CommandHistory} with the commands entered in previous sessions, as read from
+     * {@code storage}, or an empty {@code CommandHistory} if errors occur when reading them.
+     */
+    public static CommandHistory initCommandHistory(Storage storage) {
+        CommandHistory history = new CommandHistory();
+        try {
+            storage.readCommandHistory().forEach(history::add);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history. Will be starting with an empty history");
+        }
+        return history;
+    }
+
+    /**
+     * Returns a started {@code CommandServer} executing commands on {@code logic}, if a command
+     * server port is set in {@code config}. The server's token is written to the token file set in
+     * {@code config}. Returns an empty {@code Optional} if the server is
+     * disabled or cannot be started.
+     */
+    public static Optional<CommandServer> initCommandServer(Config config, Logic logic, Model model) {
+        if (config.getCommandServerPort() == 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CommandServer.start(config.getCommandServerPort(),
+                config.getCommandServerTokenFilePath(), config.isCommandServerChangesAllowed(), logic, model));
+        } catch (IOException e) {
+            logger.warning("Failed to start the command server : " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The tasks the application starts with, and whether they were read from the data file rather than
+     * substituted for it.
+     */
+    private static class InitialData {
+        final ReadOnlyTaskCollection taskCollection;
+        final boolean isFromDataFile;
+
+        InitialData(ReadOnlyTaskCollection taskCollection, boolean isFromDataFile) {
+            this.taskCollection = taskCollection;
+            this.isFromDataFile = isFromDataFile;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attachment.AttachmentMetadataCache;
+import seedu.address.server.CommandServer;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * An entry point to the application that runs commands without a user interface.
+ * Commands are read one per line from a script file, or from the standard input, and executed in
+ * order. The result of each command is printed to the standard output and errors to the standard
+ * error. Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped.
+ * In batch mode, the data and the command history are saved, and the data committed for undo/redo, only
+ * once, after the last command.
+ * If the command server is enabled in the config, it is started once the script ends without an exit
+ * command, and serves requests until an exit command is executed. The script runs its commands on
+ * the calling thread, so the server must not change the model while it runs.
+ */
+public class HeadlessApp {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String USAGE = "Usage: HeadlessApp [--config=CONFIG_FILE] [--script=SCRIPT_FILE] [--batch]\n"
+        + "Runs the commands in SCRIPT_FILE, or read from the standard input, one command per line.\n"
+        + "--batch saves the data once after the last command instead of after every command.";
+    public static final String MESSAGE_INVALID_ARGUMENT = "Invalid argument: %s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_USAGE_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final CountDownLatch exitRequest = new CountDownLatch(1);
+
+    public HeadlessApp(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    /**
+     * Executes the commands read from {@code commands} until the end of the input or an exit
+     * command, printing results to {@code out} and errors to {@code err}.
+     * Failed commands are reported and skipped.
+     *
+     * @param isBatch whether changes and commands are saved, and changes committed, once after the last command.
+     * @return the number of commands that failed.
+     * @throws IOException if the commands cannot be read.
+     */
+    public int run(BufferedReader commands, PrintStream out, PrintStream err, boolean isBatch) throws IOException {
+        int failedCommandCount = 0;
+        int lineNumber = 0;
+        if (isBatch) {
+            logic.beginBatch();
+        }
+        try {
+            String line;
+            while (!isExitRequested() && (line = commands.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(result.feedbackToUser);
+                } catch (CommandException | ParseException e) {
+                    failedCommandCount++;
+                    err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                }
+            }
+        } finally {
+            if (isBatch) {
+                logic.endBatch();
+            }
+        }
+        return failedCommandCount;
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        exitRequest.countDown();
+    }
+
+    private boolean isExitRequested() {
+        return exitRequest.getCount() == 0;
+    }
+
+    /**
+     * Waits until an exit command has been executed.
+     */
+    private void awaitExitRequest() throws InterruptedException {
+        exitRequest.await();
+    }
+
+    /**
+     * Starts the model, logic and storage components, runs the script given in {@code args} and
+     * exits with {@link #EXIT_COMMAND_FAILED} if any command failed.
+     */
+    public static void main(String[] args) {
+        Parameters parameters;
+        try {
+            parameters = Parameters.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE_ERROR);
+            return;
+        }
+
+        Config config = AppInitializer.initConfig(parameters.getConfigPath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
+        LogsCenter.init(config);
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, AppInitializer.initCommandHistory(storage));
+        HeadlessApp app = new HeadlessApp(logic);
+
+        int failedCommandCount;
+        try (BufferedReader commands = parameters.getScriptPath() == null
+            ? new BufferedReader(new InputStreamReader(System.in))
+            : Files.newBufferedReader(parameters.getScriptPath())) {
+            failedCommandCount = app.run(commands, System.out, System.err, parameters.isBatch());
+        } catch (IOException e) {
+            System.err.println("Failed to read commands: " + StringUtil.getDetails(e));
+            System.exit(EXIT_USAGE_ERROR);
+            return;
+        }
+
+        // started only now, so that its commands never run alongside the script's or inside its batch
+        Optional<CommandServer> commandServer = app.isExitRequested()
+            ? Optional.empty()
+            : AppInitializer.initCommandServer(config, logic, model);
+        if (commandServer.isPresent()) {
+            try {
+                app.awaitExitRequest();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            commandServer.get().stop();
+        }
+        AttachmentMetadataCache.closeInstance();
+        storage.stop();
+        System.exit(failedCommandCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED);
+    }
+
+    /**
+     * Represents the parsed command-line arguments given to the headless application.
+     */
+    public static class Parameters {
+
+        private static final String CONFIG_ARGUMENT = "--config=";
+        private static final String SCRIPT_ARGUMENT = "--script=";
+        private static final String BATCH_ARGUMENT = "--batch";
+
+        private Path configPath;
+        private Path scriptPath;
+        private boolean isBatch;
+
+        public Path getConfigPath() {
+            return configPath;
+        }
+
+        public Path getScriptPath() {
+            return scriptPath;
+        }
+
+        public boolean isBatch() {
+            return isBatch;
+        }
+
+        /**
+         * Parses the command-line arguments.
+         *
+         * @throws IllegalArgumentException if an argument is not recognised or names an invalid path.
+         */
+        public static Parameters parse(String... args) {
+            Parameters parameters = new Parameters();
+            for (String arg : args) {
+                if (arg.startsWith(CONFIG_ARGUMENT)) {
+                    parameters.configPath = parsePath(arg, arg.substring(CONFIG_ARGUMENT.length()));
+                } else if (arg.startsWith(SCRIPT_ARGUMENT)) {
+                    parameters.scriptPath = parsePath(arg, arg.substring(SCRIPT_ARGUMENT.length()));
+                } else if (arg.equals(BATCH_ARGUMENT)) {
+                    parameters.isBatch = true;
+                } else {
+                    throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+                }
+            }
+            return parameters;
+        }
+
+        private static Path parsePath(String arg, String path) {
+            if (!FileUtil.isValidPath(path)) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+            }
+            return Paths.get(path);
+        }
+    }
+}
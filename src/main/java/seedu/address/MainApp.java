@@ -1,8 +1,11 @@
 package seedu.address;
 
+import static seedu.address.commons.util.AppUtil.runOnFxThread;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -15,23 +18,18 @@ import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.TaskCollection;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.attachment.AttachmentMetadataCache;
+import seedu.address.server.CommandServer;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.TaskCollectionStorage;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.xmlstorage.XmlTaskCollectionStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -50,6 +48,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected Optional<CommandServer> commandServer;
+    protected final CompletableFuture<Void> uiStarted = new CompletableFuture<>();
 
 
     @Override
@@ -63,119 +63,54 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        TaskCollectionStorage taskCollectionStorage = new XmlTaskCollectionStorage(
-            userPrefs.getDeadlineManagerFilePath());
-        storage = new StorageManager(taskCollectionStorage, userPrefsStorage);
+        storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.isProgressiveStartup()) {
+            // the window is shown first, and the tasks are added as they are read
+            model = new ModelManager(new TaskCollection(), userPrefs);
+        } else {
+            model = AppInitializer.initModelManager(storage, userPrefs);
+        }
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, AppInitializer.initCommandHistory(storage));
+        if (config.isProgressiveStartup()) {
+            // submitted before any command can be, so that every command sees all the tasks
+            AppInitializer.loadModelInBackground(storage, model, logic, uiStarted)
+                .exceptionally(e -> {
+                    logger.severe("Failed to load the tasks " + StringUtil.getDetails(e));
+                    return null;
+                });
+        }
+        commandServer = AppInitializer.initCommandServer(config, logic, model);
 
+        UiManager.preloadFxmlTemplates();
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s deadline manager and {@code
-     * userPrefs}. <br> The data from the sample deadline manager will be used instead if {@code
-     * storage}'s deadline manager is not found, or an empty deadline manager will be used instead if errors
-     * occur when reading {@code storage}'s deadline manager.
-     */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyTaskCollection> taskCollectionOptional;
-        ReadOnlyTaskCollection initialData;
-        try {
-            taskCollectionOptional = storage.readTaskCollection();
-            if (!taskCollectionOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample deadline manager");
-            }
-            initialData = taskCollectionOptional.orElseGet(SampleDataUtil::getSampleTaskCollection);
-        } catch (DataConversionException e) {
-            logger.warning(
-                "Data file not in the correct format. Will be starting with an empty deadline manager");
-            initialData = new TaskCollection();
-        } catch (IOException e) {
-            logger.warning(
-                "Problem while reading from the file. Will be starting with an empty deadline manager");
-            initialData = new TaskCollection();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br> The default file path
-     * {@code Config#DEFAULT_CONFIG_FILE} will be used instead if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning(
-                "Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path, or a
-     * new {@code UserPrefs} with default configuration if errors occur when reading from the file.
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning(
-                "Problem while reading from the file. Will be starting with an empty TaskCollection");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     private void initEventsCenter() {
@@ -185,7 +120,12 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting DeadlineManager " + MainApp.VERSION);
-        ui.start(primaryStage);
+        try {
+            ui.start(primaryStage);
+        } finally {
+            // the task list is bound to the model by now, so tasks loaded in the background can be shown
+            uiStarted.complete(null);
+        }
     }
 
     @Override
@@ -193,6 +133,9 @@ public class MainApp extends Application {
         logger.info(
             "============================ [ Stopping deadline manager ] =============================");
         ui.stop();
+        commandServer.ifPresent(CommandServer::stop);
+        AttachmentMetadataCache.closeInstance();
+        storage.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -205,7 +148,9 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        // the exit command is executed on the command worker, but the UI must be closed on the
+        // JavaFX application thread
+        runOnFxThread(this::stop);
     }
 
     public static void main(String[] args) {
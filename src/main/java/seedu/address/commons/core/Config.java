@@ -16,6 +16,14 @@ public class Config {
     private String appTitle = "Deadline Manager";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // port of the local command server, or 0 if the server is disabled
+    private int commandServerPort = 0;
+    // file the command server writes its access token to
+    private Path commandServerTokenFilePath = Paths.get("command-server.token");
+    // whether the command server executes commands other than list, filter and sort
+    private boolean commandServerChangesAllowed = false;
+    // whether the window is shown before the data file is loaded, with the tasks added as they are read
+    private boolean progressiveStartup = false;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +49,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getCommandServerPort() {
+        return commandServerPort;
+    }
+
+    public void setCommandServerPort(int commandServerPort) {
+        this.commandServerPort = commandServerPort;
+    }
+
+    public Path getCommandServerTokenFilePath() {
+        return commandServerTokenFilePath;
+    }
+
+    public void setCommandServerTokenFilePath(Path commandServerTokenFilePath) {
+        this.commandServerTokenFilePath = commandServerTokenFilePath;
+    }
+
+    public boolean isCommandServerChangesAllowed() {
+        return commandServerChangesAllowed;
+    }
+
+    public void setCommandServerChangesAllowed(boolean commandServerChangesAllowed) {
+        this.commandServerChangesAllowed = commandServerChangesAllowed;
+    }
+
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +94,17 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
             && Objects.equals(logLevel, o.logLevel)
-            && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+            && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+            && commandServerPort == o.commandServerPort
+            && Objects.equals(commandServerTokenFilePath, o.commandServerTokenFilePath)
+            && commandServerChangesAllowed == o.commandServerChangesAllowed
+            && progressiveStartup == o.progressiveStartup;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, commandServerPort, commandServerTokenFilePath,
+            commandServerChangesAllowed, progressiveStartup);
     }
 
     @Override
@@ -68,6 +113,10 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nCommand server port : " + commandServerPort);
+        sb.append("\nCommand server token file : " + commandServerTokenFilePath);
+        sb.append("\nCommand server changes allowed : " + commandServerChangesAllowed);
+        sb.append("\nProgressive startup : " + progressiveStartup);
         return sb.toString();
     }
 
@@ -0,0 +1,203 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable CSV dialect: the characters that delimit and quote fields and end rows, and the
+ * columns to write.
+ * The {@link #DEFAULT} dialect follows RFC 4180 and has the columns that calendar applications
+ * import, so exported tasks can be imported into them.
+ */
+public final class CsvFormat {
+
+    /** Escapes the value separator, and itself, within a value of a multi-valued field. */
+    public static final char VALUE_ESCAPE = '\\';
+
+    public static final String MESSAGE_INVALID_DIALECT = "The delimiter, quote and value separator must differ "
+        + "from each other and must not contain line breaks, and the value separator must not contain "
+        + VALUE_ESCAPE + ".";
+
+    /**
+     * A column of exported task data, with the name used in the header row.
+     */
+    public enum Column {
+        SUBJECT("Subject"),
+        START_DATE("Start Date"),
+        ALL_DAY_EVENT("All Day Event"),
+        PRIORITY("Priority"),
+        FREQUENCY("Frequency"),
+        TAGS("Tags"),
+        ATTACHMENTS("Attachments");
+
+        public final String header;
+
+        Column(String header) {
+            this.header = header;
+        }
+    }
+
+    /** The columns that calendar applications import. */
+    public static final List<Column> CALENDAR_COLUMNS =
+        List.of(Column.SUBJECT, Column.START_DATE, Column.ALL_DAY_EVENT);
+
+    public static final CsvFormat DEFAULT = new CsvFormat(',', '"', ";", "\r\n", true, CALENDAR_COLUMNS);
+
+    private final char delimiter;
+    private final char quote;
+    private final String valueSeparator;
+    private final String lineSeparator;
+    private final boolean hasHeader;
+    private final List<Column> columns;
+
+    private CsvFormat(char delimiter, char quote, String valueSeparator, String lineSeparator, boolean hasHeader,
+                      List<Column> columns) {
+        requireNonNull(valueSeparator);
+        requireNonNull(lineSeparator);
+        requireNonNull(columns);
+        checkArgument(isValidDialect(delimiter, quote, valueSeparator), MESSAGE_INVALID_DIALECT);
+        checkArgument(lineSeparator.equals("\r\n") || lineSeparator.equals("\n"));
+        checkArgument(!columns.isEmpty() && columns.stream().distinct().count() == columns.size());
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.valueSeparator = valueSeparator;
+        this.lineSeparator = lineSeparator;
+        this.hasHeader = hasHeader;
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+    }
+
+    private static boolean isValidDialect(char delimiter, char quote, String valueSeparator) {
+        return delimiter != quote
+            && !isLineBreak(delimiter) && !isLineBreak(quote)
+            && !valueSeparator.isEmpty()
+            && valueSeparator.indexOf(delimiter) < 0 && valueSeparator.indexOf(quote) < 0
+            && valueSeparator.indexOf(VALUE_ESCAPE) < 0
+            && valueSeparator.chars().noneMatch(ch -> isLineBreak((char) ch));
+    }
+
+    private static boolean isLineBreak(char ch) {
+        return ch == '\r' || ch == '\n';
+    }
+
+    /** Returns the character written between the fields of a row. */
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    /** Returns the character written around fields that need quoting. */
+    public char getQuote() {
+        return quote;
+    }
+
+    /** Returns the text written between the values of a field with several values, such as tags. */
+    public String getValueSeparator() {
+        return valueSeparator;
+    }
+
+    /** Returns the text written at the end of every row. */
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    /** Returns true if the first row names the columns. */
+    public boolean hasHeader() {
+        return hasHeader;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns a copy of this dialect with fields delimited by {@code delimiter}.
+     *
+     * @throws IllegalArgumentException if the resulting dialect is invalid.
+     */
+    public CsvFormat withDelimiter(char delimiter) {
+        return new CsvFormat(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    /**
+     * Returns a copy of this dialect with fields quoted by {@code quote}.
+     *
+     * @throws IllegalArgumentException if the resulting dialect is invalid.
+     */
+    public CsvFormat withQuote(char quote) {
+        return new CsvFormat(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    /**
+     * Returns a copy of this dialect with the values of multi-valued fields separated by
+     * {@code valueSeparator}. Occurrences of the separator within a value are escaped with
+     * {@link #VALUE_ESCAPE}.
+     *
+     * @throws IllegalArgumentException if the resulting dialect is invalid.
+     */
+    public CsvFormat withValueSeparator(String valueSeparator) {
+        return new CsvFormat(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    /**
+     * Returns a copy of this dialect with rows ended by {@code lineSeparator}, which must be
+     * {@code "\r\n"} or {@code "\n"}.
+     */
+    public CsvFormat withLineSeparator(String lineSeparator) {
+        return new CsvFormat(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    /**
+     * Returns a copy of this dialect with or without a header row.
+     */
+    public CsvFormat withHeader(boolean hasHeader) {
+        return new CsvFormat(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    /**
+     * Returns a copy of this dialect with the given columns, in order. There must be at least one
+     * column, and no column may appear twice.
+     */
+    public CsvFormat withColumns(List<Column> columns) {
+        return new CsvFormat(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    /**
+     * Returns a copy of this dialect with all columns, the calendar columns first.
+     */
+    public CsvFormat withAllColumns() {
+        return withColumns(Arrays.asList(Column.values()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CsvFormat)) {
+            return false;
+        }
+
+        CsvFormat o = (CsvFormat) other;
+        return delimiter == o.delimiter
+            && quote == o.quote
+            && valueSeparator.equals(o.valueSeparator)
+            && lineSeparator.equals(o.lineSeparator)
+            && hasHeader == o.hasHeader
+            && columns.equals(o.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delimiter, quote, valueSeparator, lineSeparator, hasHeader, columns);
+    }
+
+    @Override
+    public String toString() {
+        return "delimiter " + delimiter + ", quote " + quote + ", columns " + columns;
+    }
+}
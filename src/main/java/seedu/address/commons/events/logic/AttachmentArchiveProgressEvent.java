@@ -0,0 +1,24 @@
+package seedu.address.commons.events.logic;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that a ZIP archive of attachments has been written up to some attachment.
+ */
+public class AttachmentArchiveProgressEvent extends BaseEvent {
+
+    public final String filename;
+    public final int archivedAttachmentCount;
+    public final int totalAttachmentCount;
+
+    public AttachmentArchiveProgressEvent(String filename, int archivedAttachmentCount, int totalAttachmentCount) {
+        this.filename = filename;
+        this.archivedAttachmentCount = archivedAttachmentCount;
+        this.totalAttachmentCount = totalAttachmentCount;
+    }
+
+    @Override
+    public String toString() {
+        return "archived " + archivedAttachmentCount + " of " + totalAttachmentCount + " attachments to " + filename;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.commons.events.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that commands were added to the command history.
+ */
+public class CommandHistoryChangedEvent extends BaseEvent {
+
+    /** The added commands, from the oldest to the most recent. */
+    public final List<String> commandTexts;
+
+    public CommandHistoryChangedEvent(String commandText) {
+        this(Collections.singletonList(commandText));
+    }
+
+    public CommandHistoryChangedEvent(List<String> commandTexts) {
+        requireNonNull(commandTexts);
+        this.commandTexts = Collections.unmodifiableList(new ArrayList<>(commandTexts));
+    }
+
+    @Override
+    public String toString() {
+        return "commands added to history: " + String.join(", ", commandTexts);
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.commons.events.logic;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that a command was submitted to, or finished on, the command worker.
+ */
+public class CommandQueueChangedEvent extends BaseEvent {
+
+    /**
+     * Number of commands that are running or waiting to run, including the running one.
+     */
+    public final int pendingCommandCount;
+
+    public CommandQueueChangedEvent(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+    }
+
+    @Override
+    public String toString() {
+        return "pending commands " + pendingCommandCount;
+    }
+}
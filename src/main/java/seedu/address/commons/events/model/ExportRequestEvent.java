@@ -1,27 +1,43 @@
 package seedu.address.commons.events.model;
 
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.task.Task;
 
 /**
  * Indicates a request to export the current taskcollection view.
+ * The tasks to export are those in {@code data} that match {@code filter}. {@code data} must not
+ * change after the event is raised, as it may be exported in the background.
+ * The tasks are exported as CSV in {@code csvFormat} if it is present, and as XML otherwise.
  */
 public class ExportRequestEvent extends BaseEvent {
 
     public final ReadOnlyTaskCollection data;
+    public final Predicate<? super Task> filter;
     public final String filename;
     public final boolean overwrite;
-    public final boolean isCsvFormat;
+    public final Optional<CsvFormat> csvFormat;
 
     public ExportRequestEvent(ReadOnlyTaskCollection data, String filename, boolean overwrite, boolean isCsvFormat) {
+        this(data, unused -> true, filename, overwrite,
+            isCsvFormat ? Optional.of(CsvFormat.DEFAULT) : Optional.empty());
+    }
+
+    public ExportRequestEvent(ReadOnlyTaskCollection data, Predicate<? super Task> filter, String filename,
+                              boolean overwrite, Optional<CsvFormat> csvFormat) {
         this.data = data;
+        this.filter = filter;
         this.filename = filename;
         this.overwrite = overwrite;
-        this.isCsvFormat = isCsvFormat;
+        this.csvFormat = csvFormat;
     }
 
     @Override
     public String toString() {
-        return "number of tasks " + data.getTaskList().size();
+        return "export to " + filename + " from " + data.getTaskList().size() + " tasks";
     }
 }
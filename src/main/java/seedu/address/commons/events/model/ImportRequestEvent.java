@@ -1,5 +1,9 @@
 package seedu.address.commons.events.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -8,9 +12,17 @@ import seedu.address.commons.events.BaseEvent;
 public class ImportRequestEvent extends BaseEvent {
 
     public final String filename;
+    /** The file holding the common ancestor of the imported and current data, if any. */
+    public final Optional<String> baseFilename;
 
     public ImportRequestEvent(String filename) {
+        this(filename, Optional.empty());
+    }
+
+    public ImportRequestEvent(String filename, Optional<String> baseFilename) {
+        requireNonNull(baseFilename);
         this.filename = filename;
+        this.baseFilename = baseFilename;
     }
 
     @Override
@@ -1,17 +1,37 @@
 package seedu.address.commons.events.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.task.Task;
 
 /**
- * Indicates the TaskCollection in the model has changed
+ * Indicates the TaskCollection in the model has changed.
+ * The event also carries the tasks added to and removed from the collection by the change, so that
+ * listeners can update derived data incrementally. An edited task appears as the removal of the
+ * original task and the addition of the edited one.
  */
 public class TaskCollectionChangedEvent extends BaseEvent {
 
     public final ReadOnlyTaskCollection data;
+    public final List<Task> addedTasks;
+    public final List<Task> removedTasks;
 
     public TaskCollectionChangedEvent(ReadOnlyTaskCollection data) {
+        this(data, Collections.emptyList(), Collections.emptyList());
+    }
+
+    public TaskCollectionChangedEvent(ReadOnlyTaskCollection data, List<Task> addedTasks,
+                                      List<Task> removedTasks) {
+        requireNonNull(addedTasks);
+        requireNonNull(removedTasks);
         this.data = data;
+        this.addedTasks = Collections.unmodifiableList(addedTasks);
+        this.removedTasks = Collections.unmodifiableList(removedTasks);
     }
 
     @Override
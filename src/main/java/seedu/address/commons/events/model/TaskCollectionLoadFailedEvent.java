@@ -0,0 +1,28 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyTaskCollection;
+
+/**
+ * Indicates the tasks read from storage while the application started could not all be added to the
+ * model. The model holds only the tasks added before the failure, so it must not be changed or saved.
+ */
+public class TaskCollectionLoadFailedEvent extends BaseEvent {
+
+    public final ReadOnlyTaskCollection data;
+    public final Exception exception;
+
+    public TaskCollectionLoadFailedEvent(ReadOnlyTaskCollection data, Exception exception) {
+        requireNonNull(data);
+        requireNonNull(exception);
+        this.data = data;
+        this.exception = exception;
+    }
+
+    @Override
+    public String toString() {
+        return "failed to load the tasks after " + data.getTaskList().size() + " tasks: " + exception;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that some of the tasks read from storage while the application starts are in the model.
+ */
+public class TaskCollectionLoadProgressEvent extends BaseEvent {
+
+    /** Total used while the data file is still being read. */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    public final int loadedTaskCount;
+    public final int totalTaskCount;
+
+    public TaskCollectionLoadProgressEvent(int loadedTaskCount, int totalTaskCount) {
+        this.loadedTaskCount = loadedTaskCount;
+        this.totalTaskCount = totalTaskCount;
+    }
+
+    @Override
+    public String toString() {
+        if (totalTaskCount == UNKNOWN_TOTAL) {
+            return "reading tasks";
+        }
+        return "loaded " + loadedTaskCount + " of " + totalTaskCount + " tasks";
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyTaskCollection;
+
+/**
+ * Indicates the tasks read from storage while the application started are all in the model.
+ * Unlike a {@code TaskCollectionChangedEvent}, it does not cause the data to be saved.
+ */
+public class TaskCollectionLoadedEvent extends BaseEvent {
+
+    public final ReadOnlyTaskCollection data;
+
+    public TaskCollectionLoadedEvent(ReadOnlyTaskCollection data) {
+        requireNonNull(data);
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded " + data.getTaskList().size() + " tasks";
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that a background export has finished, successfully or not.
+ */
+public class ExportFinishedEvent extends BaseEvent {
+
+    public final String filename;
+    public final int taskCount;
+    /** The reason the export failed, or null if it succeeded. */
+    public final Exception exception;
+
+    public ExportFinishedEvent(String filename, int taskCount, Exception exception) {
+        this.filename = filename;
+        this.taskCount = taskCount;
+        this.exception = exception;
+    }
+
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccessful()
+            ? "exported " + taskCount + " tasks to " + filename
+            : "failed to export to " + filename + ": " + exception.getMessage();
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that a background export has written some of its tasks.
+ */
+public class ExportProgressEvent extends BaseEvent {
+
+    public final String filename;
+    public final int exportedTaskCount;
+    public final int totalTaskCount;
+
+    public ExportProgressEvent(String filename, int exportedTaskCount, int totalTaskCount) {
+        this.filename = filename;
+        this.exportedTaskCount = exportedTaskCount;
+        this.totalTaskCount = totalTaskCount;
+    }
+
+    @Override
+    public String toString() {
+        return "exported " + exportedTaskCount + " of " + totalTaskCount + " tasks to " + filename;
+    }
+}
@@ -1,5 +1,9 @@
 package seedu.address.commons.events.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlyTaskCollection;
 
@@ -9,9 +13,17 @@ import seedu.address.model.ReadOnlyTaskCollection;
 public class ImportDataAvailableEvent extends BaseEvent {
 
     public final ReadOnlyTaskCollection data;
+    /** The common ancestor of the imported and current data, if one was requested. */
+    public final Optional<ReadOnlyTaskCollection> base;
 
     public ImportDataAvailableEvent(ReadOnlyTaskCollection data) {
+        this(data, Optional.empty());
+    }
+
+    public ImportDataAvailableEvent(ReadOnlyTaskCollection data, Optional<ReadOnlyTaskCollection> base) {
+        requireNonNull(base);
         this.data = data;
+        this.base = base;
     }
 
     @Override
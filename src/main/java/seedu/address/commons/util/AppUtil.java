@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import javafx.application.Platform;
 import javafx.scene.image.Image;
 import seedu.address.MainApp;
 
@@ -36,4 +37,17 @@ public class AppUtil {
             throw new IllegalArgumentException(errorMessage);
         }
     }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread. The action is run immediately if the
+     * caller is already on that thread, and is queued with {@link Platform#runLater(Runnable)} otherwise.
+     */
+    public static void runOnFxThread(Runnable action) {
+        requireNonNull(action);
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
 }
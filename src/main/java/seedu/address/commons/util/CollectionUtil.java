@@ -2,9 +2,16 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -12,6 +19,9 @@ import java.util.stream.Stream;
  */
 public class CollectionUtil {
 
+    /** Size of the largest set that {@link #toCompactSet} backs with an array. */
+    public static final int MAX_ARRAY_SET_SIZE = 8;
+
     /**
      * @see #requireAllNonNull(Collection)
      */
@@ -34,4 +44,119 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an unmodifiable set of the distinct elements of {@code items}, which must not be null, that
+     * takes little more space than the elements themselves: up to {@value #MAX_ARRAY_SET_SIZE} elements are
+     * held in an array that is searched linearly, and more in a linked hash set. All empty sets are the same
+     * instance. Elements are kept in the iteration order of {@code items}, and any attempt to modify the
+     * set throws {@code UnsupportedOperationException}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> toCompactSet(Collection<? extends E> items) {
+        requireAllNonNull(items);
+        if (items.isEmpty()) {
+            return (Set<E>) ArraySet.EMPTY;
+        }
+        if (items.size() > MAX_ARRAY_SET_SIZE) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(items));
+        }
+
+        Object[] elements = new Object[items.size()];
+        int size = 0;
+        for (E item : items) {
+            if (!ArraySet.contains(elements, size, item)) {
+                elements[size++] = item;
+            }
+        }
+        return new ArraySet<>(size == elements.length ? elements : Arrays.copyOf(elements, size));
+    }
+
+    /**
+     * An unmodifiable set of a few elements held in an array.
+     */
+    private static class ArraySet<E> extends AbstractSet<E> {
+        private static final ArraySet<Object> EMPTY = new ArraySet<>(new Object[0]);
+
+        private final Object[] elements;
+
+        ArraySet(Object[] elements) {
+            this.elements = elements;
+        }
+
+        private static boolean contains(Object[] elements, int size, Object o) {
+            for (int i = 0; i < size; i++) {
+                if (elements[i].equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return contains(elements, elements.length, o);
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < elements.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if (next >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return (E) elements[next++];
+                }
+            };
+        }
+
+        @Override
+        public boolean add(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Opens files for reading and writing, compressing and decompressing them on the fly according to
+ * their extension: {@value #GZIP_EXTENSION} files are in gzip format, {@value #DEFLATE_EXTENSION} files
+ * in zlib (deflate) format and other files are not compressed. Data is compressed as it is streamed,
+ * so the whole file is never held in memory.
+ */
+public class CompressionUtil {
+
+    public static final String GZIP_EXTENSION = ".gz";
+    public static final String DEFLATE_EXTENSION = ".zz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns true if {@code file} is compressed, judging by its extension.
+     */
+    public static boolean isCompressed(Path file) {
+        requireNonNull(file);
+        String fileName = getFileName(file);
+        return fileName.endsWith(GZIP_EXTENSION) || fileName.endsWith(DEFLATE_EXTENSION);
+    }
+
+    /**
+     * Returns the name of {@code file} without the compression extension, such as {@code tasks.xml}
+     * for {@code tasks.xml.gz}.
+     */
+    public static String getUncompressedFileName(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString();
+        if (isCompressed(file)) {
+            return fileName.substring(0, fileName.lastIndexOf('.'));
+        }
+        return fileName;
+    }
+
+    /**
+     * Opens {@code file} for buffered reading, decompressing its content if it is compressed.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        requireNonNull(file);
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            String fileName = getFileName(file);
+            if (fileName.endsWith(GZIP_EXTENSION)) {
+                in = new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+            } else if (fileName.endsWith(DEFLATE_EXTENSION)) {
+                in = new BufferedInputStream(new InflaterInputStream(in), BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            // the gzip header could not be read
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens {@code file} for buffered writing, replacing its content, and compresses what is written if
+     * the file is compressed. The stream must be closed for the compressed data to be complete.
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        requireNonNull(file);
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        try {
+            String fileName = getFileName(file);
+            if (fileName.endsWith(GZIP_EXTENSION)) {
+                out = new BufferedOutputStream(new GZIPOutputStream(out, BUFFER_SIZE), BUFFER_SIZE);
+            } else if (fileName.endsWith(DEFLATE_EXTENSION)) {
+                out = new BufferedOutputStream(new DeflaterOutputStream(out), BUFFER_SIZE);
+            }
+            return out;
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private static String getFileName(Path file) {
+        Path fileName = file.getFileName();
+        return fileName == null ? "" : fileName.toString().toLowerCase();
+    }
+}
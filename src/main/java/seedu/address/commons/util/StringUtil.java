@@ -116,4 +116,53 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code s} is not empty and consists only of the characters [a-zA-Z0-9], like the
+     * regex {@code \p{Alnum}+}, without compiling a regex.
+     *
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumeric(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAlphanumeric(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is not empty and consists only of the digits [0-9], like the regex
+     * {@code [0-9]+}, without compiling a regex.
+     *
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isDigits(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the characters [a-zA-Z0-9].
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
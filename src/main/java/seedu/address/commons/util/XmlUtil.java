@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -68,4 +70,38 @@ public class XmlUtil {
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns the xml data read from {@code in} as an object of the specified type.
+     * {@code in} is not closed.
+     *
+     * @throws JAXBException Thrown if the data is empty, cannot be read or does not have the correct format.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getDataFromStream(InputStream in, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(in);
+        requireNonNull(classToConvert);
+
+        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        Unmarshaller um = context.createUnmarshaller();
+
+        return ((T) um.unmarshal(in));
+    }
+
+    /**
+     * Writes the data to {@code out} in xml format. {@code out} is not closed.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml and
+     *                       writing it.
+     */
+    public static <T> void saveDataToStream(OutputStream out, T data) throws JAXBException {
+        requireNonNull(out);
+        requireNonNull(data);
+
+        JAXBContext context = JAXBContext.newInstance(data.getClass());
+        Marshaller m = context.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+
+        m.marshal(data, out);
+    }
+
 }
@@ -0,0 +1,183 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEY_ATTACHMENT_LONG;
+import static seedu.address.logic.parser.CliSyntax.KEY_ATTACHMENT_SHORT;
+import static seedu.address.logic.parser.CliSyntax.KEY_DEADLINE_LONG;
+import static seedu.address.logic.parser.CliSyntax.KEY_DEADLINE_MEDIUM;
+import static seedu.address.logic.parser.CliSyntax.KEY_DEADLINE_SHORT;
+import static seedu.address.logic.parser.CliSyntax.KEY_FREQUENCY_LONG;
+import static seedu.address.logic.parser.CliSyntax.KEY_FREQUENCY_SHORT;
+import static seedu.address.logic.parser.CliSyntax.KEY_NAME_LONG;
+import static seedu.address.logic.parser.CliSyntax.KEY_NAME_SHORT;
+import static seedu.address.logic.parser.CliSyntax.KEY_PRIORITY_LONG;
+import static seedu.address.logic.parser.CliSyntax.KEY_PRIORITY_SHORT;
+import static seedu.address.logic.parser.CliSyntax.KEY_TAG_LONG;
+import static seedu.address.logic.parser.CliSyntax.KEY_TAG_SHORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BASE_FILEPATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESOLVER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.TaskCollectionParser;
+import seedu.address.model.task.Task;
+
+/**
+ * Suggests completions for the word being typed at the end of a command.
+ * Command words, argument prefixes and filter keys are fixed; tag names and task names are taken
+ * from the tasks in the model and kept up to date through {@link #update(Collection, Collection)},
+ * so looking up completions never scans the task list.
+ * The completer is updated on the command worker and queried on the UI thread, so all access is
+ * synchronized.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 50;
+
+    /** Matches a filter predicate being typed, such as {@code t:work,scho} or {@code name="Buy}. */
+    private static final Pattern FILTER_PREDICATE_FORMAT =
+        Pattern.compile("(?<key>[A-Za-z]+)(?<operator>[=<>:])(?<value>.*)");
+    private static final String FILTER_TAG_SEPARATOR = ",";
+    private static final String QUOTE = "\"";
+
+    private final CompletionTrie commandWords = new CompletionTrie();
+    private final CompletionTrie prefixes = new CompletionTrie();
+    private final CompletionTrie filterKeys = new CompletionTrie();
+    private final CompletionTrie tagNames = new CompletionTrie();
+    private final CompletionTrie taskNames = new CompletionTrie();
+
+    public CommandCompleter(Collection<Task> tasks) {
+        TaskCollectionParser.COMMAND_WORDS.forEach(commandWords::add);
+        List.of(PREFIX_NAME, PREFIX_PRIORITY, PREFIX_FREQUENCY, PREFIX_DEADLINE, PREFIX_TAG, PREFIX_RESOLVER,
+            PREFIX_BASE_FILEPATH).forEach(prefix -> prefixes.add(prefix.getPrefix()));
+        List.of(KEY_NAME_SHORT, KEY_NAME_LONG, KEY_DEADLINE_SHORT, KEY_DEADLINE_MEDIUM, KEY_DEADLINE_LONG,
+            KEY_PRIORITY_SHORT, KEY_PRIORITY_LONG, KEY_FREQUENCY_SHORT, KEY_FREQUENCY_LONG, KEY_TAG_SHORT,
+            KEY_TAG_LONG, KEY_ATTACHMENT_SHORT, KEY_ATTACHMENT_LONG).forEach(filterKeys::add);
+        update(tasks, List.of());
+    }
+
+    /**
+     * Updates the task vocabulary after {@code addedTasks} were added to the model and
+     * {@code removedTasks} were removed from it.
+     */
+    public synchronized void update(Collection<Task> addedTasks, Collection<Task> removedTasks) {
+        requireNonNull(addedTasks);
+        requireNonNull(removedTasks);
+        for (Task task : removedTasks) {
+            taskNames.remove(task.getName().value);
+            task.getTags().forEach(tag -> tagNames.remove(tag.tagName));
+        }
+        for (Task task : addedTasks) {
+            taskNames.add(task.getName().value);
+            task.getTags().forEach(tag -> tagNames.add(tag.tagName));
+        }
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, in lexicographical
+     * order of the completed word. Each completion is the whole of {@code commandText} with its last
+     * word completed. Returns an empty list if nothing completes the last word.
+     */
+    public synchronized List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        int wordStart = getLastWordStart(commandText);
+        String head = commandText.substring(0, wordStart);
+        String word = commandText.substring(wordStart);
+
+        if (head.trim().isEmpty()) {
+            return complete(commandWords, word, head);
+        }
+        if (getFirstWord(head).equals(FilterCommand.COMMAND_WORD)) {
+            return completeFilterPredicate(head, word);
+        }
+        if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            return complete(tagNames, word.substring(PREFIX_TAG.getPrefix().length()),
+                head + PREFIX_TAG.getPrefix());
+        }
+        if (word.startsWith(PREFIX_NAME.getPrefix())) {
+            return complete(taskNames, word.substring(PREFIX_NAME.getPrefix().length()),
+                head + PREFIX_NAME.getPrefix());
+        }
+        if (!word.contains("/")) {
+            return complete(prefixes, word, head);
+        }
+        return List.of();
+    }
+
+    /**
+     * Completes {@code word}, the last word of a filter expression following {@code head}.
+     * A predicate on tags completes its last tag and a predicate on names completes the name,
+     * quoting it if needed; any other word completes to a filter key.
+     */
+    private List<String> completeFilterPredicate(String head, String word) {
+        // brackets and negations are part of the expression, not of the predicate
+        int predicateStart = 0;
+        while (predicateStart < word.length() && "(!".indexOf(word.charAt(predicateStart)) >= 0) {
+            predicateStart++;
+        }
+        head = head + word.substring(0, predicateStart);
+        word = word.substring(predicateStart);
+
+        Matcher matcher = FILTER_PREDICATE_FORMAT.matcher(word);
+        if (!matcher.matches()) {
+            return complete(filterKeys, word, head);
+        }
+
+        String key = matcher.group("key");
+        String value = matcher.group("value");
+        String valueHead = head + key + matcher.group("operator");
+        if (key.equals(KEY_TAG_SHORT) || key.equals(KEY_TAG_LONG)) {
+            int tagStart = value.lastIndexOf(FILTER_TAG_SEPARATOR) + 1;
+            return complete(tagNames, value.substring(tagStart), valueHead + value.substring(0, tagStart));
+        }
+        if (key.equals(KEY_NAME_SHORT) || key.equals(KEY_NAME_LONG)) {
+            String namePrefix = value.startsWith(QUOTE) ? value.substring(QUOTE.length()) : value;
+            List<String> completions = new ArrayList<>();
+            for (String name : taskNames.complete(namePrefix, MAX_COMPLETIONS)) {
+                boolean needsQuotes = value.startsWith(QUOTE) || !name.matches("[\\w-]*");
+                completions.add(valueHead + (needsQuotes ? QUOTE + name + QUOTE : name));
+            }
+            return completions;
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the words in {@code vocabulary} starting with {@code prefix}, each preceded by
+     * {@code head}.
+     */
+    private static List<String> complete(CompletionTrie vocabulary, String prefix, String head) {
+        List<String> completions = new ArrayList<>();
+        for (String word : vocabulary.complete(prefix, MAX_COMPLETIONS)) {
+            completions.add(head + word);
+        }
+        return completions;
+    }
+
+    private static int getLastWordStart(String text) {
+        int index = text.length();
+        while (index > 0 && !Character.isWhitespace(text.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    private static String getFirstWord(String text) {
+        String trimmed = text.trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end);
+    }
+}
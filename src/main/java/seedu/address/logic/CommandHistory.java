@@ -1,38 +1,119 @@
 package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 
 /**
  * Stores the history of commands executed.
+ * The history is a bounded ring buffer: once {@code capacity} commands have been added, each new
+ * command replaces the oldest one. Entries are never modified after they are added, so a snapshot
+ * of the history can be handed out as a view without copying.
+ * Entries are indexed as they are added, so that a snapshot can be searched for entries containing a
+ * given text without scanning it.
  */
 public class CommandHistory {
 
-    private LinkedList<String> userInputHistory;
+    public static final int DEFAULT_CAPACITY = 10000;
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "Capacity of the history must be positive";
+
+    private final String[] entries;
+
+    /**
+     * Number of commands ever added. The command with sequence number {@code s} is stored at
+     * {@code entries[s % entries.length]} until it is replaced.
+     */
+    private long addedCount;
+    private HistorySearchIndex searchIndex = new HistorySearchIndex();
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        entries = new String[capacity];
+        addedCount = 0;
     }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        synchronized (commandHistory) {
+            entries = commandHistory.entries.clone();
+            addedCount = commandHistory.addedCount;
+        }
+        rebuildSearchIndex();
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, replacing the oldest input if
+     * the history is full.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        entries[(int) (addedCount % entries.length)] = userInput;
+        searchIndex.add(addedCount, userInput);
+        addedCount++;
+
+        // replaced entries stay in the index until it is rebuilt, which happens once for every
+        // capacity replaced entries
+        if (searchIndex.getIndexedEntryCount() - size() >= entries.length) {
+            rebuildSearchIndex();
+        }
+    }
+
+    /**
+     * Replaces the search index with one that only contains the entries currently in the history.
+     */
+    private synchronized void rebuildSearchIndex() {
+        searchIndex = new HistorySearchIndex();
+        for (long sequence = getOldestSequence(); sequence < addedCount; sequence++) {
+            searchIndex.add(sequence, get(sequence));
+        }
+    }
+
+    /**
+     * Returns a defensive copy of the inputs in the history, from the oldest to the most recent.
+     */
+    public synchronized List<String> getHistory() {
+        return new ArrayList<>(getSnapshot());
+    }
+
+    /**
+     * Returns an unmodifiable view of the inputs currently in the history, from the oldest to the
+     * most recent. Creating the view takes constant time.
+     * The view does not include inputs added after it was created. Inputs that have since been replaced
+     * in the ring buffer are no longer present in the view (see {@link Snapshot#getFirstPresentIndex()}),
+     * and reading one throws {@code ConcurrentModificationException}.
+     */
+    public synchronized Snapshot getSnapshot() {
+        return new Snapshot(getOldestSequence(), addedCount);
+    }
+
+    /**
+     * Returns the number of inputs currently in the history.
+     */
+    public synchronized int size() {
+        return (int) (addedCount - getOldestSequence());
+    }
+
+    private long getOldestSequence() {
+        return Math.max(0, addedCount - entries.length);
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Returns the input with the sequence number {@code sequence}.
+     *
+     * @throws ConcurrentModificationException if the input has been replaced.
      */
-    public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+    private synchronized String get(long sequence) {
+        if (sequence < getOldestSequence()) {
+            throw new ConcurrentModificationException();
+        }
+        return entries[(int) (sequence % entries.length)];
     }
 
     @Override
@@ -49,11 +130,72 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return getHistory().equals(other.getHistory());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getHistory().hashCode();
+    }
+
+    /**
+     * Returns the largest sequence number in {@code [oldest, latest]} of an input that contains
+     * {@code query}, ignoring case, or -1 if there is none.
+     */
+    private synchronized long findLast(String query, long oldest, long latest) {
+        return searchIndex.findLast(query, Math.max(oldest, getOldestSequence()), latest, this::get);
+    }
+
+    /**
+     * A view over the inputs with sequence numbers from {@code start} (inclusive) to {@code end}
+     * (exclusive).
+     */
+    public class Snapshot extends AbstractList<String> {
+
+        private final long start;
+        private final long end;
+
+        Snapshot(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return CommandHistory.this.get(start + index);
+        }
+
+        @Override
+        public int size() {
+            return (int) (end - start);
+        }
+
+        /**
+         * Returns the index of the oldest input in this view that has not been replaced in the history
+         * since the view was created, or {@code size()} if all of them have been.
+         */
+        public int getFirstPresentIndex() {
+            synchronized (CommandHistory.this) {
+                return (int) Math.min(size(), Math.max(0, getOldestSequence() - start));
+            }
+        }
+
+        /**
+         * Returns the largest index, at most {@code fromIndex}, of an input in this view that contains
+         * {@code query}, ignoring case, or -1 if there is none.
+         * Inputs that have been replaced in the history since this view was created are not searched.
+         */
+        public int lastIndexOfContaining(String query, int fromIndex) {
+            requireNonNull(query);
+            if (fromIndex < 0) {
+                return -1;
+            }
+            long latest = start + Math.min(fromIndex, size() - 1);
+            long sequence = findLast(query, start, latest);
+            return sequence < 0 ? -1 : (int) (sequence - start);
+        }
     }
 }
@@ -0,0 +1,280 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A path-compressed trie (radix tree) of words, used to look up completions for a prefix.
+ * Each word has a reference count, so the same word can be added for several owners and is only
+ * removed once every owner has removed it. Adding or removing a word takes time proportional to its
+ * length, and a completion query takes time proportional to the prefix length plus the length of the
+ * completions returned, independent of the number of words in the trie.
+ */
+class CompletionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+
+    /**
+     * Adds one reference to {@code word}.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (true) {
+            path.add(node);
+            if (position == word.length()) {
+                node.count++;
+                if (node.count == 1) {
+                    path.forEach(visited -> visited.wordCount++);
+                }
+                return;
+            }
+
+            int childIndex = node.findChild(word.charAt(position));
+            if (childIndex < 0) {
+                Node leaf = new Node(word.substring(position));
+                leaf.count = 1;
+                leaf.wordCount = 1;
+                node.insertChild(-childIndex - 1, leaf);
+                path.forEach(visited -> visited.wordCount++);
+                return;
+            }
+
+            Node child = node.children[childIndex];
+            int common = getCommonPrefixLength(child.label, word, position);
+            if (common < child.label.length()) {
+                // split the edge so that the word ends at, or branches off from, a node
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[] {child};
+                middle.wordCount = child.wordCount;
+                node.children[childIndex] = middle;
+                child = middle;
+            }
+            node = child;
+            position += common;
+        }
+    }
+
+    /**
+     * Removes one reference to {@code word}. Does nothing if the trie does not contain {@code word}.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (position < word.length()) {
+            path.add(node);
+            int childIndex = node.findChild(word.charAt(position));
+            if (childIndex < 0) {
+                return;
+            }
+            Node child = node.children[childIndex];
+            if (!word.startsWith(child.label, position)) {
+                return;
+            }
+            node = child;
+            position += child.label.length();
+        }
+        if (node.count == 0) {
+            return;
+        }
+
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.wordCount--;
+        path.forEach(visited -> visited.wordCount--);
+
+        // remove the node if it no longer leads to any word, then merge nodes with a single child
+        if (node != root && node.children.length == 0) {
+            Node parent = path.get(path.size() - 1);
+            parent.removeChild(node);
+            if (parent != root && parent.count == 0 && parent.children.length == 1) {
+                parent.mergeWithOnlyChild();
+            }
+        } else if (node != root && node.children.length == 1) {
+            node.mergeWithOnlyChild();
+        }
+    }
+
+    /**
+     * Returns true if the trie contains {@code word}.
+     */
+    boolean contains(String word) {
+        requireNonNull(word);
+        Match match = find(word);
+        return match != null && match.node.count > 0 && match.text.equals(word);
+    }
+
+    /**
+     * Returns the number of distinct words in the trie that start with {@code prefix}.
+     */
+    int countCompletions(String prefix) {
+        requireNonNull(prefix);
+        Match match = find(prefix);
+        return match == null ? 0 : match.node.wordCount;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words in the trie that start with {@code prefix}, in
+     * lexicographical order.
+     */
+    List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Match match = find(prefix);
+        if (match != null && limit > 0) {
+            collect(match.node, new StringBuilder(match.text), completions, limit);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the node at which the words starting with {@code prefix} branch out, together with
+     * the text leading to that node, or null if no word starts with {@code prefix}.
+     */
+    private Match find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int childIndex = node.findChild(prefix.charAt(position));
+            if (childIndex < 0) {
+                return null;
+            }
+            Node child = node.children[childIndex];
+            int common = getCommonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                // the prefix ends within, or at the end of, the child's label
+                return new Match(child, prefix.substring(0, position) + child.label);
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return new Match(node, prefix);
+    }
+
+    /**
+     * Appends the words under {@code node} to {@code completions} in lexicographical order, until
+     * {@code limit} words have been collected.
+     *
+     * @param text the text leading to {@code node}, which is restored before returning.
+     */
+    private static void collect(Node node, StringBuilder text, List<String> completions, int limit) {
+        if (node.count > 0) {
+            completions.add(text.toString());
+        }
+        for (Node child : node.children) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            int length = text.length();
+            text.append(child.label);
+            collect(child, text, completions, limit);
+            text.setLength(length);
+        }
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and the part of {@code text}
+     * starting at {@code offset}.
+     */
+    private static int getCommonPrefixLength(String label, String text, int offset) {
+        int maxLength = Math.min(label.length(), text.length() - offset);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == text.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the trie. Children are kept sorted by the first character of their labels.
+     */
+    private static class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        /** Number of references to the word ending at this node. */
+        private int count;
+        /** Number of distinct words ending at this node or below it. */
+        private int wordCount;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code ch}, or
+         * {@code -(insertion point) - 1} if there is none.
+         */
+        int findChild(char ch) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < ch) {
+                    low = mid + 1;
+                } else if (midChar > ch) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        void removeChild(Node child) {
+            int index = findChild(child.label.charAt(0));
+            Node[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        /**
+         * Absorbs the only child of this node, which must not be the end of a word.
+         */
+        void mergeWithOnlyChild() {
+            Node child = children[0];
+            label = label + child.label;
+            children = child.children;
+            count = child.count;
+            wordCount = child.wordCount;
+        }
+    }
+
+    /**
+     * The node reached by following a prefix, and the full text leading to it.
+     */
+    private static class Match {
+
+        private final Node node;
+        private final String text;
+
+        Match(Node node, String text) {
+            this.node = node;
+            this.text = text;
+        }
+    }
+}
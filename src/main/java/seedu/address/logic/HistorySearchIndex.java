@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * A case-insensitive trigram index over the entries of a {@code CommandHistory}.
+ * For every sequence of three characters in an entry, the index keeps the ascending list of
+ * sequence numbers of the entries that contain it. A substring query is answered by walking the
+ * shortest list among the query's trigrams backwards and checking each candidate entry, so most
+ * entries are never looked at. Queries shorter than a trigram fall back to a backward scan.
+ */
+class HistorySearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, SequenceList> postings = new HashMap<>();
+    private long indexedEntryCount = 0;
+
+    /**
+     * Adds the entry {@code entry} with the sequence number {@code sequence}.
+     * Sequence numbers must be added in ascending order.
+     */
+    void add(long sequence, String entry) {
+        for (String gram : getGrams(entry)) {
+            postings.computeIfAbsent(gram, unused -> new SequenceList()).add(sequence);
+        }
+        indexedEntryCount++;
+    }
+
+    /**
+     * Returns the number of entries added to this index.
+     */
+    long getIndexedEntryCount() {
+        return indexedEntryCount;
+    }
+
+    /**
+     * Returns the largest sequence number in {@code [oldest, latest]} whose entry contains
+     * {@code query}, ignoring case, or -1 if there is none.
+     *
+     * @param entries returns the entry with the given sequence number.
+     */
+    long findLast(String query, long oldest, long latest, LongFunction<String> entries) {
+        if (query.length() < GRAM_LENGTH) {
+            for (long sequence = latest; sequence >= oldest; sequence--) {
+                if (containsIgnoreCase(entries.apply(sequence), query)) {
+                    return sequence;
+                }
+            }
+            return -1;
+        }
+
+        SequenceList candidates = null;
+        for (String gram : getGrams(query)) {
+            SequenceList list = postings.get(gram);
+            if (list == null) {
+                return -1;
+            }
+            if (candidates == null || list.size() < candidates.size()) {
+                candidates = list;
+            }
+        }
+
+        for (int i = candidates.lastIndexAtMost(latest); i >= 0; i--) {
+            long sequence = candidates.get(i);
+            if (sequence < oldest) {
+                break;
+            }
+            if (containsIgnoreCase(entries.apply(sequence), query)) {
+                return sequence;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the distinct lower case trigrams of {@code text}.
+     */
+    private static Set<String> getGrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code query}, ignoring case.
+     */
+    static boolean containsIgnoreCase(String text, String query) {
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A growable list of ascending sequence numbers.
+     */
+    private static class SequenceList {
+
+        private long[] sequences = new long[4];
+        private int size = 0;
+
+        void add(long sequence) {
+            if (size == sequences.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+            }
+            sequences[size++] = sequence;
+        }
+
+        long get(int index) {
+            return sequences[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the index of the largest sequence number that is at most {@code sequence}, or -1
+         * if there is none.
+         */
+        int lastIndexAtMost(long sequence) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (sequences[mid] <= sequence) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 /**
  * Has a cursor that points to an element in the list, and is able to iterate through the list. This
@@ -11,10 +15,19 @@ import java.util.NoSuchElementException;
  * previous()}, the same element is returned on both calls. In contrast, {@code
  * ListElementPointer}'s behaviour: when making alternating calls of {@code next()} and {@code
  * previous()}, the next and previous elements are returned respectively.
+ * When the pointer reads from a {@code CommandHistory.Snapshot}, the elements that have been replaced
+ * in the history since the snapshot was taken are treated as no longer in the list.
  */
 public class ListElementPointer {
 
-    private List<String> list;
+    /**
+     * Elements the pointer was created with. This list is never modified through the pointer.
+     */
+    private final List<String> baseList;
+    /**
+     * Elements appended through {@link #add(String)}, which follow the elements of {@code baseList}.
+     */
+    private final List<String> addedElements = new ArrayList<>();
     private int index;
 
     /**
@@ -22,23 +35,78 @@ public class ListElementPointer {
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(list, false);
+    }
+
+    /**
+     * Constructs {@code ListElementPointer} which reads from {@code list} directly, or from a
+     * defensive copy of it if {@code isView} is false.
+     */
+    private ListElementPointer(List<String> list, boolean isView) {
+        baseList = isView ? list : new ArrayList<>(list);
+        index = baseList.size() - 1;
+    }
+
+    /**
+     * Returns a {@code ListElementPointer} that reads from {@code view} without copying it.
+     * {@code view} must not be modified while the pointer is in use.
+     * The cursor points to the last element in {@code view}.
+     */
+    public static ListElementPointer ofView(List<String> view) {
+        return new ListElementPointer(view, true);
     }
 
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
+    }
+
+    private int size() {
+        return baseList.size() + addedElements.size();
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws NoSuchElementException if the element has been replaced in the history it was read from.
+     */
+    private String get(int index) {
+        int baseSize = baseList.size();
+        if (index >= baseSize) {
+            return addedElements.get(index - baseSize);
+        }
+        try {
+            return baseList.get(index);
+        } catch (ConcurrentModificationException e) {
+            // replaced by a command added on another thread since the bounds were checked
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Returns the index of the first element that can still be read.
+     */
+    private int getFirstIndex() {
+        if (baseList instanceof CommandHistory.Snapshot) {
+            return ((CommandHistory.Snapshot) baseList).getFirstPresentIndex();
+        }
+        return 0;
     }
 
     /**
      * Returns true if calling {@code #next()} does not throw an {@code NoSuchElementException}.
      */
     public boolean hasNext() {
-        int nextIndex = index + 1;
-        return isWithinBounds(nextIndex);
+        return isWithinBounds(getNextIndex());
+    }
+
+    /**
+     * Returns the index of the element after the cursor, skipping the elements that can no longer be read.
+     */
+    private int getNextIndex() {
+        return Math.max(index + 1, getFirstIndex());
     }
 
     /**
@@ -58,7 +126,7 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= getFirstIndex() && index < size();
     }
 
     /**
@@ -70,7 +138,10 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        int nextIndex = getNextIndex();
+        String element = get(nextIndex);
+        index = nextIndex;
+        return element;
     }
 
     /**
@@ -82,7 +153,9 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        String element = get(index - 1);
+        index--;
+        return element;
     }
 
     /**
@@ -94,7 +167,71 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
+    }
+
+    /**
+     * Moves the cursor to the closest element before the current element that contains {@code query},
+     * ignoring case, and returns it. Returns an empty {@code Optional} and leaves the cursor unchanged
+     * if there is no such element.
+     */
+    public Optional<String> findPrevious(String query) {
+        return findLastContaining(query, index - 1);
+    }
+
+    /**
+     * Moves the cursor to the closest element, starting from the current element and going backwards,
+     * that contains {@code query}, ignoring case, and returns it. Returns an empty {@code Optional} and
+     * leaves the cursor unchanged if there is no such element.
+     */
+    public Optional<String> findCurrentOrPrevious(String query) {
+        return findLastContaining(query, index);
+    }
+
+    /**
+     * Moves the cursor to the last element in the list.
+     */
+    public void moveToLast() {
+        index = size() - 1;
+    }
+
+    /**
+     * Moves the cursor to the last element at or before {@code fromIndex} that contains {@code query}.
+     * Elements of a {@code CommandHistory.Snapshot} are looked up through its search index; other
+     * elements are scanned.
+     */
+    private Optional<String> findLastContaining(String query, int fromIndex) {
+        requireNonNull(query);
+        int baseSize = baseList.size();
+        for (int i = Math.min(fromIndex, size() - 1); i >= baseSize; i--) {
+            if (HistorySearchIndex.containsIgnoreCase(addedElements.get(i - baseSize), query)) {
+                index = i;
+                return Optional.of(get(i));
+            }
+        }
+
+        int baseFromIndex = Math.min(fromIndex, baseSize - 1);
+        int matchIndex = -1;
+        if (baseList instanceof CommandHistory.Snapshot) {
+            matchIndex = ((CommandHistory.Snapshot) baseList).lastIndexOfContaining(query, baseFromIndex);
+        } else {
+            for (int i = baseFromIndex; i >= 0 && matchIndex < 0; i--) {
+                if (HistorySearchIndex.containsIgnoreCase(baseList.get(i), query)) {
+                    matchIndex = i;
+                }
+            }
+        }
+
+        if (matchIndex < 0) {
+            return Optional.empty();
+        }
+        try {
+            String match = get(matchIndex);
+            index = matchIndex;
+            return Optional.of(match);
+        } catch (NoSuchElementException e) {
+            return Optional.empty();
+        }
     }
 
     @Override
@@ -111,6 +248,15 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        int firstIndex = getFirstIndex();
+        if (index != iterator.index || size() != iterator.size() || firstIndex != iterator.getFirstIndex()) {
+            return false;
+        }
+        for (int i = firstIndex; i < size(); i++) {
+            if (!get(i).equals(iterator.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -21,6 +24,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command worker, after all previously submitted commands have
+     * finished, and returns the pending result. The returned future completes exceptionally with a
+     * {@code CommandException} or {@code ParseException} if the command fails.
+     * The model is modified on the command worker thread, not on the caller's thread.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Runs {@code action} on the command worker, after all previously submitted commands have
+     * finished, and returns a future that completes when it has run. Commands submitted later wait
+     * for it, so it can change the model without them seeing a partial change.
+     */
+    CompletableFuture<Void> runAsync(Runnable action);
+
+    /**
+     * Starts a batch of commands executed with {@link #execute(String)}. Until the matching
+     * {@link #endBatch()}, the changes to the model are not saved (see {@code Model#beginBatch()}) and
+     * the commands are not added to the stored command history; both are saved once when the batch ends.
+     * Batches may be nested; only the outermost batch takes effect. Must be called on the thread that
+     * executes the commands of the batch.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch of commands, saving the changes and the commands of the batch if it is the
+     * outermost one.
+     */
+    void endBatch();
+
     /**
      * Returns an unmodifiable view of the filtered list of tasks
      */
@@ -31,4 +66,10 @@ public interface Logic {
      * object
      */
     ListElementPointer getHistorySnapshot();
+
+    /**
+     * Returns the possible completions of the last word of {@code commandText}, each being the whole
+     * of {@code commandText} with the last word completed. Returns an empty list if there are none.
+     */
+    List<String> getCompletions(String commandText);
 }
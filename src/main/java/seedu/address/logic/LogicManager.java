@@ -1,10 +1,24 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.address.commons.events.logic.CommandQueueChangedEvent;
+import seedu.address.commons.events.model.TaskCollectionChangedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadFailedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -15,19 +29,38 @@ import seedu.address.model.task.Task;
 
 /**
  * The main LogicManager of the app.
+ * Commands submitted through {@link #executeAsync(String)} run one at a time, in submission order,
+ * on a single background worker thread, so model mutations stay ordered.
  */
 public class LogicManager extends ComponentManager implements Logic {
 
+    public static final String MESSAGE_CHANGES_DISABLED = "The tasks could not all be loaded, so changes are "
+        + "disabled to keep the data file intact. Restart the application to try again.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final TaskCollectionParser taskCollectionParser;
+    private final CommandCompleter completer;
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    private ExecutorService commandWorker;
+    /** Number of batches that have begun but not ended. */
+    private int batchDepth = 0;
+    /** The commands executed in the current batch, which are added to the stored history when it ends. */
+    private List<String> batchCommandTexts;
+    /** Whether the model holds only part of the tasks, after loading them failed. */
+    private volatile boolean isModelIncomplete;
 
     public LogicManager(Model model) {
+        this(model, new CommandHistory());
+    }
+
+    public LogicManager(Model model, CommandHistory history) {
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
         taskCollectionParser = new TaskCollectionParser();
+        completer = new CommandCompleter(model.getTaskCollection().getTaskList());
     }
 
     @Override
@@ -35,10 +68,77 @@ public class LogicManager extends ComponentManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = taskCollectionParser.parseCommand(commandText);
+            if (isModelIncomplete && !command.isReadOnly()) {
+                throw new CommandException(MESSAGE_CHANGES_DISABLED);
+            }
             return command.execute(model, history);
         } finally {
             history.add(commandText);
+            if (batchDepth > 0) {
+                batchCommandTexts.add(commandText);
+            } else {
+                raise(new CommandHistoryChangedEvent(commandText));
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        raise(new CommandQueueChangedEvent(pendingCommandCount.incrementAndGet()));
+        getCommandWorker().execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable e) {
+                // errors must complete the future too, or the caller waits for the result forever
+                result.completeExceptionally(e);
+            } finally {
+                raise(new CommandQueueChangedEvent(pendingCommandCount.decrementAndGet()));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> runAsync(Runnable action) {
+        return CompletableFuture.runAsync(action, getCommandWorker());
+    }
+
+    @Override
+    public void beginBatch() {
+        model.beginBatch();
+        if (batchDepth++ == 0) {
+            batchCommandTexts = new ArrayList<>();
+        }
+    }
+
+    @Override
+    public void endBatch() {
+        if (batchDepth == 0) {
+            return;
+        }
+        model.endBatch();
+        if (--batchDepth == 0) {
+            if (!batchCommandTexts.isEmpty()) {
+                raise(new CommandHistoryChangedEvent(batchCommandTexts));
+            }
+            batchCommandTexts = null;
+        }
+    }
+
+    /**
+     * Returns the command worker, creating it on first use.
+     * The worker is a daemon thread so that it never keeps the application alive.
+     */
+    private synchronized ExecutorService getCommandWorker() {
+        if (commandWorker == null) {
+            commandWorker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "command-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
         }
+        return commandWorker;
     }
 
     @Override
@@ -48,6 +148,35 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return ListElementPointer.ofView(history.getSnapshot());
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return completer.getCompletions(commandText);
+    }
+
+    @Subscribe
+    public void handleTaskCollectionLoadedEvent(TaskCollectionLoadedEvent event) {
+        if (event.data == model.getTaskCollectionSnapshot()) {
+            completer.update(event.data.getTaskList(), Collections.emptyList());
+        }
+    }
+
+    @Subscribe
+    public void handleTaskCollectionLoadFailedEvent(TaskCollectionLoadFailedEvent event) {
+        if (event.data == model.getTaskCollectionSnapshot()) {
+            // saving the model would replace the data file with the tasks loaded so far
+            isModelIncomplete = true;
+            completer.update(event.data.getTaskList(), Collections.emptyList());
+        }
+    }
+
+    @Subscribe
+    public void handleTaskCollectionChangedEvent(TaskCollectionChangedEvent event) {
+        // events from other models share the events center, e.g. in tests
+        if (event.data == model.getTaskCollectionSnapshot()) {
+            completer.update(event.addedTasks, event.removedTasks);
+        }
     }
 }
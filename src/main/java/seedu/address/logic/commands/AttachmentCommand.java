@@ -10,10 +10,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
@@ -22,6 +21,8 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.attachment.Attachment;
+import seedu.address.model.attachment.AttachmentMetadataCache;
+import seedu.address.model.attachment.AttachmentStore;
 import seedu.address.model.task.Task;
 
 /**
@@ -33,6 +34,7 @@ public class AttachmentCommand extends Command {
     public static final String COMMAND_GET_ACTION = "get";
     public static final String COMMAND_DELETE_ACTION = "delete";
     public static final String COMMAND_LIST_ACTION = "list";
+    public static final String COMMAND_ZIP_ACTION = "zip";
     public static final String MESSAGE_USAGE =
         COMMAND_WORD + ": Modify and manages the attachments of the task identified "
             + "by the index number used in the displayed task list.\n"
@@ -40,6 +42,8 @@ public class AttachmentCommand extends Command {
             + "[add|get|delete|list] "
             + "[" + PREFIX_FILEPATH + "\"FILEPATH\"] "
             + "[" + PREFIX_FILENAME + "\"FILENAME\"]\n"
+            + "To save the attachments of all displayed tasks into a ZIP file: " + COMMAND_WORD + " "
+            + COMMAND_ZIP_ACTION + " " + PREFIX_FILEPATH + "\"FILEPATH\"\n"
             + "It is recommended for FILEPATH and FILENAME to be enclosed in quotes (\"\")."
             + "Otherwise, the application might fail to interpret your command.\n"
             + "Example 1: " + COMMAND_WORD + " 1 " + COMMAND_ADD_ACTION + " "
@@ -48,7 +52,9 @@ public class AttachmentCommand extends Command {
             + PREFIX_FILEPATH + "\"D:\\Documents\\TaskAttachments.zip\"\n"
             + "Example 3: " + COMMAND_WORD + " 1 " + COMMAND_LIST_ACTION + "\n"
             + "Example 4: " + COMMAND_WORD + " 1 " + COMMAND_DELETE_ACTION + " "
-            + PREFIX_FILENAME + "\"HelloWorld.docx\"";
+            + PREFIX_FILENAME + "\"HelloWorld.docx\"\n"
+            + "Example 5: " + COMMAND_WORD + " " + COMMAND_ZIP_ACTION + " "
+            + PREFIX_FILEPATH + "\"D:\\Documents\\AllAttachments.zip\"";
 
 
     public static final String MESSAGE_MISSING_ARGUMENTS = "Missing argument %1$s for %2$s action";
@@ -78,7 +84,7 @@ public class AttachmentCommand extends Command {
         }
 
         Task taskToEdit = lastShownList.get(index.getZeroBased());
-        ActionResult result = attachmentAction.perform(taskToEdit);
+        ActionResult result = attachmentAction.perform(taskToEdit, model.getAttachmentStore());
         Task editedTask = result.getTask();
 
         updateModel(model, taskToEdit, editedTask);
@@ -143,36 +149,6 @@ public class AttachmentCommand extends Command {
         }
     }
 
-    /**
-     * Utility function to obtain an attachment object from a set of attachments, based on name.
-     *
-     * @param attachments Set of attachments
-     * @param name        Name to search
-     * @return Null if there is no attachment with the provided name in the set.
-     */
-    private static Attachment getAttachment(Set<Attachment> attachments, String name) {
-        requireAllNonNull(attachments, name);
-        Map<String, Attachment> attachmentNameMap = attachments.stream()
-            .collect(Collectors.toMap(x -> x.getName(), x -> x));
-        return attachmentNameMap.get(name);
-    }
-
-    /**
-     * Utility function to determine if an attachment with name (@code name) exists in the set of attachments.
-     *
-     * @param attachments Set of attachments
-     * @param name        Name to search
-     * @return True if there is an attachment with name (@code name)
-     */
-    private static boolean isAttachmentName(Set<Attachment> attachments, String name) {
-        requireAllNonNull(attachments, name);
-        Set<String> attachmentNames = attachments
-            .stream()
-            .map(x -> x.getName())
-            .collect(Collectors.toSet());
-        return attachmentNames.contains(name);
-    }
-
     /**
      * Utility function to check whether a name can be added to the set of attachments of a task.
      * Throws a (@code CommandException) is provided name is already in the set of attachments.
@@ -183,7 +159,7 @@ public class AttachmentCommand extends Command {
      */
     private static void checkAttachmentNameUnique(Task task, String name) throws CommandException {
         requireAllNonNull(task, name);
-        if (isAttachmentName(task.getAttachments(), name)) {
+        if (task.hasAttachment(name)) {
             logger.info(String.format("Task already contains an attachment with filename %s.",
                 name));
             throw new CommandException(Attachment.MESSAGE_DUPLICATE_ATTACHMENT_NAME);
@@ -200,7 +176,7 @@ public class AttachmentCommand extends Command {
      */
     private static void checkAttachmentNameExists(Task task, String name) throws CommandException {
         requireAllNonNull(task, name);
-        if (!isAttachmentName(task.getAttachments(), name)) {
+        if (!task.hasAttachment(name)) {
             logger.info(String.format("Task does not contains an attachment with filename %s.",
                 name));
             throw new CommandException(String.format(MESSAGE_NAME_NOT_FOUND, name));
@@ -246,7 +222,11 @@ public class AttachmentCommand extends Command {
      */
     public interface AttachmentAction {
 
-        ActionResult perform(Task taskToEdit) throws CommandException;
+        /**
+         * Performs the action on {@code taskToEdit}, where {@code attachmentStore} is the store that added
+         * attachments are copied into, if the managed attachment store is enabled.
+         */
+        ActionResult perform(Task taskToEdit, Optional<AttachmentStore> attachmentStore) throws CommandException;
 
     }
 
@@ -256,6 +236,7 @@ public class AttachmentCommand extends Command {
      */
     public static class AddAttachmentAction implements AttachmentAction {
         public static final String MESSAGE_ADD_NOT_A_FILE = "%1$s is not a valid file.";
+        public static final String MESSAGE_STORE_FAILED = "Failed to copy %1$s into the attachment store.";
         public static final String MESSAGE_SUCCESS = "%1$s added as attachment.";
 
         private final String filePath;
@@ -267,10 +248,14 @@ public class AttachmentCommand extends Command {
 
 
         @Override
-        public ActionResult perform(Task taskToEdit) throws CommandException {
+        public ActionResult perform(Task taskToEdit, Optional<AttachmentStore> attachmentStore)
+            throws CommandException {
             requireNonNull(taskToEdit);
             Attachment newAttachment = buildAttachment();
             checkAttachmentNameUnique(taskToEdit, newAttachment.getName());
+            if (attachmentStore.isPresent()) {
+                newAttachment = storeAttachment(attachmentStore.get(), newAttachment);
+            }
             HashSet<Attachment> updatedAttachments = new HashSet<>(taskToEdit.getAttachments());
             updatedAttachments.add(newAttachment);
             Task updatedTask = new Task(taskToEdit.getName(), taskToEdit.getPriority(), taskToEdit.getFrequency(),
@@ -293,6 +278,23 @@ public class AttachmentCommand extends Command {
             return attachment;
         }
 
+        /**
+         * Copies the file of {@code attachment} into {@code attachmentStore}.
+         *
+         * @return Attachment to the stored file, with the same name
+         * @throws CommandException if the file cannot be copied
+         */
+        private Attachment storeAttachment(AttachmentStore attachmentStore, Attachment attachment)
+            throws CommandException {
+            try {
+                return attachmentStore.add(attachment.file);
+            } catch (IOException ioe) {
+                logger.severe(String.format("Attachment copy from %s to the attachment store failed due to: %s",
+                    attachment.file.getAbsolutePath(), ioe));
+                throw new CommandException(String.format(MESSAGE_STORE_FAILED, attachment.file));
+            }
+        }
+
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -325,9 +327,12 @@ public class AttachmentCommand extends Command {
         public static final String MESSAGE_LIST_ATTACHMENT_DETAILS = "%d) %s\n";
 
         @Override
-        public ActionResult perform(Task taskToEdit) throws CommandException {
+        public ActionResult perform(Task taskToEdit, Optional<AttachmentStore> attachmentStore)
+            throws CommandException {
             requireNonNull(taskToEdit);
             Set<Attachment> attachments = taskToEdit.getAttachments();
+            // the attachments listed are likely to be retrieved next
+            AttachmentMetadataCache.getInstance().prefetch(attachments);
             StringBuilder stringBuilder = new StringBuilder();
             stringBuilder.append(String.format(MESSAGE_TOTAL_ATTACHMENTS, attachments.size()));
             int indexCounter = 0;
@@ -376,10 +381,11 @@ public class AttachmentCommand extends Command {
         }
 
         @Override
-        public ActionResult perform(Task taskToEdit) throws CommandException {
+        public ActionResult perform(Task taskToEdit, Optional<AttachmentStore> attachmentStore)
+            throws CommandException {
             requireNonNull(taskToEdit);
             checkAttachmentNameExists(taskToEdit, nameToDelete);
-            Attachment attachmentToDelete = getAttachment(taskToEdit.getAttachments(), nameToDelete);
+            Attachment attachmentToDelete = taskToEdit.getAttachment(nameToDelete).get();
             HashSet<Attachment> updatedAttachments = new HashSet<>(taskToEdit.getAttachments());
             updatedAttachments.remove(attachmentToDelete);
             String resultMessage = String.format(MESSAGE_SUCCESS, nameToDelete);
@@ -451,10 +457,11 @@ public class AttachmentCommand extends Command {
         }
 
         @Override
-        public ActionResult perform(Task taskToEdit) throws CommandException {
+        public ActionResult perform(Task taskToEdit, Optional<AttachmentStore> attachmentStore)
+            throws CommandException {
             requireNonNull(taskToEdit);
             checkAttachmentNameExists(taskToEdit, fileName);
-            Attachment attachmentToGet = getAttachment(taskToEdit.getAttachments(), fileName);
+            Attachment attachmentToGet = taskToEdit.getAttachment(fileName).get();
             copyFileToDestination(attachmentToGet, savePath);
             String resultMessage = String.format(MESSAGE_SUCCESS, attachmentToGet.getName(), savePath);
             return new ActionResult(taskToEdit, resultMessage);
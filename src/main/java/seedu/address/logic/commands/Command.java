@@ -20,4 +20,11 @@ public abstract class Command {
     public abstract CommandResult execute(Model model, CommandHistory history)
         throws CommandException;
 
+    /**
+     * Returns true if the command only reads the tasks and changes how they are shown, so that it
+     * can be executed on a private view of the tasks instead of the shared model.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
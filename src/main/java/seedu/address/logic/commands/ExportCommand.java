@@ -2,8 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import com.google.common.eventbus.Subscribe;
 
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.storage.ImportExportExceptionEvent;
 import seedu.address.logic.CommandHistory;
@@ -17,24 +20,33 @@ public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
     public static final String MESSAGE_EXPORT_ERROR = "Export failed. Error: %s";
-    public static final String MESSAGE_SUCCESS = "Exported successfully to external file: %s";
-    public static final String MESSAGE_USAGE = "export [csv] p/FILEPATH [r/overwrite]";
+    public static final String MESSAGE_SUCCESS = "Exporting to external file: %s. "
+        + "The progress is shown in the status bar.";
+    public static final String MESSAGE_USAGE = "export [csv [full] [tab|semicolon]] p/FILEPATH [r/overwrite]";
     private String pathName;
     private String exportError = "";
     private boolean shouldOverwrite;
-    private boolean isCsvFormat;
+    private Optional<CsvFormat> csvFormat;
 
     public ExportCommand(String filename, boolean shouldOverwrite, boolean isCsvFormat) {
+        this(filename, shouldOverwrite, isCsvFormat ? Optional.of(CsvFormat.DEFAULT) : Optional.empty());
+    }
+
+    /**
+     * Creates a command that exports as CSV in {@code csvFormat} if it is present, or as XML otherwise.
+     */
+    public ExportCommand(String filename, boolean shouldOverwrite, Optional<CsvFormat> csvFormat) {
+        requireNonNull(csvFormat);
         this.pathName = filename;
         this.shouldOverwrite = shouldOverwrite;
-        this.isCsvFormat = isCsvFormat;
+        this.csvFormat = csvFormat;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
         EventsCenter.getInstance().registerHandler(this);
-        model.exportTaskCollection(pathName, shouldOverwrite, isCsvFormat);
+        model.exportTaskCollection(pathName, shouldOverwrite, csvFormat);
         EventsCenter.getInstance().unregisterHandler(this);
         if (hasExportError()) {
             throw new CommandException(String.format(MESSAGE_EXPORT_ERROR, exportError));
@@ -49,7 +61,7 @@ public class ExportCommand extends Command {
             || (other instanceof ExportCommand // instanceof handles nulls
             && pathName.equals(((ExportCommand) other).pathName)
             && shouldOverwrite == ((ExportCommand) other).shouldOverwrite
-            && isCsvFormat == ((ExportCommand) other).isCsvFormat); // state check
+            && csvFormat.equals(((ExportCommand) other).csvFormat)); // state check
     }
 
     private boolean hasExportError() {
@@ -50,6 +50,11 @@ public class FilterCommand extends Command {
                     model.getFilteredTaskList().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     // FilterCommand should only compare equal by identity -
     // you can't really check two non-identical predicates for equality.
 }
@@ -21,7 +21,7 @@ public class ImportCommand extends Command {
     public static final String MESSAGE_IMPORT_ERROR = "Import failed. Error: %s";
     public static final String MESSAGE_SUCCESS = "Imported successfully from file: %s";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": imports a previously saved file. "
-        + "Usage: import p/FILEPATH [r/all | r/overwrite | r/skip] \n"
+        + "Usage: import p/FILEPATH [r/all | r/overwrite | r/skip | r/merge [b/BASE_FILEPATH]] \n"
         + "Example: import p/saveFile.xml r/overwrite";
     private String fileName;
     private ImportConflictResolver conflictResolver;
@@ -55,7 +55,8 @@ public class ImportCommand extends Command {
         return other == this // short circuit if same object
             || (other instanceof ImportCommand // instanceof handles nulls
             && fileName.equals(((ImportCommand) other).fileName)
-            && conflictResolver.getClass().equals(((ImportCommand) other).conflictResolver.getClass())); // state check
+            && conflictResolver.getClass().equals(((ImportCommand) other).conflictResolver.getClass())
+            && conflictResolver.getBaseFilename().equals(((ImportCommand) other).conflictResolver.getBaseFilename()));
     }
 
     private boolean hasImportError() {
@@ -22,4 +22,9 @@ public class ListCommand extends Command {
         model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
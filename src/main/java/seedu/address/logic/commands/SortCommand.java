@@ -37,4 +37,9 @@ public class SortCommand extends Command {
         model.updateSortedTaskList(comparator);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
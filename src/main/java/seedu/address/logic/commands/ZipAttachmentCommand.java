@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.AttachmentArchiveProgressEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.attachment.AttachmentArchive;
+import seedu.address.model.task.Task;
+
+/**
+ * Saves the attachments of every task in the displayed task list into a single ZIP file, with one folder
+ * per task. The archive is written to a temporary file next to the destination, which replaces an existing
+ * file at the destination only once it is complete, so a failed save leaves that file as it was. The result
+ * says when a file was replaced.
+ */
+public class ZipAttachmentCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "%1$d attachment(s) of %2$d task(s) saved to %3$s.";
+    public static final String MESSAGE_SKIPPED = "\n%1$d attachment(s) could not be read and were left out: %2$s";
+    public static final String MESSAGE_ZIP_FAILED = "Failed to save the attachments to %1$s.";
+    public static final String MESSAGE_REPLACED = "\nThe existing file at %1$s was replaced.";
+
+    /** Number of threads reading attachments at the same time. */
+    private static final int IO_THREAD_COUNT = 4;
+    private static final Logger logger = LogsCenter.getLogger(ZipAttachmentCommand.class);
+
+    private final String savePath;
+
+    public ZipAttachmentCommand(String savePath) {
+        requireNonNull(savePath);
+        this.savePath = savePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!FileUtil.isValidPath(savePath)) {
+            throw new CommandException(String.format(MESSAGE_ZIP_FAILED, savePath));
+        }
+
+        Path destination = Paths.get(savePath).toAbsolutePath();
+        if (Files.isDirectory(destination)) {
+            throw new CommandException(String.format(MESSAGE_ZIP_FAILED, savePath));
+        }
+
+        List<Task> tasks = model.getFilteredTaskList();
+        boolean isReplacingFile = Files.exists(destination);
+        AttachmentArchive archive = new AttachmentArchive(tasks);
+        ExecutorService ioPool = Executors.newFixedThreadPool(IO_THREAD_COUNT);
+        Path tempFile = null;
+        boolean isSaved = false;
+        int writtenCount;
+        try {
+            tempFile = Files.createTempFile(destination.getParent(), destination.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writtenCount = archive.write(out, ioPool, (processedCount, totalCount) ->
+                    EventsCenter.getInstance().post(new AttachmentArchiveProgressEvent(savePath, processedCount,
+                        totalCount)));
+            }
+            Files.move(tempFile, destination, StandardCopyOption.REPLACE_EXISTING);
+            isSaved = true;
+        } catch (IOException ioe) {
+            logger.severe(String.format("Saving attachments to %s failed due to: %s", savePath,
+                StringUtil.getDetails(ioe)));
+            throw new CommandException(String.format(MESSAGE_ZIP_FAILED, savePath));
+        } finally {
+            ioPool.shutdownNow();
+            if (!isSaved && tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, writtenCount, tasks.size(), savePath));
+        if (isReplacingFile) {
+            result.append(String.format(MESSAGE_REPLACED, savePath));
+        }
+        List<Attachment> skippedAttachments = archive.getSkippedAttachments();
+        if (!skippedAttachments.isEmpty()) {
+            result.append(String.format(MESSAGE_SKIPPED, skippedAttachments.size(), skippedAttachments.stream()
+                .map(Attachment::getName).collect(Collectors.joining(", "))));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Deletes the partly written archive at {@code tempFile}, logging rather than throwing on failure.
+     */
+    private static void deleteQuietly(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ioe) {
+            logger.warning(String.format("Failed to delete %s: %s", tempFile, StringUtil.getDetails(ioe)));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ZipAttachmentCommand // instanceof handles nulls
+            && savePath.equals(((ZipAttachmentCommand) other).savePath)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Save the attachments of the displayed tasks to %s", savePath);
+    }
+}
@@ -6,28 +6,32 @@ import static seedu.address.logic.commands.AttachmentCommand.COMMAND_ADD_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.COMMAND_DELETE_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.COMMAND_GET_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.COMMAND_LIST_ACTION;
+import static seedu.address.logic.commands.AttachmentCommand.COMMAND_ZIP_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.MESSAGE_MISSING_ARGUMENTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILENAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AttachmentCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ZipAttachmentCommand;
 import seedu.address.logic.parser.exceptions.SimpleParseException;
 import seedu.address.logic.parser.tokenizer.ArgumentMultimap;
 import seedu.address.logic.parser.tokenizer.exceptions.TokenizationException;
 
 /**
- * Parses input arguments and creates a new AttachmentCommand object
+ * Parses input arguments and creates a new AttachmentCommand object, or a ZipAttachmentCommand object for
+ * the zip action, which applies to all displayed tasks
  */
-public class AttachmentCommandParser implements Parser<AttachmentCommand> {
+public class AttachmentCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the AttachmentCommand and returns an
-     * AttachmentCommand object for execution.
+     * AttachmentCommand or ZipAttachmentCommand object for execution.
      *
      * @throws SimpleParseException if the user input does not conform the expected format
      */
-    public AttachmentCommand parse(String args) throws SimpleParseException {
+    public Command parse(String args) throws SimpleParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap;
         try {
@@ -39,6 +43,10 @@ public class AttachmentCommandParser implements Parser<AttachmentCommand> {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttachmentCommand.MESSAGE_USAGE), ime);
         }
 
+        if (argMultimap.getPreamble().trim().equals(COMMAND_ZIP_ACTION)) {
+            return parseZipAction(argMultimap);
+        }
+
         Index index;
         String actionWord;
         try {
@@ -117,4 +125,14 @@ public class AttachmentCommandParser implements Parser<AttachmentCommand> {
         AttachmentCommand.AttachmentAction action = new AttachmentCommand.GetAttachmentAction(fileName, filePath);
         return new AttachmentCommand(index, action);
     }
+
+    /**
+     * Generates the command for a zip action.
+     */
+    private ZipAttachmentCommand parseZipAction(ArgumentMultimap argMultimap) throws SimpleParseException {
+        if (!argMultimap.getValue(PREFIX_FILEPATH).isPresent()) {
+            throw new SimpleParseException(String.format(MESSAGE_MISSING_ARGUMENTS, "FILEPATH", COMMAND_ZIP_ACTION));
+        }
+        return new ZipAttachmentCommand(argMultimap.getValue(PREFIX_FILEPATH).get());
+    }
 }
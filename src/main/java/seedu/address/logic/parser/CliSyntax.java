@@ -18,6 +18,7 @@ public class CliSyntax {
 
     /* Prefix definitions for import and export command */
     public static final Prefix PREFIX_RESOLVER = new Prefix("r/");
+    public static final Prefix PREFIX_BASE_FILEPATH = new Prefix("b/");
 
     public static final String KEY_NAME_SHORT = "n";
     public static final String KEY_NAME_LONG = "name";
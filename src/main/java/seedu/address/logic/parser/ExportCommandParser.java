@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RESOLVER;
 
 import java.util.Optional;
 
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.SimpleParseException;
 import seedu.address.logic.parser.tokenizer.ArgumentMultimap;
@@ -16,6 +17,11 @@ import seedu.address.logic.parser.tokenizer.exceptions.TokenizationException;
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
+    public static final String FORMAT_CSV = "csv";
+    public static final String CSV_OPTION_ALL_COLUMNS = "full";
+    public static final String CSV_OPTION_TAB = "tab";
+    public static final String CSV_OPTION_SEMICOLON = "semicolon";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand and returns an
      * ImportCommand object for execution.
@@ -35,26 +41,55 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         String filename = argMultimap.getValue(PREFIX_FILEPATH).orElseThrow(() -> new SimpleParseException(
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE)));
 
-        String exportCsv = argMultimap.getPreamble();
-        boolean isCsvFormat = false;
-        if (!exportCsv.trim().equals("")) {
-            if (exportCsv.trim().equals("csv")) {
-                isCsvFormat = true;
-            } else {
-                throw new SimpleParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
-            }
-        }
+        Optional<CsvFormat> csvFormat = parseFormat(argMultimap.getPreamble());
 
         Optional<String> shouldOverwriteCmd = argMultimap.getValue(PREFIX_RESOLVER);
         if (!shouldOverwriteCmd.isPresent()) {
-            return new ExportCommand(filename, false, isCsvFormat);
+            return new ExportCommand(filename, false, csvFormat);
         }
         if (shouldOverwriteCmd.get().equals("overwrite")) {
-            return new ExportCommand(filename, true, isCsvFormat);
+            return new ExportCommand(filename, true, csvFormat);
         } else {
             throw new SimpleParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
         }
     }
+
+    /**
+     * Parses the format words before the file path: nothing for XML, or {@code csv} followed by any
+     * of the CSV options, each at most once.
+     *
+     * @throws SimpleParseException if the words do not describe a format.
+     */
+    private static Optional<CsvFormat> parseFormat(String preamble) throws SimpleParseException {
+        String[] words = preamble.trim().split("\\s+");
+        if (words[0].isEmpty()) {
+            return Optional.empty();
+        }
+        if (!words[0].equals(FORMAT_CSV)) {
+            throw new SimpleParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        CsvFormat format = CsvFormat.DEFAULT;
+        boolean hasAllColumns = false;
+        boolean hasDelimiter = false;
+        for (int i = 1; i < words.length; i++) {
+            if (words[i].equals(CSV_OPTION_ALL_COLUMNS) && !hasAllColumns) {
+                format = format.withAllColumns();
+                hasAllColumns = true;
+            } else if (words[i].equals(CSV_OPTION_TAB) && !hasDelimiter) {
+                format = format.withDelimiter('\t');
+                hasDelimiter = true;
+            } else if (words[i].equals(CSV_OPTION_SEMICOLON) && !hasDelimiter) {
+                // the default value separator is a semicolon, so multiple values are separated by commas
+                format = format.withValueSeparator(",").withDelimiter(';');
+                hasDelimiter = true;
+            } else {
+                throw new SimpleParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+            }
+        }
+        return Optional.of(format);
+    }
 }
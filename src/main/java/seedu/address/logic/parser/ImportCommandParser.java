@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BASE_FILEPATH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RESOLVER;
 
@@ -13,6 +14,7 @@ import seedu.address.logic.parser.tokenizer.exceptions.TokenizationException;
 import seedu.address.model.DuplicateImportConflictResolver;
 import seedu.address.model.IgnoreImportConflictResolver;
 import seedu.address.model.ImportConflictResolver;
+import seedu.address.model.MergeImportConflictResolver;
 import seedu.address.model.OverwriteImportConflictResolver;
 
 /**
@@ -20,6 +22,8 @@ import seedu.address.model.OverwriteImportConflictResolver;
  */
 public class ImportCommandParser implements Parser<ImportCommand> {
 
+    public static final String RESOLVER_MERGE = "merge";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand and returns an
      * ImportCommand object for execution.
@@ -31,7 +35,7 @@ public class ImportCommandParser implements Parser<ImportCommand> {
         try {
             argMultimap =
                 ArgumentTokenizer
-                    .tokenize(args, PREFIX_FILEPATH, PREFIX_RESOLVER);
+                    .tokenize(args, PREFIX_FILEPATH, PREFIX_RESOLVER, PREFIX_BASE_FILEPATH);
         } catch (TokenizationException ime) {
             throw new SimpleParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), ime);
@@ -41,7 +45,14 @@ public class ImportCommandParser implements Parser<ImportCommand> {
 
         ImportConflictResolver resolver;
         Optional<String> resolverInput = argMultimap.getValue(PREFIX_RESOLVER);
-        if (resolverInput.isPresent()) {
+        Optional<String> baseFilename = argMultimap.getValue(PREFIX_BASE_FILEPATH);
+        if (resolverInput.isPresent() && resolverInput.get().equals(RESOLVER_MERGE)) {
+            resolver = new MergeImportConflictResolver(baseFilename);
+        } else if (baseFilename.isPresent()) {
+            // only a merge uses a common ancestor
+            throw new SimpleParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        } else if (resolverInput.isPresent()) {
             resolver = resolverParser(resolverInput.get());
         } else {
             resolver = new IgnoreImportConflictResolver();
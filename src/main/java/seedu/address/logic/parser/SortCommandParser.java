@@ -165,7 +165,7 @@ public class SortCommandParser implements Parser<SortCommand> {
                 Tag[] tagsArray = new Tag[tagsOrder.length];
                 for (int i = 0; i < tagsOrder.length; i++) {
                     try {
-                        tagsArray[i] = new Tag(tagsOrder[i]);
+                        tagsArray[i] = Tag.of(tagsOrder[i]);
                     } catch (IllegalArgumentException e) {
                         throw new SimpleParseException(
                                 String.format(MESSAGE_INVALID_KEY_FORMAT, element));
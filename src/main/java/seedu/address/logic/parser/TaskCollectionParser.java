@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,6 +33,17 @@ import seedu.address.logic.parser.exceptions.SimpleParseException;
  */
 public class TaskCollectionParser {
 
+    /**
+     * The command words understood by {@link #parseCommand(String)}.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD,
+        EditCommand.COMMAND_WORD, CompleteCommand.COMMAND_WORD, SelectCommand.COMMAND_WORD,
+        DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD,
+        ImportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+        ListCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+        HelpCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD,
+        AttachmentCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -14,4 +16,24 @@ import seedu.address.model.task.Task;
 public abstract class ImportConflictResolver {
     protected static final Logger LOGGER = LogsCenter.getLogger(ImportConflictResolver.class);
     abstract void resolve(Consumer<Task> addTask, Consumer<Task> removeTask, Task task);
+
+    /**
+     * Returns the file holding the common ancestor of the current and imported tasks, if this resolver
+     * uses one.
+     */
+    public Optional<String> getBaseFilename() {
+        return Optional.empty();
+    }
+
+    /**
+     * Plans the import of {@code incomingTasks} into {@code plan}. {@code baseTasks} are the tasks in
+     * the file given by {@link #getBaseFilename()}, if any.
+     * By default, each incoming task is added if no equal task is present, and given to
+     * {@link #resolve(Consumer, Consumer, Task)} otherwise.
+     */
+    void plan(ImportPlan plan, List<Task> incomingTasks, Optional<List<Task>> baseTasks) {
+        for (Task task : incomingTasks) {
+            plan.importTask(task, this);
+        }
+    }
 }
@@ -0,0 +1,219 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.task.Task;
+
+/**
+ * The changes an import makes to a list of existing tasks, worked out before any of them is applied.
+ * Tasks are added, removed and updated as if on the list itself: added tasks go to the end of the list,
+ * and removing or updating a task affects its first occurrence. Equal tasks are located through hash
+ * maps built once, so each operation takes constant time however long the list is, and the resulting
+ * list can then be applied to the model in one change.
+ */
+class ImportPlan {
+
+    private static final int NONE = -1;
+
+    private final List<Task> existingTasks;
+    private final BitSet removedExistingTasks = new BitSet();
+    /** Position of the first remaining existing copy of each task. */
+    private final Map<Task, Integer> firstExisting = new HashMap<>();
+    /** Position of the next existing copy of the task at each position, or {@link #NONE}. */
+    private final int[] nextExisting;
+
+    private final List<Task> addedTasks = new ArrayList<>();
+    private final BitSet removedAddedTasks = new BitSet();
+    /** Positions of the first and last remaining added copies of each task. */
+    private final Map<Task, int[]> addedCopies = new HashMap<>();
+    private int[] nextAdded = new int[16];
+
+    /** Existing tasks that were updated, by position, and the number of copies of each new version. */
+    private final Map<Integer, Task> updatedExistingTasks = new HashMap<>();
+    private final Map<Task, Integer> updatedCopies = new HashMap<>();
+
+    private int conflictCount;
+
+    ImportPlan(List<Task> existingTasks) {
+        requireNonNull(existingTasks);
+        this.existingTasks = new ArrayList<>(existingTasks);
+        nextExisting = new int[this.existingTasks.size()];
+        for (int i = this.existingTasks.size() - 1; i >= 0; i--) {
+            Integer next = firstExisting.put(this.existingTasks.get(i), i);
+            nextExisting[i] = next == null ? NONE : next;
+        }
+    }
+
+    /**
+     * Returns true if the list contains a task equal to {@code task}.
+     */
+    boolean hasTask(Task task) {
+        requireNonNull(task);
+        return firstExisting.containsKey(task) || addedCopies.containsKey(task) || updatedCopies.containsKey(task);
+    }
+
+    /**
+     * Adds {@code task} to the end of the list.
+     */
+    void addTask(Task task) {
+        requireNonNull(task);
+        int position = addedTasks.size();
+        addedTasks.add(task);
+        if (position == nextAdded.length) {
+            nextAdded = Arrays.copyOf(nextAdded, 2 * position);
+        }
+        nextAdded[position] = NONE;
+
+        int[] copies = addedCopies.get(task);
+        if (copies == null) {
+            addedCopies.put(task, new int[] {position, position});
+        } else {
+            nextAdded[copies[1]] = position;
+            copies[1] = position;
+        }
+    }
+
+    /**
+     * Removes the first task in the list equal to {@code task}, other than tasks put in the list by
+     * {@link #updateTask(Task, Task)}. Does nothing if there is none.
+     */
+    void removeTask(Task task) {
+        requireNonNull(task);
+        Integer position = takeFirstExisting(task);
+        if (position != null) {
+            removedExistingTasks.set(position);
+            return;
+        }
+
+        int[] copies = addedCopies.get(task);
+        if (copies != null) {
+            removedAddedTasks.set(copies[0]);
+            if (nextAdded[copies[0]] == NONE) {
+                addedCopies.remove(task);
+            } else {
+                copies[0] = nextAdded[copies[0]];
+            }
+        }
+    }
+
+    /**
+     * Replaces the first existing task equal to {@code target} with {@code editedTask}, keeping its
+     * position. If no existing task is equal to {@code target}, {@code target} is removed and
+     * {@code editedTask} added instead.
+     */
+    void updateTask(Task target, Task editedTask) {
+        requireNonNull(target);
+        requireNonNull(editedTask);
+        Integer position = takeFirstExisting(target);
+        if (position == null) {
+            removeTask(target);
+            addTask(editedTask);
+            return;
+        }
+        updatedExistingTasks.put(position, editedTask);
+        updatedCopies.merge(editedTask, 1, Integer::sum);
+    }
+
+    /**
+     * Returns the position of the first existing task equal to {@code task} that has not been removed
+     * or updated, and stops tracking it. Returns null if there is none.
+     */
+    private Integer takeFirstExisting(Task task) {
+        Integer position = firstExisting.get(task);
+        if (position == null) {
+            return null;
+        }
+        if (nextExisting[position] == NONE) {
+            firstExisting.remove(task);
+        } else {
+            firstExisting.put(task, nextExisting[position]);
+        }
+        return position;
+    }
+
+    /**
+     * Applies {@code incomingTask}: it is added if the list has no equal task, and otherwise given to
+     * {@code resolver}. Conflicts are left as they are if {@code resolver} is null.
+     */
+    void importTask(Task incomingTask, ImportConflictResolver resolver) {
+        if (!hasTask(incomingTask)) {
+            addTask(incomingTask);
+            return;
+        }
+        conflictCount++;
+        if (resolver != null) {
+            resolver.resolve(this::addTask, this::removeTask, incomingTask);
+        }
+    }
+
+    /**
+     * Returns the number of imported tasks that were equal to a task in the list.
+     */
+    int getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * Returns true if the list has changed.
+     */
+    boolean hasChanges() {
+        return !addedTasks.isEmpty() || !removedExistingTasks.isEmpty() || !updatedExistingTasks.isEmpty();
+    }
+
+    /**
+     * Returns the tasks in the list after the changes.
+     */
+    List<Task> getTasks() {
+        List<Task> tasks = new ArrayList<>(existingTasks.size() + addedTasks.size());
+        for (int i = 0; i < existingTasks.size(); i++) {
+            if (!removedExistingTasks.get(i)) {
+                tasks.add(updatedExistingTasks.getOrDefault(i, existingTasks.get(i)));
+            }
+        }
+        for (int i = 0; i < addedTasks.size(); i++) {
+            if (!removedAddedTasks.get(i)) {
+                tasks.add(addedTasks.get(i));
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the tasks put in the list, including the new versions of updated tasks but leaving out
+     * added tasks that were removed again.
+     */
+    List<Task> getAddedTasks() {
+        List<Task> tasks = new ArrayList<>();
+        updatedExistingTasks.keySet().stream().sorted().forEach(i -> tasks.add(updatedExistingTasks.get(i)));
+        for (int i = 0; i < addedTasks.size(); i++) {
+            if (!removedAddedTasks.get(i)) {
+                tasks.add(addedTasks.get(i));
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the existing tasks taken out of the list, including the old versions of updated tasks.
+     */
+    List<Task> getRemovedTasks() {
+        List<Task> tasks = new ArrayList<>();
+        updatedExistingTasks.keySet().stream().sorted().forEach(i -> tasks.add(existingTasks.get(i)));
+        removedExistingTasks.stream().forEach(i -> tasks.add(existingTasks.get(i)));
+        return tasks;
+    }
+
+    /**
+     * Returns the number of existing tasks that were updated.
+     */
+    int getUpdateCount() {
+        return updatedExistingTasks.size();
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+
+/**
+ * The MergeImportConflictResolver class.
+ * This class will resolve import conflicts by merging the imported TaskCollection into the existing one,
+ * making as few changes as possible. Tasks are matched by their content.
+ * Given a base file holding the common ancestor of both, changes made on either side since the ancestor
+ * are kept, so tasks deleted from the imported file are deleted here too. Without a base file, tasks
+ * missing from the existing TaskCollection are added and nothing is deleted.
+ * A task deleted and another with the same name added are applied as an update of the task.
+ */
+public class MergeImportConflictResolver extends ImportConflictResolver {
+
+    private final Optional<String> baseFilename;
+
+    public MergeImportConflictResolver() {
+        this(Optional.empty());
+    }
+
+    public MergeImportConflictResolver(Optional<String> baseFilename) {
+        requireNonNull(baseFilename);
+        this.baseFilename = baseFilename;
+    }
+
+    @Override
+    public Optional<String> getBaseFilename() {
+        return baseFilename;
+    }
+
+    @Override
+    public void resolve(Consumer<Task> addTask, Consumer<Task> removeTask, Task task) {
+        // an equal task is already present, which is what the merge wants
+        LOGGER.info("Keeping task");
+    }
+
+    @Override
+    void plan(ImportPlan plan, List<Task> incomingTasks, Optional<List<Task>> baseTasks) {
+        List<Task> currentTasks = plan.getTasks();
+        Map<Task, Integer> currentCounts = count(currentTasks);
+        Map<Task, Integer> incomingCounts = count(incomingTasks);
+        Map<Task, Integer> baseCounts = baseTasks.map(MergeImportConflictResolver::count).orElse(null);
+
+        // the number of copies each task should end up with
+        Map<Task, Integer> targetCounts = new HashMap<>();
+        for (Map.Entry<Task, Integer> entry : incomingCounts.entrySet()) {
+            int current = currentCounts.getOrDefault(entry.getKey(), 0);
+            targetCounts.put(entry.getKey(), baseCounts == null
+                ? Math.max(current, entry.getValue())
+                : merge(current, entry.getValue(), baseCounts.getOrDefault(entry.getKey(), 0)));
+        }
+        if (baseCounts != null) {
+            for (Map.Entry<Task, Integer> entry : baseCounts.entrySet()) {
+                if (!incomingCounts.containsKey(entry.getKey())) {
+                    int current = currentCounts.getOrDefault(entry.getKey(), 0);
+                    targetCounts.put(entry.getKey(), merge(current, 0, entry.getValue()));
+                }
+            }
+        }
+
+        Map<Name, Deque<Task>> deletedTasksByName = new HashMap<>();
+        Map<Task, Integer> remainingDeletions = new HashMap<>();
+        targetCounts.forEach((task, target) -> {
+            int current = currentCounts.getOrDefault(task, 0);
+            if (target < current) {
+                remainingDeletions.put(task, current - target);
+            }
+        });
+        for (Task task : currentTasks) {
+            Integer deletions = remainingDeletions.get(task);
+            if (deletions != null) {
+                deletedTasksByName.computeIfAbsent(task.getName(), name -> new ArrayDeque<>()).add(task);
+                remainingDeletions.put(task, deletions - 1);
+                remainingDeletions.remove(task, 0);
+            }
+        }
+
+        Map<Task, Integer> remainingAdditions = new HashMap<>();
+        targetCounts.forEach((task, target) -> {
+            int current = currentCounts.getOrDefault(task, 0);
+            if (target > current) {
+                remainingAdditions.put(task, target - current);
+            }
+        });
+        for (Task task : incomingTasks) {
+            Integer additions = remainingAdditions.get(task);
+            if (additions == null) {
+                continue;
+            }
+            remainingAdditions.put(task, additions - 1);
+            remainingAdditions.remove(task, 0);
+
+            Deque<Task> deletedTasks = deletedTasksByName.get(task.getName());
+            if (deletedTasks == null) {
+                plan.addTask(task);
+                continue;
+            }
+            plan.updateTask(deletedTasks.remove(), task);
+            if (deletedTasks.isEmpty()) {
+                deletedTasksByName.remove(task.getName());
+            }
+        }
+
+        deletedTasksByName.values().forEach(deletedTasks -> deletedTasks.forEach(plan::removeTask));
+    }
+
+    /**
+     * Returns the number of copies of a task to keep, given the numbers of copies in the current, the
+     * imported and the base tasks. A change made on one side only is taken, and so is a change made
+     * the same way on both sides; otherwise, the changes on both sides are applied.
+     */
+    private static int merge(int current, int incoming, int base) {
+        if (current == incoming) {
+            return current;
+        }
+        return Math.max(0, current + incoming - base);
+    }
+
+    private static Map<Task, Integer> count(List<Task> tasks) {
+        Map<Task, Integer> counts = new HashMap<>();
+        tasks.forEach(task -> counts.merge(task, 1, Integer::sum));
+        return counts;
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.model;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import com.google.common.eventbus.Subscribe;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.events.storage.ImportDataAvailableEvent;
+import seedu.address.model.attachment.AttachmentStore;
 import seedu.address.model.task.Task;
 
 /**
@@ -29,6 +33,19 @@ public interface Model {
      */
     ReadOnlyTaskCollection getTaskCollection();
 
+    /**
+     * Returns the latest published snapshot of the deadline manager. A snapshot is published after
+     * every change outside a batch, and at the end of a batch.
+     * Unlike the other methods, this method may be called from any thread, and the snapshot can be
+     * read without locking while the model keeps changing.
+     */
+    TaskCollectionSnapshot getTaskCollectionSnapshot();
+
+    /**
+     * Returns the store that added attachments are copied into, if the managed attachment store is enabled.
+     */
+    Optional<AttachmentStore> getAttachmentStore();
+
     /**
      * Returns true if a task with the same identity as {@code task} exists in the deadline manager.
      */
@@ -96,9 +113,46 @@ public interface Model {
     void commitTaskCollection();
 
     /**
-     * Exports current deadline manager to file.
+     * Starts a batch of changes. Until the matching {@link #endBatch()}, changes to the deadline
+     * manager are not announced (and hence not saved), and commits for undo/redo are deferred.
+     * Batches may be nested; only the outermost batch takes effect.
+     * Undoing within a batch after a commit in it discards the changes committed in the batch so far,
+     * restoring the last state committed before the batch. Nothing can be redone while such changes are
+     * pending, as their commit drops the undone states.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch of changes. When the outermost batch ends, the deferred commit, if
+     * any, is made and a single change covering the whole batch is announced.
+     */
+    void endBatch();
+
+    /**
+     * Adds {@code tasks}, read from storage while the application starts, to the end of the deadline
+     * manager as a single change. The change is not announced (and hence not saved) and cannot be
+     * undone, and the snapshot is not published until {@link #finishLoading()}.
+     */
+    void addLoadedTasks(List<Task> tasks);
+
+    /**
+     * Ends the loading of tasks with {@link #addLoadedTasks(List)}: the loaded tasks are published as
+     * the initial state of the deadline manager, which undo goes no further back than, and a
+     * {@code TaskCollectionLoadedEvent} is raised.
+     */
+    void finishLoading();
+
+    /**
+     * Ends the loading of tasks with {@link #addLoadedTasks(List)} after it failed with {@code cause}:
+     * the tasks loaded so far are published as the initial state of the deadline manager, and a
+     * {@code TaskCollectionLoadFailedEvent} is raised instead of a {@code TaskCollectionLoadedEvent}.
+     */
+    void failLoading(Exception cause);
+
+    /**
+     * Exports the shown tasks to file, as CSV in {@code csvFormat} if it is present, or as XML otherwise.
      */
-    void exportTaskCollection(String filename, boolean shouldOverwrite, boolean isCsvFormat);
+    void exportTaskCollection(String filename, boolean shouldOverwrite, Optional<CsvFormat> csvFormat);
 
     /**
      * Imports tasks from file to the current deadline manager.
@@ -3,8 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,11 +19,15 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.ExportRequestEvent;
 import seedu.address.commons.events.model.ImportRequestEvent;
 import seedu.address.commons.events.model.TaskCollectionChangedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadFailedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadedEvent;
 import seedu.address.commons.events.storage.ImportDataAvailableEvent;
+import seedu.address.model.attachment.AttachmentStore;
 import seedu.address.model.task.Task;
 
 
@@ -34,10 +43,17 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final VersionedTaskCollection versionedTaskCollection;
     private final FilteredList<Task> filteredTasks;
+    private final Optional<AttachmentStore> attachmentStore;
 
     private String lastError;
     private ImportConflictResolver conflictResolver;
 
+    /** Number of batches that have begun but not ended. */
+    private int batchDepth = 0;
+    private List<Task> tasksBeforeBatch;
+    private boolean hasBatchChanges;
+    private boolean hasDeferredCommit;
+
     /**
      * Initializes a ModelManager with the given taskCollection and userPrefs.
      */
@@ -50,6 +66,7 @@ public class ModelManager extends ComponentManager implements Model {
 
         versionedTaskCollection = new VersionedTaskCollection(taskCollection);
         filteredTasks = new FilteredList<>(versionedTaskCollection.getTaskList());
+        attachmentStore = userPrefs.getAttachmentStorePath().map(AttachmentStore::new);
         lastError = null;
     }
 
@@ -59,8 +76,9 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyTaskCollection newData) {
+        List<Task> oldTasks = new ArrayList<>(versionedTaskCollection.getTaskList());
         versionedTaskCollection.resetData(newData);
-        indicateTaskCollectionChanged();
+        indicateTaskCollectionReplaced(oldTasks);
     }
 
     @Override
@@ -68,11 +86,54 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedTaskCollection;
     }
 
+    @Override
+    public TaskCollectionSnapshot getTaskCollectionSnapshot() {
+        return versionedTaskCollection.getLatestSnapshot();
+    }
+
+    @Override
+    public Optional<AttachmentStore> getAttachmentStore() {
+        return attachmentStore;
+    }
+
+    /**
+     * Publishes a snapshot of the changed deadline manager and raises an event to indicate the model
+     * has changed
+     */
+    private void indicateTaskCollectionChanged(List<Task> addedTasks, List<Task> removedTasks) {
+        if (batchDepth > 0) {
+            // the changes are published and announced together when the batch ends
+            hasBatchChanges = true;
+            return;
+        }
+        TaskCollectionSnapshot snapshot = versionedTaskCollection.publishSnapshot();
+        raise(new TaskCollectionChangedEvent(snapshot, addedTasks, removedTasks));
+    }
+
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the whole task list has been replaced, where {@code oldTasks} are
+     * the tasks before the replacement. Tasks present both before and after are not reported as
+     * changed.
      */
-    private void indicateTaskCollectionChanged() {
-        raise(new TaskCollectionChangedEvent(versionedTaskCollection));
+    private void indicateTaskCollectionReplaced(List<Task> oldTasks) {
+        Map<Task, Integer> remainingOldTasks = new HashMap<>();
+        oldTasks.forEach(task -> remainingOldTasks.merge(task, 1, Integer::sum));
+
+        List<Task> addedTasks = new ArrayList<>();
+        for (Task task : versionedTaskCollection.getTaskList()) {
+            Integer count = remainingOldTasks.get(task);
+            if (count == null) {
+                addedTasks.add(task);
+            } else if (count == 1) {
+                remainingOldTasks.remove(task);
+            } else {
+                remainingOldTasks.put(task, count - 1);
+            }
+        }
+
+        List<Task> removedTasks = new ArrayList<>();
+        remainingOldTasks.forEach((task, count) -> removedTasks.addAll(Collections.nCopies(count, task)));
+        indicateTaskCollectionChanged(addedTasks, removedTasks);
     }
 
     @Override
@@ -84,14 +145,14 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteTask(Task target) {
         versionedTaskCollection.removeTask(target);
-        indicateTaskCollectionChanged();
+        indicateTaskCollectionChanged(Collections.emptyList(), Collections.singletonList(target));
     }
 
     @Override
     public void addTask(Task task) {
         versionedTaskCollection.addTask(task);
         updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
-        indicateTaskCollectionChanged();
+        indicateTaskCollectionChanged(Collections.singletonList(task), Collections.emptyList());
     }
 
     @Override
@@ -99,13 +160,16 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedTask);
 
         versionedTaskCollection.updateTask(target, editedTask);
-        indicateTaskCollectionChanged();
+        indicateTaskCollectionChanged(Collections.singletonList(editedTask), Collections.singletonList(target));
     }
 
     @Override
     public void updateSortedTaskList(Comparator<Task> comparator) {
         requireNonNull(comparator);
         versionedTaskCollection.sort(comparator);
+        if (batchDepth == 0) {
+            versionedTaskCollection.publishSnapshot();
+        }
     }
 
     //=========== Filtered Task List Accessors =============================================================
@@ -129,31 +193,88 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public boolean canUndoTaskCollection() {
-        return versionedTaskCollection.canUndo();
+        return hasDeferredCommit || versionedTaskCollection.canUndo();
     }
 
     @Override
     public boolean canRedoTaskCollection() {
-        return versionedTaskCollection.canRedo();
+        // the deferred commit of a batch will drop the undone states
+        return !hasDeferredCommit && versionedTaskCollection.canRedo();
     }
 
     @Override
     public void undoTaskCollection() {
-        versionedTaskCollection.undo();
-        indicateTaskCollectionChanged();
+        List<Task> oldTasks = new ArrayList<>(versionedTaskCollection.getTaskList());
+        if (hasDeferredCommit) {
+            // the changes of the batch are not committed yet, so undoing them restores the last commit
+            versionedTaskCollection.discardChanges();
+            hasDeferredCommit = false;
+        } else {
+            versionedTaskCollection.undo();
+        }
+        indicateTaskCollectionReplaced(oldTasks);
     }
 
     @Override
     public void redoTaskCollection() {
+        List<Task> oldTasks = new ArrayList<>(versionedTaskCollection.getTaskList());
         versionedTaskCollection.redo();
-        indicateTaskCollectionChanged();
+        indicateTaskCollectionReplaced(oldTasks);
     }
 
     @Override
     public void commitTaskCollection() {
+        if (batchDepth > 0) {
+            hasDeferredCommit = true;
+            return;
+        }
         versionedTaskCollection.commit();
     }
 
+    @Override
+    public void addLoadedTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        versionedTaskCollection.addTasks(tasks);
+    }
+
+    @Override
+    public void finishLoading() {
+        versionedTaskCollection.resetHistory();
+        raise(new TaskCollectionLoadedEvent(versionedTaskCollection.getLatestSnapshot()));
+    }
+
+    @Override
+    public void failLoading(Exception cause) {
+        requireNonNull(cause);
+        versionedTaskCollection.resetHistory();
+        raise(new TaskCollectionLoadFailedEvent(versionedTaskCollection.getLatestSnapshot(), cause));
+    }
+
+    @Override
+    public void beginBatch() {
+        if (batchDepth++ > 0) {
+            return;
+        }
+        tasksBeforeBatch = new ArrayList<>(versionedTaskCollection.getTaskList());
+        hasBatchChanges = false;
+        hasDeferredCommit = false;
+    }
+
+    @Override
+    public void endBatch() {
+        if (batchDepth == 0 || --batchDepth > 0) {
+            return;
+        }
+        if (hasDeferredCommit) {
+            versionedTaskCollection.commit();
+            hasDeferredCommit = false;
+        }
+        if (hasBatchChanges) {
+            indicateTaskCollectionReplaced(tasksBeforeBatch);
+        }
+        tasksBeforeBatch = null;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -175,12 +296,14 @@ public class ModelManager extends ComponentManager implements Model {
     //==========Import/Export===================================================================
 
     @Override
-    public void exportTaskCollection(String filename, boolean shouldOverwrite, boolean isCsvFormat) {
+    public void exportTaskCollection(String filename, boolean shouldOverwrite, Optional<CsvFormat> csvFormat) {
         requireNonNull(filename);
-        List<Task> lastShownList = getFilteredTaskList();
-        TaskCollection exportCollection = new TaskCollection();
-        exportCollection.setTasks(lastShownList);
-        raise(new ExportRequestEvent(exportCollection, filename, shouldOverwrite, isCsvFormat));
+        requireNonNull(csvFormat);
+        // the shown tasks are exported from an unchanging snapshot, so the model can keep changing
+        // while the export is written
+        Predicate<? super Task> filter = filteredTasks.getPredicate();
+        raise(new ExportRequestEvent(versionedTaskCollection.getCurrentSnapshot(),
+            filter == null ? PREDICATE_SHOW_ALL_TASKS : filter, filename, shouldOverwrite, csvFormat));
     }
 
     @Override
@@ -188,35 +311,26 @@ public class ModelManager extends ComponentManager implements Model {
         requireNonNull(filename);
         requireNonNull(mode);
         conflictResolver = mode;
-        raise(new ImportRequestEvent(filename));
+        raise(new ImportRequestEvent(filename, mode.getBaseFilename()));
     }
 
     @Override
     @Subscribe
     public void handleImportDataAvailableEvent(ImportDataAvailableEvent event) {
-        //Handle merge conflict and what not
-        ReadOnlyTaskCollection importData = event.data;
-        for (Task task: importData.getTaskList()) {
-            resolveImportConflict(task);
+        // conflicts are found through a hash join, and the result replaces the task list in one change
+        ImportPlan plan = new ImportPlan(versionedTaskCollection.getTaskList());
+        if (conflictResolver == null) {
+            event.data.getTaskList().forEach(task -> plan.importTask(task, null));
+        } else {
+            conflictResolver.plan(plan, event.data.getTaskList(), event.base.map(ReadOnlyTaskCollection::getTaskList));
+        }
+        logger.info("Imported " + event.data.getTaskList().size() + " tasks, of which " + plan.getConflictCount()
+            + " were already present and " + plan.getUpdateCount() + " updated existing tasks");
+        if (plan.hasChanges()) {
+            versionedTaskCollection.setTasks(plan.getTasks());
+            indicateTaskCollectionChanged(plan.getAddedTasks(), plan.getRemovedTasks());
         }
         commitTaskCollection();
         updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
     }
-
-
-    /**
-     * Use the appropriate import conflict handler to resolve a conflict.
-     * If there is no conflict, simply add it to the current TaskCollection.
-     * @param task the task to deconflict
-     */
-    private void resolveImportConflict(Task task) {
-        if (!hasTask(task)) {
-            addTask(task);
-            return;
-        }
-        if (conflictResolver == null) {
-            return;
-        }
-        conflictResolver.resolve(this::addTask, this::deleteTask, task);
-    }
 }
@@ -65,6 +65,14 @@ public class TaskCollection implements ReadOnlyTaskCollection {
         tasks.add(task);
     }
 
+    /**
+     * Adds {@code tasks} to the end of the deadline manager, in order, as a single change.
+     */
+    public void addTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        this.tasks.addAll(tasks);
+    }
+
     /**
      * Replaces the given task {@code target} in the list with {@code editedTask}. {@code target}
      * must exist in the deadline manager. The task identity of {@code editedTask} must not be the same
@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
+
+/**
+ * An immutable state of the deadline manager, tagged with a version number.
+ * A snapshot never changes after it is created, so it can be read from any thread without locking
+ * while the model moves on to newer states. Later states have larger version numbers.
+ */
+public final class TaskCollectionSnapshot implements ReadOnlyTaskCollection {
+
+    private final long version;
+    private final ObservableList<Task> tasks;
+
+    public TaskCollectionSnapshot(long version, List<Task> tasks) {
+        requireNonNull(tasks);
+        this.version = version;
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(tasks));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks (version " + version + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // the version only orders states of the same model, so states are compared by content
+        return other == this // short circuit if same object
+            || (other instanceof TaskCollectionSnapshot // instanceof handles nulls
+            && tasks.equals(((TaskCollectionSnapshot) other).tasks));
+    }
+
+    @Override
+    public int hashCode() {
+        return tasks.hashCode();
+    }
+}
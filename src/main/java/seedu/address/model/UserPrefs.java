@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,6 +14,9 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path deadlineManagerFilePath = Paths.get("data", "deadlinemanager.xml");
+    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.txt");
+    // directory of the managed attachment store, or null if attachments refer to the user's own files
+    private Path attachmentStorePath = null;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +42,22 @@ public class UserPrefs {
         this.deadlineManagerFilePath = deadlineManagerFilePath;
     }
 
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public Optional<Path> getAttachmentStorePath() {
+        return Optional.ofNullable(attachmentStorePath);
+    }
+
+    public void setAttachmentStorePath(Path attachmentStorePath) {
+        this.attachmentStorePath = attachmentStorePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +70,14 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-            && Objects.equals(deadlineManagerFilePath, o.deadlineManagerFilePath);
+            && Objects.equals(deadlineManagerFilePath, o.deadlineManagerFilePath)
+            && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+            && Objects.equals(attachmentStorePath, o.attachmentStorePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, deadlineManagerFilePath);
+        return Objects.hash(guiSettings, deadlineManagerFilePath, commandHistoryFilePath, attachmentStorePath);
     }
 
     @Override
@@ -63,6 +85,8 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + deadlineManagerFilePath);
+        sb.append("\nCommand history file location : " + commandHistoryFilePath);
+        sb.append("\nAttachment store location : " + attachmentStorePath);
         return sb.toString();
     }
 
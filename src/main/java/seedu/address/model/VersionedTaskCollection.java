@@ -1,38 +1,136 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import seedu.address.model.task.Task;
 
 /**
  * {@code TaskCollection} that keeps track of its own history.
+ * States are kept as immutable {@code TaskCollectionSnapshot}s. The latest published snapshot is
+ * held in an atomic reference, so other threads can read a consistent state of the deadline manager
+ * at any time without locking, while this collection is only modified by a single writer.
  */
 public class VersionedTaskCollection extends TaskCollection {
 
-    private final List<ReadOnlyTaskCollection> taskCollectionStateList;
+    private final List<TaskCollectionSnapshot> taskCollectionStateList;
+    private final AtomicReference<TaskCollectionSnapshot> latestSnapshot;
     private int currentStatePointer;
+    private boolean hasUnpublishedChanges;
 
     public VersionedTaskCollection(ReadOnlyTaskCollection initialState) {
         super(initialState);
 
+        latestSnapshot = new AtomicReference<>(new TaskCollectionSnapshot(0, getTaskList()));
+        hasUnpublishedChanges = false;
         taskCollectionStateList = new ArrayList<>();
-        taskCollectionStateList.add(new TaskCollection(initialState));
+        taskCollectionStateList.add(latestSnapshot.get());
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code TaskCollection} state at the end of the state list. Undone
-     * states are removed from the state list.
+     * Saves the current {@code TaskCollection} state at the end of the state list, publishing it if
+     * needed. Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        taskCollectionStateList.add(new TaskCollection(this));
+        taskCollectionStateList.add(publishSnapshot());
         currentStatePointer++;
     }
 
+    /**
+     * Publishes the current state as the latest snapshot if it has changed since the latest
+     * snapshot was published, and returns the latest snapshot.
+     */
+    public TaskCollectionSnapshot publishSnapshot() {
+        if (hasUnpublishedChanges) {
+            long version = latestSnapshot.get().getVersion() + 1;
+            latestSnapshot.set(new TaskCollectionSnapshot(version, getTaskList()));
+            hasUnpublishedChanges = false;
+        }
+        return latestSnapshot.get();
+    }
+
+    /**
+     * Returns a snapshot of the current state without publishing it. This is the latest published
+     * snapshot unless there are unpublished changes, in which case the state is copied into a new
+     * snapshot with the version the next published snapshot will have.
+     */
+    public TaskCollectionSnapshot getCurrentSnapshot() {
+        TaskCollectionSnapshot latest = latestSnapshot.get();
+        if (!hasUnpublishedChanges) {
+            return latest;
+        }
+        return new TaskCollectionSnapshot(latest.getVersion() + 1, getTaskList());
+    }
+
+    /**
+     * Returns the latest published snapshot. This method may be called from any thread.
+     */
+    public TaskCollectionSnapshot getLatestSnapshot() {
+        return latestSnapshot.get();
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        super.setTasks(tasks);
+        hasUnpublishedChanges = true;
+    }
+
+    @Override
+    public void addTask(Task task) {
+        super.addTask(task);
+        hasUnpublishedChanges = true;
+    }
+
+    @Override
+    public void addTasks(List<Task> tasks) {
+        super.addTasks(tasks);
+        hasUnpublishedChanges = true;
+    }
+
+    @Override
+    public void updateTask(Task target, Task editedTask) {
+        super.updateTask(target, editedTask);
+        hasUnpublishedChanges = true;
+    }
+
+    @Override
+    public void removeTask(Task key) {
+        super.removeTask(key);
+        hasUnpublishedChanges = true;
+    }
+
+    @Override
+    public void sort(Comparator<Task> comparator) {
+        super.sort(comparator);
+        hasUnpublishedChanges = true;
+    }
+
     private void removeStatesAfterCurrentPointer() {
         taskCollectionStateList.subList(currentStatePointer + 1, taskCollectionStateList.size()).clear();
     }
 
+    /**
+     * Publishes the current state and makes it the only state in the state list, so that it cannot
+     * be undone.
+     */
+    public void resetHistory() {
+        taskCollectionStateList.clear();
+        taskCollectionStateList.add(publishSnapshot());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Restores the deadline manager to its current state, discarding the changes made since that state
+     * was saved.
+     */
+    public void discardChanges() {
+        resetData(taskCollectionStateList.get(currentStatePointer));
+    }
+
     /**
      * Restores the deadline manager to its previous state.
      */
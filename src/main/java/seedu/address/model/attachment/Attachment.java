@@ -4,9 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileSystems;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -25,41 +26,44 @@ public class Attachment {
     private static final Logger logger = LogsCenter.getLogger(Attachment.class);
 
     public final File file;
-
+    private final String name;
+    // resolved once, as attachments are compared and hashed whenever the tasks holding them are
+    private final String absolutePath;
+    private final int hashCode;
 
     public Attachment(File file) {
+        this(file, file.getName());
+    }
+
+    /**
+     * Creates an attachment named {@code name} whose content is in {@code file}, such as a file in an
+     * {@link AttachmentStore}.
+     */
+    public Attachment(File file, String name) {
         requireNonNull(file);
+        requireNonNull(name);
         this.file = file;
+        this.name = name;
+        absolutePath = file.getAbsolutePath();
+        hashCode = Objects.hash(absolutePath, name);
     }
 
     /**
      * Checks if the attachment can be read by the system.
-     * THat is, if it exists, it is a file and it is possible for us to read it.
+     * That is, if it exists, it is a file and it is possible for us to read it.
+     * The check is answered from the shared {@link AttachmentMetadataCache} where possible.
      *
      * @return True if the attachment can be read by the system, False otherwise
      */
     public boolean isReadable() {
-        if (!file.exists()) {
-            logger.info(String.format("Attachment %s is not readable as file.exists() fails", file));
-            return false;
-        }
-        if (!file.isFile()) {
-            logger.info(String.format("Attachment %s is not readable as file.isFile() fails", file));
-            return false;
-        }
-        if (!file.canRead()) {
-            logger.info(String.format("Attachment %s is not readable as file.canRead() fails", file));
-            return false;
-        }
-        if (!Files.isReadable(FileSystems.getDefault().getPath(file.getPath()))) {
-            logger.info(String.format("Attachment %s is not readable as isReadable fails", file));
-            return false;
-        }
-        return true;
+        return AttachmentMetadataCache.getInstance().isReadable(this);
     }
 
     /**
-     * Copies the file from file to a specified location, overwriting the file at destination if a file exists
+     * Copies the file from file to a specified location, overwriting the file at destination if a file exists.
+     * Nothing is copied if the destination is the attachment's own file.
+     * The content is transferred between the files by the operating system where possible, without being
+     * copied through the application.
      *
      * @param savePath path to save the attachment to
      */
@@ -69,36 +73,50 @@ public class Attachment {
             throw new IOException("Invalid file path");
         }
         if (destination.exists()) {
+            if (Files.isSameFile(file.toPath(), destination.toPath())) {
+                // truncating the destination would empty the file to be copied
+                return destination;
+            }
             logger.warning(
                     String.format("Attachment destination %s will be overwritten.", destination.getAbsolutePath()));
         }
 
-        File copiedFile = Files.copy(file.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING).toFile();
-        return copiedFile;
+        try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(destination.toPath(), StandardOpenOption.WRITE,
+                 StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = source.size();
+            long position = 0;
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+        return destination;
     }
 
     /**
-     * @return Name of the attachment, which is the file name.
+     * @return Name of the attachment, which is the file name unless another name was given.
      */
     public String getName() {
-        return file.getName();
+        return name;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Attachment // instanceof handles nulls
-                    && file.getAbsolutePath().equals(((Attachment) other).file.getAbsolutePath())); // state check
+                    && hashCode == ((Attachment) other).hashCode
+                    && absolutePath.equals(((Attachment) other).absolutePath)
+                    && name.equals(((Attachment) other).name)); // state check
     }
 
     @Override
     public int hashCode() {
-        return file.getAbsolutePath().hashCode();
+        return hashCode;
     }
 
     @Override
     public String toString() {
-        return file.getName();
+        return name;
     }
 
     /**
@@ -0,0 +1,226 @@
+package seedu.address.model.attachment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import seedu.address.model.task.Task;
+
+/**
+ * Writes the attachments of a list of tasks into a ZIP archive, with one folder per task.
+ * Each folder is named after the position of the task in the list and its name, such as
+ * {@code 001 Assignment 1/}, so that tasks with the same name do not share a folder. Attachments whose
+ * names are the same once characters not allowed in file names are replaced, ignoring case, are told
+ * apart by a number, such as {@code a_b (2).txt}.
+ * Attachments are read ahead on an I/O pool while earlier ones are compressed, and written in order.
+ * Files larger than {@link #MAX_READ_AHEAD_SIZE} are not read ahead but streamed when they are written,
+ * so that memory use stays bounded. Attachments that cannot be read are left out of the archive.
+ */
+public class AttachmentArchive {
+
+    /** Size in bytes of the largest file that is read ahead into memory. */
+    public static final long MAX_READ_AHEAD_SIZE = 8 * 1024 * 1024;
+    /** Number of attachments read ahead of the one being written. */
+    public static final int READ_AHEAD_COUNT = 8;
+
+    private static final String INVALID_NAME_CHARACTERS = "\\/:*?\"<>|";
+    private static final char NAME_REPLACEMENT = '_';
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Attachment> skippedAttachments = new ArrayList<>();
+
+    /**
+     * Creates an archive of the attachments of {@code tasks}, in order. Attachments of a task are
+     * ordered by name.
+     */
+    public AttachmentArchive(List<Task> tasks) {
+        requireNonNull(tasks);
+        String positionFormat = "%0" + Integer.toString(tasks.size()).length() + "d %s/";
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            String folderName = String.format(positionFormat, i + 1, toEntryName(task.getName().value));
+            List<Attachment> attachments = new ArrayList<>(task.getAttachments());
+            attachments.sort(Comparator.comparing(Attachment::getName));
+            Set<String> usedNames = new HashSet<>();
+            for (Attachment attachment : attachments) {
+                String entryName = toUniqueName(toEntryName(attachment.getName()), usedNames);
+                entries.add(new Entry(folderName + entryName, attachment));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of attachments in the archive, including any that cannot be read.
+     */
+    public int getAttachmentCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the attachments left out of the archive by the last call to {@link #write}.
+     */
+    public List<Attachment> getSkippedAttachments() {
+        return Collections.unmodifiableList(skippedAttachments);
+    }
+
+    /**
+     * Writes the archive to {@code out}, reading files on {@code ioPool}, and reports the number of
+     * attachments processed to {@code progressListener} after each one. {@code out} is finished but not
+     * closed.
+     *
+     * @return the number of attachments written.
+     * @throws IOException if the archive cannot be written.
+     */
+    public int write(OutputStream out, ExecutorService ioPool, ProgressListener progressListener)
+        throws IOException {
+        requireAllNonNull(out, ioPool, progressListener);
+        skippedAttachments.clear();
+        Deque<Future<byte[]>> pendingReads = new ArrayDeque<>();
+        int nextRead = 0;
+        int writtenCount = 0;
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                while (nextRead < entries.size() && nextRead <= i + READ_AHEAD_COUNT) {
+                    Path file = entries.get(nextRead).attachment.file.toPath();
+                    pendingReads.add(ioPool.submit(() -> readAhead(file)));
+                    nextRead++;
+                }
+
+                Entry entry = entries.get(i);
+                if (writeEntry(zip, entry, pendingReads.remove())) {
+                    writtenCount++;
+                } else {
+                    skippedAttachments.add(entry.attachment);
+                }
+                progressListener.progress(i + 1, entries.size());
+            }
+            zip.finish();
+        } finally {
+            pendingReads.forEach(read -> read.cancel(true));
+        }
+        return writtenCount;
+    }
+
+    /**
+     * Returns the content of {@code file}, or null if it is too large to be read ahead.
+     */
+    private static byte[] readAhead(Path file) throws IOException {
+        if (Files.size(file) > MAX_READ_AHEAD_SIZE) {
+            return null;
+        }
+        return Files.readAllBytes(file);
+    }
+
+    /**
+     * Writes {@code entry} with the content read by {@code read}, or with the content of its file if it
+     * was not read ahead.
+     *
+     * @return false if the attachment cannot be read.
+     */
+    private static boolean writeEntry(ZipOutputStream zip, Entry entry, Future<byte[]> read) throws IOException {
+        byte[] content;
+        try {
+            content = read.get();
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading attachments", e);
+        }
+
+        if (content != null) {
+            zip.putNextEntry(new ZipEntry(entry.name));
+            zip.write(content);
+            zip.closeEntry();
+            return true;
+        }
+
+        InputStream in;
+        try {
+            in = Files.newInputStream(entry.attachment.file.toPath());
+        } catch (IOException e) {
+            return false;
+        }
+        try (InputStream fileIn = in) {
+            zip.putNextEntry(new ZipEntry(entry.name));
+            byte[] buffer = new byte[64 * 1024];
+            int length;
+            while ((length = fileIn.read(buffer)) != -1) {
+                zip.write(buffer, 0, length);
+            }
+            zip.closeEntry();
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code name} with the characters that are not allowed in file names replaced.
+     */
+    private static String toEntryName(String name) {
+        StringBuilder entryName = new StringBuilder(name.length());
+        for (char c : name.toCharArray()) {
+            boolean isInvalid = c < ' ' || INVALID_NAME_CHARACTERS.indexOf(c) >= 0;
+            entryName.append(isInvalid ? NAME_REPLACEMENT : c);
+        }
+        return entryName.toString().trim();
+    }
+
+    /**
+     * Returns {@code name}, numbered before its extension if it is in {@code usedNames} ignoring case, and
+     * adds the returned name to {@code usedNames}.
+     */
+    private static String toUniqueName(String name, Set<String> usedNames) {
+        String uniqueName = name;
+        int extensionIndex = name.lastIndexOf('.');
+        if (extensionIndex <= 0) {
+            extensionIndex = name.length();
+        }
+        for (int number = 2; !usedNames.add(uniqueName.toLowerCase(Locale.ROOT)); number++) {
+            uniqueName = name.substring(0, extensionIndex) + " (" + number + ")" + name.substring(extensionIndex);
+        }
+        return uniqueName;
+    }
+
+    /**
+     * Receives the progress of writing an archive.
+     */
+    public interface ProgressListener {
+        /**
+         * Called after {@code processedCount} of {@code totalCount} attachments have been written or skipped.
+         */
+        void progress(int processedCount, int totalCount);
+    }
+
+    /**
+     * An attachment and the name of its entry in the archive.
+     */
+    private static class Entry {
+        private final String name;
+        private final Attachment attachment;
+
+        Entry(String name, Attachment attachment) {
+            this.name = name;
+            this.attachment = attachment;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.attachment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * The state of the file of an attachment at the time it was read. Guarantees: immutable.
+ */
+public class AttachmentMetadata {
+
+    public static final AttachmentMetadata UNREADABLE = new AttachmentMetadata(false, 0, FileTime.fromMillis(0));
+
+    private final boolean isReadable;
+    private final long size;
+    private final FileTime lastModifiedTime;
+
+    public AttachmentMetadata(boolean isReadable, long size, FileTime lastModifiedTime) {
+        requireNonNull(lastModifiedTime);
+        this.isReadable = isReadable;
+        this.size = size;
+        this.lastModifiedTime = lastModifiedTime;
+    }
+
+    /**
+     * Reads the metadata of {@code file}, with one call to the file system for its attributes and, for a
+     * regular file, one more to check that the application may read it.
+     */
+    public static AttachmentMetadata read(Path file) {
+        requireNonNull(file);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            boolean isReadable = attributes.isRegularFile() && Files.isReadable(file);
+            return new AttachmentMetadata(isReadable, attributes.size(), attributes.lastModifiedTime());
+        } catch (IOException | SecurityException e) {
+            return UNREADABLE;
+        }
+    }
+
+    public boolean isReadable() {
+        return isReadable;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public FileTime getLastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AttachmentMetadata)) {
+            return false;
+        }
+
+        AttachmentMetadata otherMetadata = (AttachmentMetadata) other;
+        return isReadable == otherMetadata.isReadable
+            && size == otherMetadata.size
+            && lastModifiedTime.equals(otherMetadata.lastModifiedTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isReadable, size, lastModifiedTime);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("readable: %b, size: %d, last modified: %s", isReadable, size, lastModifiedTime);
+    }
+}
@@ -0,0 +1,288 @@
+package seedu.address.model.attachment;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Caches the metadata of attachment files, so that checking the status of an
+ * attachment is usually a memory lookup.
+ * Metadata is read in the background, and the parent directory of each file is watched so that the
+ * cached entries of files that are created, changed or deleted are dropped and read again when next needed.
+ * Files in directories that cannot be watched are read every time.
+ * At most {@link #MAX_WATCHED_DIRECTORIES} directories are watched at a time; when another directory is
+ * needed, the directory watched for the longest time stops being watched and its entries are dropped.
+ * The cache may briefly lag behind changes to the files, so copying a file can still fail after it was
+ * found readable.
+ * The threads and the watch service of a cache are released by {@link #close()}.
+ */
+public class AttachmentMetadataCache implements AutoCloseable {
+
+    /** Maximum number of directories watched at a time, which bounds the watches taken from the system. */
+    public static final int MAX_WATCHED_DIRECTORIES = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(AttachmentMetadataCache.class);
+    private static final int READER_THREAD_COUNT = 2;
+
+    private static AttachmentMetadataCache instance;
+
+    private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>();
+    /** The watched directories, oldest first. Guarded by itself. */
+    private final Map<Path, WatchKey> watchedDirectories = new LinkedHashMap<>();
+    private final ConcurrentMap<WatchKey, Path> watchKeyDirectories = new ConcurrentHashMap<>();
+    private final ExecutorService readers;
+    private final WatchService watchService;
+
+    /**
+     * Creates a cache that reads files on its own background threads.
+     * Files are not cached if the file system cannot be watched.
+     */
+    public AttachmentMetadataCache() {
+        readers = Executors.newFixedThreadPool(READER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "attachment-metadata-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchService = newWatchService();
+        if (watchService != null) {
+            Thread watcher = new Thread(this::processWatchEvents, "attachment-metadata-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
+
+    /**
+     * Returns the cache shared by the application.
+     */
+    public static synchronized AttachmentMetadataCache getInstance() {
+        if (instance == null) {
+            instance = new AttachmentMetadataCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Closes the cache shared by the application, if it was created. A later call to
+     * {@link #getInstance()} creates a new cache.
+     */
+    public static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the metadata of the file of {@code attachment}, which is read in the background if it is
+     * not cached.
+     */
+    public CompletableFuture<AttachmentMetadata> getMetadata(Attachment attachment) {
+        return getEntry(attachment).metadata;
+    }
+
+    /**
+     * Returns the metadata of the file of {@code attachment} if it is cached and has been read, without
+     * waiting.
+     */
+    public Optional<AttachmentMetadata> getCachedMetadata(Attachment attachment) {
+        requireNonNull(attachment);
+        Entry entry = entries.get(toPath(attachment));
+        if (entry == null || !entry.metadata.isDone()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.metadata.join());
+    }
+
+    /**
+     * Returns true if the file of {@code attachment} can be read, waiting for its metadata to be read
+     * if it is not cached.
+     */
+    public boolean isReadable(Attachment attachment) {
+        return getMetadata(attachment).join().isReadable();
+    }
+
+    /**
+     * Starts reading the metadata of the files of {@code attachments} that are not cached, without
+     * waiting for them to be read.
+     */
+    public void prefetch(Collection<Attachment> attachments) {
+        requireNonNull(attachments);
+        attachments.forEach(this::getMetadata);
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of directories being watched.
+     */
+    int getWatchedDirectoryCount() {
+        synchronized (watchedDirectories) {
+            return watchedDirectories.size();
+        }
+    }
+
+    /**
+     * Stops watching directories and stops the background threads once the reads already started are
+     * done. The cache must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        readers.shutdown();
+        if (watchService != null) {
+            try {
+                // also ends the watcher thread
+                watchService.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close the attachment watch service: " + e);
+            }
+        }
+        synchronized (watchedDirectories) {
+            watchedDirectories.clear();
+        }
+        watchKeyDirectories.clear();
+        entries.clear();
+    }
+
+    private Entry getEntry(Attachment attachment) {
+        requireNonNull(attachment);
+        Path file = toPath(attachment);
+        Entry entry = entries.get(file);
+        if (entry != null) {
+            return entry;
+        }
+
+        // the directory is watched before the file is read, so no change made after the read is missed,
+        // and the directory cannot stop being watched before the entry is added
+        Entry newEntry = new Entry();
+        synchronized (watchedDirectories) {
+            if (watch(file.getParent())) {
+                entry = entries.putIfAbsent(file, newEntry);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        }
+        readers.execute(() -> newEntry.metadata.complete(AttachmentMetadata.read(file)));
+        return newEntry;
+    }
+
+    /**
+     * Watches {@code directory} for changes to its files unless it is already watched, making room by
+     * no longer watching the oldest directory if too many are watched.
+     * Must be called while holding the lock on {@code watchedDirectories}.
+     *
+     * @return true if the directory is watched.
+     */
+    private boolean watch(Path directory) {
+        if (watchService == null || directory == null) {
+            return false;
+        }
+        if (watchedDirectories.containsKey(directory)) {
+            return true;
+        }
+        if (watchedDirectories.size() >= MAX_WATCHED_DIRECTORIES) {
+            Iterator<Map.Entry<Path, WatchKey>> oldest = watchedDirectories.entrySet().iterator();
+            Map.Entry<Path, WatchKey> unwatched = oldest.next();
+            oldest.remove();
+            unwatched.getValue().cancel();
+            watchKeyDirectories.remove(unwatched.getValue());
+            invalidateDirectory(unwatched.getKey());
+        }
+        try {
+            WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            watchKeyDirectories.put(key, directory);
+            watchedDirectories.put(directory, key);
+            return true;
+        } catch (IOException | ClosedWatchServiceException | UnsupportedOperationException e) {
+            logger.fine(String.format("Attachments in %s will not be cached: %s", directory, e));
+            return false;
+        }
+    }
+
+    /**
+     * Drops the cached entries of the files that change, until the watch service is closed.
+     */
+    private void processWatchEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = watchKeyDirectories.get(key);
+            if (directory == null) {
+                key.cancel();
+                continue;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    invalidateDirectory(directory);
+                } else {
+                    entries.remove(directory.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                // the directory is gone, so it has to be watched again if it is created again
+                synchronized (watchedDirectories) {
+                    watchKeyDirectories.remove(key);
+                    watchedDirectories.remove(directory, key);
+                    invalidateDirectory(directory);
+                }
+            }
+        }
+    }
+
+    private void invalidateDirectory(Path directory) {
+        entries.keySet().removeIf(file -> directory.equals(file.getParent()));
+    }
+
+    private static Path toPath(Attachment attachment) {
+        return attachment.file.toPath().toAbsolutePath().normalize();
+    }
+
+    private static WatchService newWatchService() {
+        try {
+            return FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warning("Attachment metadata will not be cached: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * The cached state of one file.
+     */
+    private static class Entry {
+        private final CompletableFuture<AttachmentMetadata> metadata = new CompletableFuture<>();
+    }
+}
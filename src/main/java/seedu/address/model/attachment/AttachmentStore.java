@@ -0,0 +1,161 @@
+package seedu.address.model.attachment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.task.Task;
+
+/**
+ * A directory of attachment files managed by the deadline manager, so that attachments remain available
+ * when the original files are moved or deleted.
+ * Each file is stored once, named after the SHA-256 digest of its content, and shared by every attachment
+ * with the same content. Files that no task refers to any more are removed by {@link #collectGarbage}.
+ */
+public class AttachmentStore {
+
+    private static final Logger logger = LogsCenter.getLogger(AttachmentStore.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Pattern BLOB_NAME_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+
+    public AttachmentStore(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Copies {@code file} into the store, unless the store already has a file with the same content, and
+     * returns an attachment to the stored file with the name of {@code file}.
+     * The file is read only once, its digest being computed as it is copied.
+     */
+    public Attachment add(File file) throws IOException {
+        requireNonNull(file);
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, null, TEMPORARY_FILE_SUFFIX);
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+                Files.copy(in, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Path blob = directory.resolve(toHex(digest.digest()));
+            if (Files.exists(blob)) {
+                logger.fine(String.format("%s has the same content as %s", file, blob));
+            } else {
+                Files.move(temporaryFile, blob, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new Attachment(blob.toFile(), file.getName());
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Returns true if the file of {@code attachment} is in the store.
+     */
+    public boolean contains(Attachment attachment) {
+        requireNonNull(attachment);
+        return directory.equals(attachment.file.toPath().toAbsolutePath().normalize().getParent());
+    }
+
+    /**
+     * Returns the number of attachments of {@code tasks} that refer to each file in the store.
+     * Files that are not referred to are left out.
+     */
+    public Map<Path, Integer> countReferences(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        Map<Path, Integer> referenceCounts = new HashMap<>();
+        for (Task task : tasks) {
+            for (Attachment attachment : task.getAttachments()) {
+                if (contains(attachment)) {
+                    referenceCounts.merge(attachment.file.toPath().toAbsolutePath().normalize(), 1, Integer::sum);
+                }
+            }
+        }
+        return referenceCounts;
+    }
+
+    /**
+     * Deletes the files in the store that no attachment of {@code tasks} refers to, along with files
+     * left behind by additions that did not complete.
+     * Other files in the directory are not touched.
+     *
+     * @return the number of files deleted.
+     */
+    public int collectGarbage(Collection<Task> tasks) throws IOException {
+        requireNonNull(tasks);
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        Map<Path, Integer> referenceCounts = countReferences(tasks);
+        int deletedCount = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                boolean isUnreferencedBlob = BLOB_NAME_PATTERN.matcher(fileName).matches()
+                    && !referenceCounts.containsKey(file);
+                if (isUnreferencedBlob || fileName.endsWith(TEMPORARY_FILE_SUFFIX)) {
+                    Files.delete(file);
+                    deletedCount++;
+                }
+            }
+        }
+        logger.info(String.format("Deleted %d unused file(s) from the attachment store", deletedCount));
+        return deletedCount;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform implements SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[2 * bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AttachmentStore // instanceof handles nulls
+                && directory.equals(((AttachmentStore) other).directory)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return directory.hashCode();
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
+import com.google.common.collect.MapMaker;
+
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.task.FilterOperator;
 import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
@@ -13,12 +16,17 @@ import seedu.address.model.task.exceptions.InvalidPredicateTestPhraseException;
 /**
  * Represents a Tag in the deadline manager. Guarantees: immutable; name is valid as declared in {@link
  * #isValidTagName(String)}
+ * Tags obtained through {@link #of(String)} are shared: there is one instance for each tag name in use,
+ * so tags that repeat across tasks cost no extra memory and compare by reference.
  */
 public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** Shared tags by name, which are dropped once no task uses them. Lock-striped, so threads rarely wait. */
+    private static final ConcurrentMap<String, Tag> sharedTags = new MapMaker().weakValues().makeMap();
+
     public final String tagName;
 
     /**
@@ -32,11 +40,29 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, creating it if there is none.
+     * A tag is only constructed, and its name validated, the first time the name is used.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = sharedTags.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        Tag newTag = new Tag(tagName);
+        tag = sharedTags.putIfAbsent(tagName, newTag);
+        return tag == null ? newTag : tag;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        // equivalent to TAG_VALIDATION_REGEX, without compiling it
+        return StringUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -2,11 +2,7 @@ package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.DateFormat;
-import java.text.ParsePosition;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Locale;
+import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
@@ -14,28 +10,23 @@ import seedu.address.model.task.exceptions.InvalidPredicateTestPhraseException;
 
 /**
  * Represents a Task's deadline in the deadline manager. Guarantees: immutable; represents a valid date
+ * The date is held as an epoch day, so deadlines can be compared and hashed as numbers on any thread.
  */
 public class Deadline implements Comparable<Deadline> {
 
     public static final String MESSAGE_DEADLINE_CONSTRAINTS = "Deadline has to be a valid date";
 
-    private static DateFormat dateFormatter;
-
-    public final Date value;
-
-    static {
-        dateFormatter = new DeadlineDateFormat(new Locale("en", "SG"));
-        dateFormatter.setLenient(false);
-    }
+    /** Number of days since 1/1/1970. */
+    public final long value;
 
     /**
      * Constructs a {@code Deadline}.
      *
      * @param deadline A valid deadline.
      */
-    public Deadline(Date deadline) {
+    public Deadline(LocalDate deadline) {
         requireNonNull(deadline);
-        this.value = deadline;
+        this.value = deadline.toEpochDay();
     }
 
     /**
@@ -45,23 +36,25 @@ public class Deadline implements Comparable<Deadline> {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-
-        ParsePosition parsePosition = new ParsePosition(0);
-        this.value = dateFormatter.parse(deadline, parsePosition);
-        if (this.value == null || parsePosition.getIndex() != deadline.length()) {
-            throw new IllegalArgumentException(MESSAGE_DEADLINE_CONSTRAINTS);
+        try {
+            this.value = DeadlineDateFormat.parse(deadline);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MESSAGE_DEADLINE_CONSTRAINTS, e);
         }
     }
 
     /**
-     * Returns a new {@code Deadline}
+     * Returns the date of this deadline.
      */
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(value);
+    }
 
+    /**
+     * Returns a new {@code Deadline} {@code days} days after this one.
+     */
     public Deadline addDays(int days) {
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(value);
-        cal.add(Calendar.DATE, days);
-        return new Deadline(cal.getTime());
+        return new Deadline(toLocalDate().plusDays(days));
     }
 
     /**
@@ -93,23 +86,23 @@ public class Deadline implements Comparable<Deadline> {
 
     @Override
     public String toString() {
-        return dateFormatter.format(value);
+        return DeadlineDateFormat.format(value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Deadline // instanceof handles nulls
-                    && value.equals(((Deadline) other).value)); // state check
+                    && value == ((Deadline) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 
     @Override
     public int compareTo(Deadline other) {
-        return this.value.compareTo(other.value);
+        return Long.compare(this.value, other.value);
     }
 }
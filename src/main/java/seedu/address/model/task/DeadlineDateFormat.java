@@ -1,147 +1,121 @@
 package seedu.address.model.task;
 
-import java.text.DateFormat;
-import java.text.FieldPosition;
-import java.text.ParsePosition;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
-import java.util.Locale;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoField;
 
 /**
- * Date formatter that accepts dates such as 1/10/2018 and 1/10 (year inferred to this year).
- * Two-digit year will be interpreted literally (not in the current century).
- * It is used in the Deadline class for parsing dates.
+ * Parses and formats deadline dates, such as 1/10/2018 and 1/10 (year inferred to this year), as epoch
+ * days (days since 1/1/1970). Two-digit year will be interpreted literally (not in the current century).
+ * Dates are in the proleptic Gregorian calendar. It holds no state, so it can be used from any thread.
  */
-public class DeadlineDateFormat extends DateFormat {
+public final class DeadlineDateFormat {
 
     private static final char SEPARATOR = '/';
+    /** Maximum number of digits in a day, month or year, which keeps every number within an int. */
+    private static final int MAX_DIGITS = 9;
+    private static final int MIN_YEAR = 1;
+    private static final int MIN_FOUR_DIGIT_YEAR = 1000;
 
-    public DeadlineDateFormat(Locale locale) {
-        calendar = new GregorianCalendar(locale);
-        calendar.setLenient(false);
-    }
-
-    @Override
-    public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
-        calendar.setTime(date);
-        toAppendTo.append(calendar.get(Calendar.DAY_OF_MONTH));
-        toAppendTo.append(SEPARATOR);
-        toAppendTo.append(calendar.get(Calendar.MONTH) + 1);
-        toAppendTo.append(SEPARATOR);
-        toAppendTo.append(String.format("%04d", calendar.get(Calendar.YEAR)));
-        return toAppendTo;
+    private DeadlineDateFormat() {
     }
 
-    @Override
-    public Date parse(String source, ParsePosition pos) {
-        try {
-            int firstSepIndex = advanceToEndOfNumber(source, pos.getIndex());
-
-            if (firstSepIndex == source.length() || source.charAt(firstSepIndex) != SEPARATOR) {
-                // cannot find first separator
-                // return an error
-                pos.setErrorIndex(firstSepIndex);
-                return null;
-            }
-
-            int dayInt = Integer.parseUnsignedInt(source, pos.getIndex(), firstSepIndex, 10);
-            int secondSepIndex = advanceToEndOfNumber(source, firstSepIndex + 1);
-            int monthInt = Integer.parseUnsignedInt(source, firstSepIndex + 1, secondSepIndex, 10) - 1;
-
-            if (secondSepIndex == source.length() || source.charAt(firstSepIndex) != SEPARATOR) {
-                // cannot find second separator
-                // take the current year
-                calendar.setTime(new Date());
-                setCalendarDate(dayInt, monthInt);
-                pos.setIndex(secondSepIndex);
-                return calendar.getTime();
-            }
-
-            int thirdSepIndex = advanceToEndOfNumber(source, secondSepIndex + 1);
-            int yearInt = Integer.parseUnsignedInt(source, secondSepIndex + 1, thirdSepIndex, 10);
+    /**
+     * Returns the epoch day of the date in {@code source}, in day/month or day/month/year format.
+     *
+     * @throws IllegalArgumentException if {@code source} is not a valid date.
+     */
+    public static long parse(String source) {
+        requireNonNull(source);
+        int firstSepIndex = advanceToEndOfNumber(source, 0);
+        if (firstSepIndex == source.length() || source.charAt(firstSepIndex) != SEPARATOR) {
+            throw new IllegalArgumentException("Missing separator after day: " + source);
+        }
+        int day = parseNumber(source, 0, firstSepIndex);
 
-            // use the full year
-            calendar.setTime(new Date());
-            setCalendarDate(dayInt, monthInt, yearInt);
-            pos.setIndex(thirdSepIndex);
-            return calendar.getTime();
+        int secondSepIndex = advanceToEndOfNumber(source, firstSepIndex + 1);
+        int month = parseNumber(source, firstSepIndex + 1, secondSepIndex);
+        if (secondSepIndex == source.length()) {
+            // take the current year
+            return toEpochDay(LocalDate.now().getYear(), month, day);
+        }
+        if (source.charAt(secondSepIndex) != SEPARATOR) {
+            throw new IllegalArgumentException("Unexpected character after month: " + source);
+        }
 
-        } catch (NumberFormatException e) {
-            pos.setErrorIndex(pos.getIndex());
-            return null;
+        int endIndex = advanceToEndOfNumber(source, secondSepIndex + 1);
+        if (endIndex != source.length()) {
+            throw new IllegalArgumentException("Unexpected character after year: " + source);
         }
+        int year = parseNumber(source, secondSepIndex + 1, endIndex);
+        return toEpochDay(year, month, day);
     }
 
     /**
-     * Traverse the given string until the first non-digit character (i.e. not [0-9]).
-     *
-     * @param source    The original string.
-     * @param currIndex The current position in the string.
-     * @return The index of the first non-digit character.
+     * Returns the date of {@code epochDay} in day/month/year format, with the year in at least four digits.
      */
-    private int advanceToEndOfNumber(String source, int currIndex) {
-        while (currIndex < source.length() && isDecimalDigit(source.charAt(currIndex))) {
-            ++currIndex;
+    public static String format(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        StringBuilder formatted = new StringBuilder(10);
+        formatted.append(date.getDayOfMonth()).append(SEPARATOR).append(date.getMonthValue()).append(SEPARATOR);
+        int year = date.getYear();
+        for (int bound = MIN_FOUR_DIGIT_YEAR; bound > 1 && year < bound; bound /= 10) {
+            formatted.append('0');
         }
-        return currIndex;
+        return formatted.append(year).toString();
     }
 
     /**
-     * Set the current Calendar to the given date.
+     * Returns the epoch day of the given date.
      *
-     * @param dayInt   The day of month.
-     * @param monthInt The month of year.
-     * @param yearInt  The year.
-     * @throws NumberFormatException if the day, month, or year is not within the valid range.
+     * @throws IllegalArgumentException if the day, month, or year is not within the valid range.
      */
-    private void setCalendarDate(int dayInt, int monthInt, int yearInt) throws NumberFormatException {
-        if (isWithinRange(Calendar.YEAR, yearInt)) {
-            calendar.set(Calendar.YEAR, yearInt);
-        } else {
-            throw new NumberFormatException();
+    private static long toEpochDay(int year, int month, int day) {
+        if (year < MIN_YEAR || year > Year.MAX_VALUE) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        if (!ChronoField.MONTH_OF_YEAR.range().isValidIntValue(month)) {
+            throw new IllegalArgumentException("Month out of range: " + month);
+        }
+        try {
+            // LocalDate.of checks the day against the length of the month
+            return LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-
-        setCalendarDate(dayInt, monthInt);
     }
 
     /**
-     * Set the current Calendar to the given date, using the current year.
+     * Returns the number made up of the digits of {@code source} from {@code beginIndex} to {@code endIndex}.
      *
-     * @param dayInt   The day of month.
-     * @param monthInt The month of year.
-     * @throws NumberFormatException if the day or month is not within the valid range.
+     * @throws IllegalArgumentException if there are no digits, or too many.
      */
-    private void setCalendarDate(int dayInt, int monthInt) throws NumberFormatException {
-        if (isWithinRange(Calendar.MONTH, monthInt)) {
-            calendar.set(Calendar.MONTH, monthInt);
-        } else {
-            throw new NumberFormatException();
+    private static int parseNumber(String source, int beginIndex, int endIndex) {
+        if (beginIndex == endIndex || endIndex - beginIndex > MAX_DIGITS) {
+            throw new IllegalArgumentException("Invalid number: " + source);
         }
-
-        if (isWithinRange(Calendar.DAY_OF_MONTH, dayInt)) {
-            calendar.set(Calendar.DAY_OF_MONTH, dayInt);
-        } else {
-            throw new NumberFormatException();
+        int number = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            number = 10 * number + (source.charAt(i) - '0');
         }
-
-        calendar.set(Calendar.HOUR_OF_DAY, 0);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
+        return number;
     }
 
     /**
-     * Determine if the given value is within the valid range for the given calendar field.
+     * Traverse the given string until the first non-digit character (i.e. not [0-9]).
      *
-     * @param field The calendar field.
-     * @param value The value that we want to determine the validity.
-     * @return True if the given value is valid, false otherwise.
+     * @param source    The original string.
+     * @param currIndex The current position in the string.
+     * @return The index of the first non-digit character.
      */
-    private boolean isWithinRange(int field, int value) {
-        int tmp1 = calendar.getActualMinimum(field);
-        int tmp2 = calendar.getActualMaximum(field);
-        return calendar.getActualMinimum(field) <= value && calendar.getActualMaximum(field) >= value;
+    private static int advanceToEndOfNumber(String source, int currIndex) {
+        while (currIndex < source.length() && isDecimalDigit(source.charAt(currIndex))) {
+            ++currIndex;
+        }
+        return currIndex;
     }
 
     /**
@@ -150,7 +124,7 @@ public class DeadlineDateFormat extends DateFormat {
      * @param ch The given character.
      * @return True if the given character is a digit, false otherwise.
      */
-    private boolean isDecimalDigit(char ch) {
+    private static boolean isDecimalDigit(char ch) {
         return ch >= '0' && ch <= '9';
     }
 
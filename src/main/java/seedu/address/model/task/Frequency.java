@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
 import seedu.address.model.task.exceptions.InvalidPredicateTestPhraseException;
 
@@ -55,7 +56,8 @@ public class Frequency implements Comparable<Frequency> {
      * Returns true if a given string is a valid frequency number.
      */
     public static boolean isValidFrequency(String test) {
-        return test.matches(FREQUENCY_VALIDATION_REGEX);
+        // equivalent to FREQUENCY_VALIDATION_REGEX, without compiling it
+        return StringUtil.isDigits(test);
     }
 
     /**
@@ -40,7 +40,17 @@ public class Name implements Comparable<Name> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        // checked by hand as names are validated for every task loaded; equivalent to NAME_VALIDATION_REGEX
+        if (test.isEmpty() || !StringUtil.isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -49,7 +49,8 @@ public class Priority implements Comparable<Priority> {
      * Returns true if a given string is a valid priority number.
      */
     public static boolean isValidPriority(String test) {
-        return test.matches(PRIORITY_VALIDATION_REGEX);
+        // equivalent to PRIORITY_VALIDATION_REGEX, without compiling it
+        return test.length() == 1 && test.charAt(0) >= '0' && test.charAt(0) <= '0' + LARGEST_PRIORITY_VALUE;
     }
 
     /**
@@ -1,10 +1,16 @@
 package seedu.address.model.task;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 
+import java.util.AbstractSet;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.attachment.Attachment;
@@ -13,17 +19,24 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Task in the deadline manager. Guarantees: details are present and not null, field values
  * are validated, immutable.
+ * Tags are held in a compact unmodifiable set, as most tasks have few of them, and attachments in an
+ * unmodifiable map by name, which {@link #getAttachments()} views as a set. The hash code is computed only once.
  */
 public class Task {
     private final Name name;
     private final Priority priority;
     private final Frequency frequency;
     private final Deadline deadline;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Attachment> attachments = new HashSet<>();
+    private final Set<Tag> tags;
+    /** Attachments by name, which is unique within a task, in the iteration order they were given in. */
+    private final Map<String, Attachment> attachments;
+    /** Set view of the values of {@link #attachments}. */
+    private final Set<Attachment> attachmentSet;
+    /** Cached hash code, or 0 if it has not been computed. */
+    private int hash;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null, and no two attachments may have the same name.
      */
     public Task(Name name, Priority priority, Frequency frequency, Deadline deadline,
             Set<Tag> tags, Set<Attachment> attachments) {
@@ -32,15 +45,38 @@ public class Task {
         this.priority = priority;
         this.frequency = frequency;
         this.deadline = deadline;
-        this.tags.addAll(tags);
-        this.attachments.addAll(attachments);
+        this.tags = toCompactSet(tags);
+        this.attachments = toAttachmentMap(attachments);
+        this.attachmentSet = this.attachments.isEmpty()
+                ? Collections.emptySet()
+                : new AttachmentSet(this.attachments);
+    }
+
+    /**
+     * Returns an unmodifiable map of {@code attachments} by name, taking no more space than needed.
+     * Duplicate names are rejected while the map is built.
+     */
+    private static Map<String, Attachment> toAttachmentMap(Set<Attachment> attachments) {
+        switch (attachments.size()) {
+        case 0:
+            return Collections.emptyMap();
+        case 1:
+            Attachment attachment = attachments.iterator().next();
+            return Collections.singletonMap(attachment.getName(), attachment);
+        default:
+            Map<String, Attachment> attachmentMap = new LinkedHashMap<>(2 * attachments.size());
+            for (Attachment a : attachments) {
+                checkArgument(attachmentMap.put(a.getName(), a) == null, Attachment.MESSAGE_DUPLICATE_ATTACHMENT_NAME);
+            }
+            return Collections.unmodifiableMap(attachmentMap);
+        }
     }
 
     /**
      * Convenience constructor. Tasks are initialized without any attachments.
      */
     public Task(Name name, Priority priority, Frequency frequency, Deadline deadline, Set<Tag> tags) {
-        this(name, priority, frequency, deadline, tags, new HashSet<>());
+        this(name, priority, frequency, deadline, tags, Collections.emptySet());
     }
 
     /**
@@ -71,7 +107,7 @@ public class Task {
      * modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -79,9 +115,22 @@ public class Task {
      * modification is attempted.
      */
     public Set<Attachment> getAttachments() {
-        return Collections.unmodifiableSet(attachments);
+        return attachmentSet;
+    }
+
+    /**
+     * Returns the attachment named {@code name}, if there is one.
+     */
+    public Optional<Attachment> getAttachment(String name) {
+        return Optional.ofNullable(attachments.get(name));
     }
 
+    /**
+     * Returns true if the task has an attachment named {@code name}.
+     */
+    public boolean hasAttachment(String name) {
+        return attachments.containsKey(name);
+    }
 
     /**
      * Returns true if both tasks have the same identity and data fields. This defines a stronger
@@ -97,18 +146,28 @@ public class Task {
             return false;
         }
         Task otherTask = (Task) other;
-        return otherTask.getName().equals(getName())
+        return otherTask.hashCode() == hashCode()
+                && otherTask.getName().equals(getName())
                 && otherTask.getPriority().equals(getPriority())
                 && otherTask.getFrequency().equals(getFrequency())
                 && otherTask.getTags().equals(getTags())
                 && otherTask.getDeadline().equals(getDeadline())
-                && otherTask.getAttachments().equals(getAttachments());
+                && otherTask.attachmentSet.equals(attachmentSet);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, priority, frequency, tags, deadline, attachments);
+        int h = hash;
+        if (h == 0) {
+            h = name.hashCode();
+            h = 31 * h + priority.hashCode();
+            h = 31 * h + Objects.hashCode(frequency);
+            h = 31 * h + tags.hashCode();
+            h = 31 * h + deadline.hashCode();
+            h = 31 * h + attachmentSet.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -128,4 +187,30 @@ public class Task {
         return builder.toString();
     }
 
+    /**
+     * An unmodifiable set view of the values of a map of attachments by name, which finds an attachment
+     * by its name instead of comparing it with every attachment.
+     */
+    private static class AttachmentSet extends AbstractSet<Attachment> {
+        private final Map<String, Attachment> attachments;
+
+        AttachmentSet(Map<String, Attachment> attachments) {
+            this.attachments = attachments;
+        }
+
+        @Override
+        public Iterator<Attachment> iterator() {
+            return attachments.values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return attachments.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Attachment && o.equals(attachments.get(((Attachment) o).getName()));
+        }
+    }
 }
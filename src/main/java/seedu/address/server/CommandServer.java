@@ -0,0 +1,393 @@
+package seedu.address.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.TaskCollectionParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * A local HTTP server that executes commands, for scripts and dashboards running on the same machine.
+ * The server only listens on the loopback interface, and only serves requests that
+ * <ul>
+ *     <li>carry the token written to the token file as {@code Authorization: Bearer <token>}. A new token is
+ *     generated every time the server starts, and the file is only readable by the user.</li>
+ *     <li>have a loopback {@code Host} header, so that the server cannot be reached through DNS rebinding.</li>
+ *     <li>have no {@code Origin} header, so that web pages opened in a browser cannot send commands.</li>
+ * </ul>
+ * Unless the server is started with changes allowed, it only executes read-only commands.
+ * <ul>
+ *     <li>{@code POST /command} executes the command in the request body, which uses the same grammar
+ *     as the command box. It returns the result and the resulting task list as JSON.</li>
+ *     <li>{@code GET /tasks} returns all tasks as JSON.</li>
+ * </ul>
+ * Read-only commands (see {@link Command#isReadOnly()}) run concurrently, each on a private view of
+ * the latest snapshot of the model, and do not affect the tasks shown in the application. Other
+ * commands are executed through {@link Logic#executeAsync(String)}, in order with the commands
+ * entered in the application.
+ */
+public class CommandServer {
+
+    public static final String COMMAND_PATH = "/command";
+    public static final String TASKS_PATH = "/tasks";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed: %s";
+    public static final String MESSAGE_INTERNAL_ERROR = "Internal error: %s";
+    public static final String MESSAGE_UNAUTHORIZED = "Missing or invalid token";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not allowed";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Host not allowed: %s";
+    public static final String MESSAGE_CHANGES_NOT_ALLOWED =
+        "The command server is read-only, only list, filter and sort commands are allowed";
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final int REQUEST_THREAD_COUNT = 4;
+    private static final int TOKEN_BYTE_COUNT = 32;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> LOOPBACK_HOST_NAMES = Set.of("localhost", "127.0.0.1", "::1");
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final Path tokenFile;
+    private final byte[] expectedAuthorization;
+    private final boolean allowsChanges;
+
+    private CommandServer(HttpServer server, Path tokenFile, String token, boolean allowsChanges, Logic logic,
+                          Model model) {
+        this.server = server;
+        this.tokenFile = tokenFile;
+        this.expectedAuthorization = (BEARER_PREFIX + token).getBytes(UTF_8);
+        this.allowsChanges = allowsChanges;
+        this.logic = logic;
+        this.model = model;
+        requestExecutor = Executors.newFixedThreadPool(REQUEST_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "command-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext(COMMAND_PATH, this::handleCommandRequest);
+        server.createContext(TASKS_PATH, this::handleTasksRequest);
+    }
+
+    /**
+     * Starts a server on the loopback interface at {@code port}, or at any free port if {@code port}
+     * is 0. A new token is written to {@code tokenFile}, replacing the file if it exists.
+     *
+     * @param allowsChanges whether commands that are not read-only are executed.
+     * @throws IOException if the token file cannot be written or the server cannot listen on {@code port}.
+     */
+    public static CommandServer start(int port, Path tokenFile, boolean allowsChanges, Logic logic, Model model)
+        throws IOException {
+        requireNonNull(tokenFile);
+        requireNonNull(logic);
+        requireNonNull(model);
+        String token = generateToken();
+        writeTokenFile(tokenFile, token);
+        HttpServer httpServer;
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            Files.deleteIfExists(tokenFile);
+            throw e;
+        }
+        CommandServer commandServer = new CommandServer(httpServer, tokenFile, token, allowsChanges, logic, model);
+        httpServer.start();
+        logger.info("Command server listening on " + httpServer.getAddress() + ", token in " + tokenFile);
+        return commandServer;
+    }
+
+    /**
+     * Returns a random token encoded in URL-safe Base64.
+     */
+    private static String generateToken() {
+        byte[] token = new byte[TOKEN_BYTE_COUNT];
+        new SecureRandom().nextBytes(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Writes {@code token} to a new {@code tokenFile} that only the user can read and write.
+     */
+    private static void writeTokenFile(Path tokenFile, String token) throws IOException {
+        FileUtil.createParentDirsOfFile(tokenFile);
+        Files.deleteIfExists(tokenFile);
+        if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(
+                PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(tokenFile);
+            File file = tokenFile.toFile();
+            file.setReadable(false, false);
+            file.setWritable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(true, true);
+        }
+        Files.write(tokenFile, token.getBytes(UTF_8));
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, abandoning requests still being handled, and deletes the token file.
+     */
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            logger.warning("Failed to delete the command server token file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void handleCommandRequest(HttpExchange exchange) throws IOException {
+        handle(exchange, "POST", () -> {
+            String commandText = new String(exchange.getRequestBody().readAllBytes(), UTF_8).trim();
+            try {
+                return new ResultResponse(execute(commandText));
+            } catch (ChangesNotAllowedException e) {
+                return new ErrorResponse(HTTP_FORBIDDEN, e.getMessage());
+            } catch (CommandException | ParseException e) {
+                return new ErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+            }
+        });
+    }
+
+    private void handleTasksRequest(HttpExchange exchange) throws IOException {
+        handle(exchange, "GET", () -> new ResultResponse(new Result(null, getLatestTasks())));
+    }
+
+    /**
+     * Executes {@code commandText} and returns its result together with the resulting tasks.
+     *
+     * @throws ChangesNotAllowedException if the command is not read-only and changes are not allowed.
+     */
+    Result execute(String commandText) throws CommandException, ParseException {
+        Command command = new TaskCollectionParser().parseCommand(commandText);
+        if (!command.isReadOnly() && !allowsChanges) {
+            throw new ChangesNotAllowedException();
+        }
+        if (command.isReadOnly()) {
+            SnapshotModel view = new SnapshotModel(model.getTaskCollectionSnapshot());
+            CommandResult result = command.execute(view, new CommandHistory(1));
+            return new Result(result.feedbackToUser, view.getFilteredTaskList());
+        }
+
+        try {
+            CommandResult result = logic.executeAsync(commandText).get();
+            // the snapshot is published before the command completes
+            return new Result(result.feedbackToUser, getLatestTasks());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(String.format(MESSAGE_INTERNAL_ERROR, e));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw new CommandException(String.format(MESSAGE_INTERNAL_ERROR, e.getCause()));
+        }
+    }
+
+    private List<Task> getLatestTasks() {
+        return model.getTaskCollectionSnapshot().getTaskList();
+    }
+
+    /**
+     * Returns the reason to reject the request of {@code exchange}, or null if it may be served.
+     */
+    private ErrorResponse checkRequest(HttpExchange exchange) {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return new ErrorResponse(HTTP_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+        }
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (!isLoopbackHost(host)) {
+            return new ErrorResponse(HTTP_FORBIDDEN, String.format(MESSAGE_FORBIDDEN_HOST, host));
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !MessageDigest.isEqual(expectedAuthorization, authorization.getBytes(UTF_8))) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            return new ErrorResponse(HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a {@code Host} header, names the loopback interface.
+     */
+    static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        String hostName;
+        if (host.startsWith("[")) {
+            int end = host.indexOf(']');
+            if (end < 0) {
+                return false;
+            }
+            hostName = host.substring(1, end);
+        } else {
+            int portIndex = host.lastIndexOf(':');
+            hostName = portIndex < 0 ? host : host.substring(0, portIndex);
+        }
+        return LOOPBACK_HOST_NAMES.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Responds to {@code exchange} with the response from {@code handler} if the request is allowed and
+     * uses {@code method}.
+     */
+    private void handle(HttpExchange exchange, String method, RequestHandler handler) throws IOException {
+        try {
+            Response response = checkRequest(exchange);
+            if (response != null) {
+                logger.warning("Rejected request " + exchange.getRequestURI() + " from "
+                    + exchange.getRemoteAddress());
+            } else if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                response = new ErrorResponse(HTTP_METHOD_NOT_ALLOWED,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod()));
+            } else {
+                response = handler.handle();
+            }
+
+            byte[] body = JsonUtil.toJsonString(response).getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.getStatus(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle request " + exchange.getRequestURI() + ": " + e);
+            exchange.sendResponseHeaders(HTTP_INTERNAL_ERROR, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Signals that a command that is not read-only was sent to a server that does not allow changes.
+     */
+    static class ChangesNotAllowedException extends CommandException {
+        ChangesNotAllowedException() {
+            super(MESSAGE_CHANGES_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * Produces the response to a request.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Response handle() throws IOException;
+    }
+
+    /**
+     * The feedback of a command and the tasks to show for it.
+     */
+    static class Result {
+
+        final String feedbackToUser;
+        final List<Task> tasks;
+
+        Result(String feedbackToUser, List<Task> tasks) {
+            this.feedbackToUser = feedbackToUser;
+            this.tasks = Collections.unmodifiableList(new ArrayList<>(tasks));
+        }
+    }
+
+    /**
+     * A response serialized to JSON.
+     */
+    private abstract static class Response {
+        abstract int getStatus();
+    }
+
+    /**
+     * A successful response, serialized as {@code {"result": ..., "tasks": [...]}}.
+     */
+    private static class ResultResponse extends Response {
+
+        private final String result;
+        private final List<JsonAdaptedTask> tasks;
+
+        ResultResponse(Result source) {
+            result = source.feedbackToUser;
+            tasks = source.tasks.stream().map(JsonAdaptedTask::new).collect(Collectors.toList());
+        }
+
+        @Override
+        int getStatus() {
+            return HTTP_OK;
+        }
+    }
+
+    /**
+     * A failed response, serialized as {@code {"error": ...}}.
+     */
+    private static class ErrorResponse extends Response {
+
+        private final transient int status;
+        private final String error;
+
+        ErrorResponse(int status, String error) {
+            this.status = status;
+            this.error = error;
+        }
+
+        @Override
+        int getStatus() {
+            return status;
+        }
+    }
+}
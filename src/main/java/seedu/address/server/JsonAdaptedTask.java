@@ -0,0 +1,33 @@
+package seedu.address.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.task.Task;
+
+/**
+ * JSON-friendly version of {@link Task}, as returned by the command server.
+ */
+class JsonAdaptedTask {
+
+    private final String name;
+    private final String priority;
+    private final String frequency;
+    private final String deadline;
+    private final List<String> tags;
+    private final List<String> attachments;
+
+    /**
+     * Converts a given Task into this class for Jackson use.
+     */
+    JsonAdaptedTask(Task source) {
+        name = source.getName().value;
+        priority = source.getPriority().toString();
+        frequency = source.getFrequency().toString();
+        deadline = source.getDeadline().toString();
+        tags = source.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+        attachments = source.getAttachments().stream().map(Attachment::getName).sorted()
+            .collect(Collectors.toList());
+    }
+}
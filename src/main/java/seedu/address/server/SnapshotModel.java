@@ -0,0 +1,165 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.events.storage.ImportDataAvailableEvent;
+import seedu.address.model.ImportConflictResolver;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.TaskCollectionSnapshot;
+import seedu.address.model.attachment.AttachmentStore;
+import seedu.address.model.task.Task;
+
+/**
+ * A private, read-only {@code Model} over a snapshot of the deadline manager.
+ * Read-only commands executed on it may filter and sort its own copy of the tasks, but any attempt
+ * to change the tasks throws {@code UnsupportedOperationException}. Each instance is meant to be
+ * used by one thread only, and it does not listen to events.
+ */
+class SnapshotModel implements Model {
+
+    public static final String MESSAGE_READ_ONLY = "Tasks cannot be changed through a snapshot";
+
+    private final TaskCollectionSnapshot snapshot;
+    private final TaskCollection taskCollection;
+    private final FilteredList<Task> filteredTasks;
+
+    SnapshotModel(TaskCollectionSnapshot snapshot) {
+        requireNonNull(snapshot);
+        this.snapshot = snapshot;
+        taskCollection = new TaskCollection(snapshot);
+        filteredTasks = new FilteredList<>(taskCollection.getTaskList());
+    }
+
+    @Override
+    public TaskCollectionSnapshot getTaskCollectionSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public Optional<AttachmentStore> getAttachmentStore() {
+        return Optional.empty();
+    }
+
+    @Override
+    public ReadOnlyTaskCollection getTaskCollection() {
+        return taskCollection;
+    }
+
+    @Override
+    public boolean hasTask(Task task) {
+        return taskCollection.hasTask(task);
+    }
+
+    @Override
+    public ObservableList<Task> getFilteredTaskList() {
+        return FXCollections.unmodifiableObservableList(filteredTasks);
+    }
+
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate) {
+        requireNonNull(predicate);
+        filteredTasks.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateSortedTaskList(Comparator<Task> comparator) {
+        requireNonNull(comparator);
+        taskCollection.sort(comparator);
+    }
+
+    @Override
+    public boolean canUndoTaskCollection() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedoTaskCollection() {
+        return false;
+    }
+
+    @Override
+    public void resetData(ReadOnlyTaskCollection newData) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteTask(Task target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addTask(Task task) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void updateTask(Task target, Task editedTask) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void undoTaskCollection() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void redoTaskCollection() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void commitTaskCollection() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addLoadedTasks(List<Task> tasks) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void finishLoading() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void failLoading(Exception cause) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void beginBatch() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void endBatch() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void exportTaskCollection(String filename, boolean shouldOverwrite, Optional<CsvFormat> csvFormat) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void importTaskCollection(String filename, ImportConflictResolver mode) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void handleImportDataAvailableEvent(ImportDataAvailableEvent event) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the command history.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the most recent commands in the storage, from the oldest to the most recent.
+     * Returns an empty list if the storage file is not found.
+     *
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Appends {@code commandText} to the storage.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void appendCommandHistory(String commandText) throws IOException;
+
+    /**
+     * Appends {@code commandTexts} to the storage, from the oldest to the most recent, in a single write.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void appendCommandHistory(List<String> commandTexts) throws IOException;
+
+}
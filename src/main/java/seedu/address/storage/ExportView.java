@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.task.Task;
+
+/**
+ * A read-only view of the tasks in an unchanging list that match a filter, used to export them.
+ * The view only records the positions of the matching tasks, so the tasks are not copied. As the
+ * tasks are read in order, the number of tasks read so far is reported to a {@link ProgressListener}
+ * about {@link #PROGRESS_REPORT_COUNT} times in all.
+ */
+class ExportView implements ReadOnlyTaskCollection {
+
+    static final int PROGRESS_REPORT_COUNT = 100;
+
+    private final ObservableList<Task> tasks;
+
+    /**
+     * Creates a view of the tasks in {@code source} that match {@code filter}.
+     * {@code source} must not change while the view is in use.
+     */
+    ExportView(List<Task> source, Predicate<? super Task> filter, ProgressListener progressListener) {
+        requireNonNull(source);
+        requireNonNull(filter);
+        requireNonNull(progressListener);
+        int[] positions = IntStream.range(0, source.size()).filter(i -> filter.test(source.get(i))).toArray();
+        tasks = new TaskList(source, positions, progressListener);
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    /**
+     * Receives the progress of reading the tasks of an {@code ExportView}.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+        void onProgress(int readTaskCount, int totalTaskCount);
+    }
+
+    /**
+     * The matching tasks, which reports progress as they are read. Any attempt to change the list
+     * throws {@code UnsupportedOperationException}.
+     */
+    private static class TaskList extends ObservableListBase<Task> {
+
+        private final List<Task> source;
+        private final int[] positions;
+        private final ProgressListener progressListener;
+        private final int reportInterval;
+        private int nextReport;
+
+        TaskList(List<Task> source, int[] positions, ProgressListener progressListener) {
+            this.source = source;
+            this.positions = positions;
+            this.progressListener = progressListener;
+            reportInterval = Math.max(1, positions.length / PROGRESS_REPORT_COUNT);
+            nextReport = Math.min(reportInterval, positions.length);
+        }
+
+        @Override
+        public Task get(int index) {
+            Objects.checkIndex(index, positions.length);
+            int readTaskCount = index + 1;
+            if (readTaskCount >= nextReport) {
+                progressListener.onProgress(readTaskCount, positions.length);
+                nextReport = readTaskCount == positions.length
+                    ? Integer.MAX_VALUE
+                    : Math.min(readTaskCount + reportInterval, positions.length);
+            }
+            return source.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+}
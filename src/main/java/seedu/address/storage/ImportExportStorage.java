@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.TaskCollection;
@@ -33,11 +34,24 @@ public interface ImportExportStorage {
      * @param taskCollection cannot be null. The task collection to be saved.
      * @param filePath the destination to save the file
      * @param shouldOverwrite if the file exists, whether the file should be overwritten.
-     * @param isCsvFormat whether the task collection should be saved as a CSV or a XML file.
+     * @param isCsvFormat whether the task collection should be saved as a CSV file in the default
+     *                    {@link CsvFormat}, or a XML file.
      * @throws IOException
      */
+    default void exportTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath, boolean shouldOverwrite,
+                                      boolean isCsvFormat)
+        throws IOException {
+        exportTaskCollection(taskCollection, filePath, shouldOverwrite,
+            isCsvFormat ? Optional.of(CsvFormat.DEFAULT) : Optional.empty());
+    }
+
+    /**
+     * Saves the given {@link ReadOnlyTaskCollection} to the path specified, as a CSV file in
+     * {@code csvFormat} if it is present, or as a XML file otherwise.
+     * @see #exportTaskCollection(ReadOnlyTaskCollection, Path, boolean, boolean)
+     */
     void exportTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath, boolean shouldOverwrite,
-                              boolean isCsvFormat)
+                              Optional<CsvFormat> csvFormat)
         throws IOException;
 
 }
@@ -2,8 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.ExportRequestEvent;
 import seedu.address.commons.events.model.ImportRequestEvent;
 import seedu.address.commons.events.model.TaskCollectionChangedEvent;
@@ -15,7 +18,8 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends ImportExportStorage, TaskCollectionStorage, UserPrefsStorage {
+public interface Storage extends ImportExportStorage, TaskCollectionStorage, UserPrefsStorage,
+    CommandHistoryStorage {
 
     String MESSAGE_WRITE_FILE_EXISTS_ERROR = "Save file at %s already exists."
             + " Please rename or force export with the r/overwrite flag.";
@@ -26,6 +30,7 @@ public interface Storage extends ImportExportStorage, TaskCollectionStorage, Use
             + " Double check your import file.";
     String MESSAGE_READ_FILE_PARSE_ERROR = "Failed to read file at %s."
             + " The file format is incompatible with Deadine Manager.";
+    String MESSAGE_READ_CSV_FILE_ERROR = "Failed to import the CSV file at %s.\n%s";
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -33,6 +38,9 @@ public interface Storage extends ImportExportStorage, TaskCollectionStorage, Use
     @Override
     void saveUserPrefs(UserPrefs userPrefs) throws IOException;
 
+    @Override
+    List<String> readCommandHistory() throws IOException;
+
     @Override
     Path getTaskCollectionFilePath();
 
@@ -48,7 +56,7 @@ public interface Storage extends ImportExportStorage, TaskCollectionStorage, Use
 
     @Override
     void exportTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath, boolean shouldOverwrite,
-                              boolean isCsvFormat)
+                              Optional<CsvFormat> csvFormat)
         throws IOException;
 
     /**
@@ -57,9 +65,25 @@ public interface Storage extends ImportExportStorage, TaskCollectionStorage, Use
      */
     void handleTaskCollectionChangedEvent(TaskCollectionChangedEvent abce);
 
+    /**
+     * Exports the requested tasks in the background. Problems with the file path are reported at once
+     * through an {@code ImportExportExceptionEvent}, and the outcome of the export through an
+     * {@code ExportFinishedEvent}.
+     */
     void handleExportRequestEvent(ExportRequestEvent ere);
 
     void handleImportRequestEvent(ImportRequestEvent ire);
 
+    /**
+     * Appends the newly entered command to the command history file. Failures are logged, as losing
+     * a history entry does not affect the user's data.
+     */
+    void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent chce);
+
+    /**
+     * Waits for the exports in progress to finish, and stops accepting new exports.
+     */
+    void stop();
+
 }
 
@@ -3,41 +3,84 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.ExportRequestEvent;
 import seedu.address.commons.events.model.ImportRequestEvent;
 import seedu.address.commons.events.model.TaskCollectionChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportFinishedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 import seedu.address.commons.events.storage.ImportDataAvailableEvent;
 import seedu.address.commons.events.storage.ImportExportExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.csvstorage.CsvTaskCollectionReadStorage;
 import seedu.address.storage.csvstorage.CsvTaskCollectionWriteStorage;
 import seedu.address.storage.xmlstorage.XmlTaskCollectionStorage;
 
 /**
  * Manages storage of TaskCollection data in local storage.
+ * Exports requested through events are written in the background, one at a time, so that the user
+ * can keep working while a large export is written.
  */
 public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String CSV_FILE_EXTENSION = ".csv";
     private TaskCollectionStorage privateTaskCollectionStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
+    private final ExecutorService exportExecutor;
 
     public StorageManager(TaskCollectionStorage privateTaskCollectionStorage,
-                          UserPrefsStorage userPrefsStorage) {
+                          UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage) {
+        this(privateTaskCollectionStorage, userPrefsStorage, commandHistoryStorage,
+            Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "export-worker");
+                thread.setDaemon(true);
+                return thread;
+            }));
+    }
+
+    StorageManager(TaskCollectionStorage privateTaskCollectionStorage,
+                   UserPrefsStorage userPrefsStorage,
+                   CommandHistoryStorage commandHistoryStorage,
+                   ExecutorService exportExecutor) {
         super();
         this.privateTaskCollectionStorage = privateTaskCollectionStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
+        this.exportExecutor = exportExecutor;
+    }
+
+    @Override
+    public void stop() {
+        exportExecutor.shutdown();
+        try {
+            exportExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while finishing exports");
+            Thread.currentThread().interrupt();
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -57,6 +100,39 @@ public class StorageManager extends ComponentManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        commandHistoryStorage.appendCommandHistory(commandText);
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> commandTexts) throws IOException {
+        commandHistoryStorage.appendCommandHistory(commandTexts);
+    }
+
+    @Override
+    @Subscribe
+    public void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event) {
+        try {
+            appendCommandHistory(event.commandTexts);
+        } catch (IOException e) {
+            logger.warning("Failed to save command history : " + StringUtil.getDetails(e));
+        }
+    }
+
     // ================ TaskCollection methods ==============================
 
     @Override
@@ -94,24 +170,34 @@ public class StorageManager extends ComponentManager implements Storage {
         if (!fileExists(filePath)) {
             throw new IOException(MESSAGE_READ_FILE_MISSING_ERROR);
         }
-        TaskCollectionReadStorage importExportStorage = new XmlTaskCollectionStorage(filePath);
+        boolean isCsvFile = isCsvFile(filePath);
+        TaskCollectionReadStorage importExportStorage = isCsvFile
+            ? new CsvTaskCollectionReadStorage(filePath)
+            : new XmlTaskCollectionStorage(filePath);
         logger.fine("Attempting to import from file: " + filePath);
         try {
             return importExportStorage.readTaskCollection(filePath);
         } catch (DataConversionException dce) {
+            if (isCsvFile) {
+                // the rows at fault are worth reporting, as they can be fixed in a spreadsheet
+                throw new IOException(String.format(MESSAGE_READ_CSV_FILE_ERROR, filePath,
+                    dce.getCause().getMessage()), dce);
+            }
             throw new IOException(String.format(MESSAGE_READ_FILE_PARSE_ERROR, filePath));
         }
     }
 
+    private static boolean isCsvFile(Path filePath) {
+        return CompressionUtil.getUncompressedFileName(filePath).toLowerCase().endsWith(CSV_FILE_EXTENSION);
+    }
+
     @Override
     public void exportTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath, boolean shouldOverwrite,
-                                     boolean isCsvFormat)
+                                     Optional<CsvFormat> csvFormat)
         throws IOException {
-        if (!shouldWriteToPath(filePath, shouldOverwrite)) {
-            throw new IOException(String.format(MESSAGE_WRITE_FILE_EXISTS_ERROR, filePath));
-        }
+        checkExportPath(filePath, shouldOverwrite);
         TaskCollectionWriteStorage exportStorage =
-            createExportStorageFromPathname(filePath, isCsvFormat);
+            createExportStorageFromPathname(filePath, csvFormat);
         logger.fine("Attempting to export to file: " + filePath);
         try {
             exportStorage.saveTaskCollection(taskCollection);
@@ -120,6 +206,19 @@ public class StorageManager extends ComponentManager implements Storage {
         }
     }
 
+    /**
+     * Checks that an export can be written to {@code filePath}.
+     * @throws IOException if the file exists and should not be overwritten, or is a directory.
+     */
+    private void checkExportPath(Path filePath, boolean shouldOverwrite) throws IOException {
+        if (!shouldWriteToPath(filePath, shouldOverwrite)) {
+            throw new IOException(String.format(MESSAGE_WRITE_FILE_EXISTS_ERROR, filePath));
+        }
+        if (Files.isDirectory(filePath)) {
+            throw new IOException(String.format(MESSAGE_WRITE_FILE_NO_PERMISSION_ERROR, filePath));
+        }
+    }
+
     /**
      * Determines whether export should be written to the path, or we should abort the export.
      * @param filePath path to write to
@@ -155,22 +254,46 @@ public class StorageManager extends ComponentManager implements Storage {
             return;
         }
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Exporting file"));
+        Path filePath;
         try {
-            exportTaskCollection(event.data, getPathFromFileName(event.filename), event.overwrite, event.isCsvFormat);
+            // problems that can be found quickly are reported to the command that requested the export
+            filePath = getPathFromFileName(event.filename);
+            checkExportPath(filePath, event.overwrite);
         } catch (IOException e) {
             raise(new ImportExportExceptionEvent(e));
+            return;
+        }
+        exportExecutor.execute(() -> exportInBackground(event, filePath));
+    }
+
+    /**
+     * Exports the tasks requested by {@code event} to {@code filePath}, raising
+     * {@code ExportProgressEvent}s while the tasks are written and an {@code ExportFinishedEvent} at the end.
+     */
+    private void exportInBackground(ExportRequestEvent event, Path filePath) {
+        ExportView exportView = new ExportView(event.data.getTaskList(), event.filter,
+            (readTaskCount, totalTaskCount) ->
+                raise(new ExportProgressEvent(event.filename, readTaskCount, totalTaskCount)));
+        int taskCount = exportView.getTaskList().size();
+        try {
+            exportTaskCollection(exportView, filePath, event.overwrite, event.csvFormat);
+            raise(new ExportFinishedEvent(event.filename, taskCount, null));
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to export to " + filePath + ": " + StringUtil.getDetails(e));
+            raise(new ExportFinishedEvent(event.filename, taskCount, e));
         }
     }
 
     /**
      * Creates the relevant write storage from pathname and whether CSV is required.
      * @param pathname the pathname to export to
-     * @param isCsvFormat whether the file should be exported in CSV format (or xml otherwise)
+     * @param csvFormat the CSV dialect to export in, or empty to export in xml
      * @return a TaskCollectionWriteStorage that can be used to export.
      */
-    private TaskCollectionWriteStorage createExportStorageFromPathname(Path pathname, boolean isCsvFormat) {
-        if (isCsvFormat) {
-            return new CsvTaskCollectionWriteStorage(pathname);
+    private TaskCollectionWriteStorage createExportStorageFromPathname(Path pathname,
+                                                                       Optional<CsvFormat> csvFormat) {
+        if (csvFormat.isPresent()) {
+            return new CsvTaskCollectionWriteStorage(pathname, csvFormat.get());
         } else {
             return new XmlTaskCollectionStorage(pathname);
         }
@@ -188,7 +311,11 @@ public class StorageManager extends ComponentManager implements Storage {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Importing file"));
         try {
             ReadOnlyTaskCollection data = importTaskCollection(getPathFromFileName(event.filename)).get();
-            raise(new ImportDataAvailableEvent(data));
+            Optional<ReadOnlyTaskCollection> base = Optional.empty();
+            if (event.baseFilename.isPresent()) {
+                base = importTaskCollection(getPathFromFileName(event.baseFilename.get()));
+            }
+            raise(new ImportDataAvailableEvent(data, base));
         } catch (IOException ioe) {
             raise(new ImportExportExceptionEvent(ioe));
         }
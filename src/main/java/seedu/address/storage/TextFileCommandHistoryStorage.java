@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored in the hard disk as a text file, one command per line.
+ * Commands are appended to the file as they are entered. The file keeps at most {@code maxEntries}
+ * commands that are read back, and is compacted when it is read and holds more than twice that.
+ */
+public class TextFileCommandHistoryStorage implements CommandHistoryStorage {
+
+    public static final String MESSAGE_MAX_ENTRIES_CONSTRAINTS = "Maximum number of entries must be positive";
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private final int maxEntries;
+
+    public TextFileCommandHistoryStorage(Path filePath, int maxEntries) {
+        requireNonNull(filePath);
+        checkArgument(maxEntries > 0, MESSAGE_MAX_ENTRIES_CONSTRAINTS);
+        this.filePath = filePath;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        if (lines.size() <= maxEntries) {
+            return lines;
+        }
+
+        List<String> recentLines = new ArrayList<>(lines.subList(lines.size() - maxEntries, lines.size()));
+        if (lines.size() > 2 * maxEntries) {
+            Files.write(filePath, recentLines, StandardCharsets.UTF_8);
+        }
+        return recentLines;
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        requireNonNull(commandText);
+        appendCommandHistory(Collections.singletonList(commandText));
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> commandTexts) throws IOException {
+        requireNonNull(commandTexts);
+        StringBuilder lines = new StringBuilder();
+        for (String commandText : commandTexts) {
+            // a command is stored on a single line
+            lines.append(commandText.replace('\r', ' ').replace('\n', ' ')).append(LINE_SEPARATOR);
+        }
+        FileUtil.createIfMissing(filePath);
+        Files.write(filePath, lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+}
@@ -1,7 +1,23 @@
 package seedu.address.storage.csvstorage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Frequency;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
 import seedu.address.model.task.Task;
 
 /**
@@ -9,29 +25,263 @@ import seedu.address.model.task.Task;
  */
 public class CsvAdaptedTask {
 
+    public static final String ALL_DAY_EVENT = "True";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+
     private String name;
     private String deadline;
+    private String priority;
+    private String frequency;
+    private List<String> tags;
+    private List<String> attachments;
 
     /**
-     * Constructs an {@code XmlAdaptedTask} with the given task details.
+     * Constructs a {@code CsvAdaptedTask} with the given task details.
      */
-    public CsvAdaptedTask(String name, String deadline) {
-        this.name = pad(name);
+    public CsvAdaptedTask(String name, String deadline, String priority, String frequency, List<String> tags,
+                          List<String> attachments) {
+        this.name = name;
         this.deadline = deadline;
+        this.priority = priority;
+        this.frequency = frequency;
+        this.tags = new ArrayList<>(tags);
+        this.attachments = new ArrayList<>(attachments);
     }
 
     /**
-     * Converts a given Task into this class for JAXB use.
+     * Converts a given Task into this class for CSV use.
+     * Tags and attachments are sorted, so that a task is always written the same way.
      *
-     * @param source future changes to this will not affect the created XmlAdaptedTask
+     * @param source future changes to this will not affect the created CsvAdaptedTask
      */
     public CsvAdaptedTask(Task source) {
-        name = pad(source.getName().toString());
+        name = source.getName().toString();
         deadline = source.getDeadline().toString();
+        priority = source.getPriority().toString();
+        frequency = source.getFrequency().toString();
+        tags = source.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+        attachments = source.getAttachments().stream().map(attachment -> attachment.file.getPath()).sorted()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts the fields of a row in {@code format} into this class. {@code columns} gives the column of
+     * each field; fields of other columns are ignored. A task without a priority or frequency column gets
+     * no priority or frequency, as when it is added without one.
+     */
+    public static CsvAdaptedTask fromFields(List<String> fields, List<CsvFormat.Column> columns,
+                                            CsvFormat format) {
+        requireNonNull(fields);
+        requireNonNull(columns);
+        requireNonNull(format);
+        String name = null;
+        String deadline = null;
+        String priority = Priority.NO_PRIORITY;
+        String frequency = Frequency.NO_FREQUENCY;
+        List<String> tags = new ArrayList<>();
+        List<String> attachments = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String field = i < fields.size() ? fields.get(i).trim() : null;
+            if (columns.get(i) == null) {
+                continue;
+            }
+            switch (columns.get(i)) {
+            case SUBJECT:
+                name = field;
+                break;
+            case START_DATE:
+                deadline = field;
+                break;
+            case PRIORITY:
+                priority = field;
+                break;
+            case FREQUENCY:
+                frequency = field;
+                break;
+            case TAGS:
+                tags = splitValues(field, format);
+                break;
+            case ATTACHMENTS:
+                attachments = splitValues(field, format);
+                break;
+            default:
+                break;
+            }
+        }
+        return new CsvAdaptedTask(name, deadline, priority, frequency, tags, attachments);
     }
 
-    private String pad(String input) {
-        return "'" + input + "'";
+    /**
+     * Returns the values in {@code field}, separated by the value separator of {@code format}. An escape
+     * character followed by itself or by the first character of the separator stands for that character;
+     * any other escape character is kept as it is, so that paths written by hand need no escaping.
+     * Blank values are skipped.
+     */
+    private static List<String> splitValues(String field, CsvFormat format) {
+        List<String> values = new ArrayList<>();
+        if (field == null || field.isEmpty()) {
+            return values;
+        }
+        String separator = format.getValueSeparator();
+        StringBuilder value = new StringBuilder();
+        int i = 0;
+        while (i < field.length()) {
+            char ch = field.charAt(i);
+            if (ch == CsvFormat.VALUE_ESCAPE && i + 1 < field.length() && isEscaped(field.charAt(i + 1), separator)) {
+                value.append(field.charAt(i + 1));
+                i += 2;
+            } else if (field.startsWith(separator, i)) {
+                addValue(values, value);
+                i += separator.length();
+            } else {
+                value.append(ch);
+                i++;
+            }
+        }
+        addValue(values, value);
+        return values;
+    }
+
+    private static void addValue(List<String> values, StringBuilder value) {
+        String trimmed = value.toString().trim();
+        if (!trimmed.isEmpty()) {
+            values.add(trimmed);
+        }
+        value.setLength(0);
+    }
+
+    /**
+     * Returns {@code values} separated by the value separator of {@code format}. Within each value, the
+     * escape character and the first character of the separator are escaped, so that no separator can
+     * start inside a value, even with a separator of several characters.
+     */
+    private static String joinValues(List<String> values, CsvFormat format) {
+        String separator = format.getValueSeparator();
+        StringBuilder field = new StringBuilder();
+        for (String value : values) {
+            if (field.length() > 0) {
+                field.append(separator);
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                if (isEscaped(ch, separator)) {
+                    field.append(CsvFormat.VALUE_ESCAPE);
+                }
+                field.append(ch);
+            }
+        }
+        return field.toString();
+    }
+
+    private static boolean isEscaped(char ch, String separator) {
+        return ch == CsvFormat.VALUE_ESCAPE || ch == separator.charAt(0);
+    }
+
+    /**
+     * Converts this CSV-friendly adapted task object into the model's Task object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task
+     */
+    public Task toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        // each constructor validates its field, so fields are validated once
+        final Name modelName;
+        try {
+            modelName = new Name(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS, e);
+        }
+
+        if (priority == null) {
+            throw new IllegalValueException(
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Priority.class.getSimpleName()));
+        }
+        final Priority modelPriority;
+        try {
+            modelPriority = new Priority(priority);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Priority.MESSAGE_PRIORITY_CONSTRAINTS, e);
+        }
+
+        if (frequency == null) {
+            throw new IllegalValueException(
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Frequency.class.getSimpleName()));
+        }
+        final Frequency modelFrequency;
+        try {
+            modelFrequency = new Frequency(frequency);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Frequency.MESSAGE_FREQUENCY_CONSTRAINTS, e);
+        }
+
+        if (deadline == null) {
+            throw new IllegalValueException(
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Deadline.class.getSimpleName()));
+        }
+        Deadline modelDeadline;
+        try {
+            modelDeadline = new Deadline(deadline);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Deadline.MESSAGE_DEADLINE_CONSTRAINTS, e);
+        }
+
+        final Set<Tag> modelTags = new HashSet<>();
+        for (String tag : tags) {
+            try {
+                modelTags.add(Tag.of(tag));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS, e);
+            }
+        }
+
+        final Set<Attachment> modelAttachments = new HashSet<>();
+        Set<String> attachmentNames = new HashSet<>();
+        for (String filePath : attachments) {
+            Attachment attachment = new Attachment(new File(filePath));
+            if (!attachmentNames.add(attachment.getName())) {
+                throw new IllegalValueException(Attachment.MESSAGE_DUPLICATE_ATTACHMENT_NAME);
+            }
+            modelAttachments.add(attachment);
+        }
+
+        return new Task(modelName, modelPriority, modelFrequency,
+            modelDeadline, modelTags, modelAttachments);
+    }
+
+    /**
+     * Returns the fields of this task for the columns of {@code format}, in order.
+     */
+    public List<String> getFields(CsvFormat format) {
+        requireNonNull(format);
+        List<String> fields = new ArrayList<>(format.getColumns().size());
+        for (CsvFormat.Column column : format.getColumns()) {
+            fields.add(getField(column, format));
+        }
+        return fields;
+    }
+
+    private String getField(CsvFormat.Column column, CsvFormat format) {
+        switch (column) {
+        case SUBJECT:
+            return name;
+        case START_DATE:
+            return deadline;
+        case ALL_DAY_EVENT:
+            return ALL_DAY_EVENT;
+        case PRIORITY:
+            return priority;
+        case FREQUENCY:
+            return frequency;
+        case TAGS:
+            return joinValues(tags, format);
+        case ATTACHMENTS:
+            return joinValues(attachments, format);
+        default:
+            throw new AssertionError("Unknown column " + column);
+        }
     }
 
     @Override
@@ -45,11 +295,11 @@ public class CsvAdaptedTask {
         }
 
         CsvAdaptedTask otherTask = (CsvAdaptedTask) other;
-        return Objects.equals(name, otherTask.name) && Objects.equals(deadline, otherTask.deadline);
-    }
-
-    @Override
-    public String toString() {
-        return name + ", " + deadline + ", " + "True";
+        return Objects.equals(name, otherTask.name)
+            && Objects.equals(deadline, otherTask.deadline)
+            && Objects.equals(priority, otherTask.priority)
+            && Objects.equals(frequency, otherTask.frequency)
+            && tags.equals(otherTask.tags)
+            && attachments.equals(otherTask.attachments);
     }
 }
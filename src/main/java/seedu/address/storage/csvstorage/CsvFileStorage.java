@@ -1,25 +1,276 @@
 package seedu.address.storage.csvstorage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.zip.ZipException;
 
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.Task;
 
 /**
- * Stores deadline manager data in an XML file
+ * Stores deadline manager data in a CSV file
  */
 public class CsvFileStorage {
 
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row must name the columns, including %s and %s.";
+    public static final String MESSAGE_ROW_ERROR = "Line %d: %s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "... and %d more rows with errors.";
+
+    /** Number of rows converted together by one task of the fork-join pool. */
+    static final int CHUNK_SIZE = 2048;
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int MAX_HEADER_LENGTH = 8192;
+    private static final char[] DELIMITERS = {',', ';', '\t'};
+
     /**
-     * Saves the given deadline manager data to the specified file.
+     * Saves the given deadline manager data to the specified file in {@code format}.
+     * The tasks are written one row at a time through a buffer, so memory use does not grow with the
+     * number of tasks. The file is compressed if its name says so (see {@link CompressionUtil}).
      */
-    public static void saveDataToFile(Path file, CsvSerializableTaskCollection taskCollection)
+    public static void saveDataToFile(Path file, ReadOnlyTaskCollection taskCollection, CsvFormat format)
         throws IOException {
-        try {
-            FileUtil.writeToFile(file, taskCollection.toString());
+        try (CsvWriter writer = new CsvWriter(
+            new BufferedWriter(new OutputStreamWriter(CompressionUtil.newOutputStream(file), UTF_8)), format)) {
+            if (format.hasHeader()) {
+                writer.writeRow(format.getColumns().stream().map(column -> column.header)
+                    .collect(Collectors.toList()));
+            }
+            for (Task task : taskCollection.getTaskList()) {
+                writer.writeRow(new CsvAdaptedTask(task).getFields(format));
+            }
         } catch (IOException e) {
             throw new IOException("Could not write data to file.", e);
         }
     }
 
+    /**
+     * Loads the tasks in the CSV file at {@code file}, decompressing it if its name says so, and keeping
+     * the order of the rows.
+     * The first row names the columns, and its delimiter decides the dialect of the file; columns that
+     * are not known are ignored. See {@link #loadDataFromFile(Path, ForkJoinPool)}.
+     */
+    public static TaskCollection loadDataFromFile(Path file) throws DataConversionException, IOException {
+        return loadDataFromFile(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads the tasks in the CSV file at {@code file}, converting them on {@code pool}.
+     * Rows are read from disk one at a time and converted to tasks in chunks, in parallel. Only a few
+     * chunks are kept in memory at any time, so the reader waits for the oldest chunk if conversion
+     * falls behind.
+     *
+     * @throws DataConversionException if the file has no header or any row is invalid. Its cause
+     *     describes the first few invalid rows by their line numbers.
+     */
+    public static TaskCollection loadDataFromFile(Path file, ForkJoinPool pool)
+        throws DataConversionException, IOException {
+        try (BufferedReader in = new BufferedReader(
+            new InputStreamReader(CompressionUtil.newInputStream(file), UTF_8.newDecoder()))) {
+            skipByteOrderMark(in);
+            CsvFormat format = detectFormat(in);
+            CsvReader reader = new CsvReader(in, format);
+            List<CsvFormat.Column> columns = readHeader(reader);
+
+            int maxPendingChunks = 2 * pool.getParallelism();
+            Deque<ForkJoinTask<List<ConvertedRow>>> pendingChunks = new ArrayDeque<>();
+            RowCollector collector = new RowCollector();
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> fields;
+            while ((fields = reader.readRow()) != null) {
+                if (fields.size() == 1 && fields.get(0).trim().isEmpty()) {
+                    continue;
+                }
+                chunk.add(new Row(reader.getRowLineNumber(), fields));
+                if (chunk.size() == CHUNK_SIZE) {
+                    pendingChunks.add(pool.submit(convertChunk(chunk, columns, format)));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+                if (pendingChunks.size() >= maxPendingChunks) {
+                    collector.collect(pendingChunks.remove().join());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pendingChunks.add(pool.submit(convertChunk(chunk, columns, format)));
+            }
+            while (!pendingChunks.isEmpty()) {
+                collector.collect(pendingChunks.remove().join());
+            }
+            return collector.toTaskCollection();
+        } catch (IllegalValueException | ZipException | EOFException e) {
+            // a compressed file that is not in its format, or is cut short, is corrupt data
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static void skipByteOrderMark(BufferedReader in) throws IOException {
+        in.mark(1);
+        if (in.read() != BYTE_ORDER_MARK) {
+            in.reset();
+        }
+    }
+
+    /**
+     * Returns the dialect of the file read by {@code in}, from the delimiter used most often in its
+     * first line. The first line is not consumed.
+     */
+    private static CsvFormat detectFormat(BufferedReader in) throws IOException {
+        in.mark(MAX_HEADER_LENGTH);
+        int[] counts = new int[DELIMITERS.length];
+        int ch;
+        int length = 0;
+        while (length++ < MAX_HEADER_LENGTH && (ch = in.read()) != -1 && ch != '\r' && ch != '\n') {
+            for (int i = 0; i < DELIMITERS.length; i++) {
+                if (ch == DELIMITERS[i]) {
+                    counts[i]++;
+                }
+            }
+        }
+        in.reset();
+
+        int mostUsed = 0;
+        for (int i = 1; i < DELIMITERS.length; i++) {
+            if (counts[i] > counts[mostUsed]) {
+                mostUsed = i;
+            }
+        }
+        switch (DELIMITERS[mostUsed]) {
+        case ';':
+            return CsvFormat.DEFAULT.withValueSeparator(",").withDelimiter(';');
+        case '\t':
+            return CsvFormat.DEFAULT.withDelimiter('\t');
+        default:
+            return CsvFormat.DEFAULT;
+        }
+    }
+
+    /**
+     * Reads the header row and returns the column of each field, or null for fields naming an unknown
+     * column.
+     */
+    private static List<CsvFormat.Column> readHeader(CsvReader reader) throws IOException, IllegalValueException {
+        List<String> headers = reader.readRow();
+        List<CsvFormat.Column> columns = new ArrayList<>();
+        if (headers != null) {
+            for (String header : headers) {
+                columns.add(findColumn(header.trim()));
+            }
+        }
+        if (!columns.contains(CsvFormat.Column.SUBJECT) || !columns.contains(CsvFormat.Column.START_DATE)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMNS,
+                CsvFormat.Column.SUBJECT.header, CsvFormat.Column.START_DATE.header));
+        }
+        return columns;
+    }
+
+    private static CsvFormat.Column findColumn(String header) {
+        for (CsvFormat.Column column : CsvFormat.Column.values()) {
+            if (column.header.equalsIgnoreCase(header)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    private static ForkJoinTask<List<ConvertedRow>> convertChunk(List<Row> chunk, List<CsvFormat.Column> columns,
+                                                                  CsvFormat format) {
+        return ForkJoinTask.adapt(() -> {
+            List<ConvertedRow> convertedRows = new ArrayList<>(chunk.size());
+            for (Row row : chunk) {
+                try {
+                    Task task = CsvAdaptedTask.fromFields(row.fields, columns, format).toModelType();
+                    convertedRows.add(new ConvertedRow(row.lineNumber, task, null));
+                } catch (IllegalValueException ive) {
+                    convertedRows.add(new ConvertedRow(row.lineNumber, null, ive.getMessage()));
+                }
+            }
+            return convertedRows;
+        });
+    }
+
+    /**
+     * A row read from the file, and the line it starts on.
+     */
+    private static class Row {
+
+        private final int lineNumber;
+        private final List<String> fields;
+
+        Row(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * The task converted from a row, or the reason the row is invalid.
+     */
+    private static class ConvertedRow {
+
+        private final int lineNumber;
+        private final Task task;
+        private final String error;
+
+        ConvertedRow(int lineNumber, Task task, String error) {
+            this.lineNumber = lineNumber;
+            this.task = task;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Gathers converted chunks in the order of the rows.
+     */
+    private static class RowCollector {
+
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private int errorCount;
+
+        void collect(List<ConvertedRow> convertedRows) {
+            for (ConvertedRow row : convertedRows) {
+                if (row.error == null) {
+                    tasks.add(row.task);
+                    continue;
+                }
+                errorCount++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(String.format(MESSAGE_ROW_ERROR, row.lineNumber, row.error));
+                }
+            }
+        }
+
+        TaskCollection toTaskCollection() throws IllegalValueException {
+            if (errorCount > 0) {
+                List<String> messages = new ArrayList<>(errors);
+                if (errorCount > errors.size()) {
+                    messages.add(String.format(MESSAGE_MORE_ROW_ERRORS, errorCount - errors.size()));
+                }
+                throw new IllegalValueException(String.join("\n", messages));
+            }
+            TaskCollection taskCollection = new TaskCollection();
+            taskCollection.setTasks(tasks);
+            return taskCollection;
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package seedu.address.storage.csvstorage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads rows of fields in a {@link CsvFormat} from a character stream, one row at a time.
+ * Quoted fields may contain the delimiter, line breaks and doubled quotes, as described in RFC 4180.
+ * Rows may end with either {@code \r\n} or {@code \n}, whatever the line separator of the format.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Line %d: a quoted field is not closed";
+
+    private static final int END_OF_STREAM = -1;
+
+    private final Reader in;
+    private final CsvFormat format;
+    private int lineNumber = 1;
+    private int rowLineNumber;
+    private int pushedBack = END_OF_STREAM;
+
+    /**
+     * Creates a reader that reads from {@code in}, which should be buffered.
+     */
+    public CsvReader(Reader in, CsvFormat format) {
+        requireNonNull(in);
+        requireNonNull(format);
+        this.in = in;
+        this.format = format;
+    }
+
+    /**
+     * Returns the line on which the row last returned by {@link #readRow()} starts, counting from 1.
+     */
+    public int getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    /**
+     * Reads the next row, or returns null at the end of the stream.
+     *
+     * @throws IllegalValueException if the stream ends within a quoted field.
+     */
+    public List<String> readRow() throws IOException, IllegalValueException {
+        int ch = read();
+        if (ch == END_OF_STREAM) {
+            return null;
+        }
+
+        rowLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (ch == END_OF_STREAM) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, rowLineNumber));
+                } else if (ch == format.getQuote()) {
+                    int next = read();
+                    if (next == format.getQuote()) {
+                        field.append((char) next);
+                    } else {
+                        isQuoted = false;
+                        ch = next;
+                        continue;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) ch);
+                }
+            } else if (ch == format.getQuote() && field.length() == 0) {
+                isQuoted = true;
+            } else if (ch == format.getDelimiter()) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n' || ch == END_OF_STREAM) {
+                if (ch == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (ch != END_OF_STREAM) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) ch);
+            }
+            ch = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != END_OF_STREAM) {
+            int ch = pushedBack;
+            pushedBack = END_OF_STREAM;
+            return ch;
+        }
+        return in.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
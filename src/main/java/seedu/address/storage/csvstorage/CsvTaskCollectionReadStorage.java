@@ -0,0 +1,64 @@
+package seedu.address.storage.csvstorage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.storage.TaskCollectionReadStorage;
+
+/**
+ * A class to read TaskCollection data from a CSV file on the hard disk, such as one exported by the
+ * deadline manager or by a calendar application.
+ */
+public class CsvTaskCollectionReadStorage implements TaskCollectionReadStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(CsvTaskCollectionReadStorage.class);
+
+    private Path filePath;
+
+    public CsvTaskCollectionReadStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskCollectionFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection() throws DataConversionException, IOException {
+        return readTaskCollection(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskCollection()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection(Path filePath)
+        throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("TaskCollection file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(CsvFileStorage.loadDataFromFile(filePath));
+        } catch (DataConversionException dce) {
+            logger.info("Illegal values found in " + filePath + ": " + dce.getCause().getMessage());
+            throw dce;
+        }
+    }
+
+}
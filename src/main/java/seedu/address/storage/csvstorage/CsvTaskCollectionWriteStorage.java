@@ -6,22 +6,30 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.storage.TaskCollectionWriteStorage;
 
 /**
- * A class to access TaskCollection data stored as an xml file on the hard disk.
+ * A class to write TaskCollection data to a CSV file on the hard disk.
  */
 public class CsvTaskCollectionWriteStorage implements TaskCollectionWriteStorage {
 
     private static final Logger logger = LogsCenter.getLogger(CsvTaskCollectionWriteStorage.class);
 
     private Path filePath;
+    private CsvFormat format;
 
     public CsvTaskCollectionWriteStorage(Path filePath) {
+        this(filePath, CsvFormat.DEFAULT);
+    }
+
+    public CsvTaskCollectionWriteStorage(Path filePath, CsvFormat format) {
+        requireNonNull(format);
         this.filePath = filePath;
+        this.format = format;
     }
 
     public Path getTaskCollectionFilePath() {
@@ -44,7 +52,7 @@ public class CsvTaskCollectionWriteStorage implements TaskCollectionWriteStorage
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        CsvFileStorage.saveDataToFile(filePath, new CsvSerializableTaskCollection(taskCollection));
+        CsvFileStorage.saveDataToFile(filePath, taskCollection, format);
     }
 
 }
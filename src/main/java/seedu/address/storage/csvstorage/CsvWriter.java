@@ -0,0 +1,78 @@
+package seedu.address.storage.csvstorage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import seedu.address.commons.core.CsvFormat;
+
+/**
+ * Writes rows of fields in a {@link CsvFormat} to a character stream, one row at a time.
+ * A field is quoted if it contains the delimiter, the quote or a line break, and quotes within it are
+ * doubled, as described in RFC 4180.
+ */
+public class CsvWriter implements Closeable {
+
+    private final Writer out;
+    private final CsvFormat format;
+
+    /**
+     * Creates a writer that writes to {@code out}, which should be buffered.
+     */
+    public CsvWriter(Writer out, CsvFormat format) {
+        requireNonNull(out);
+        requireNonNull(format);
+        this.out = out;
+        this.format = format;
+    }
+
+    /**
+     * Writes {@code fields} as one row.
+     */
+    public void writeRow(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(format.getDelimiter());
+            }
+            writeField(fields.get(i));
+        }
+        out.write(format.getLineSeparator());
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            out.write(field);
+            return;
+        }
+
+        char quote = format.getQuote();
+        out.write(quote);
+        for (int i = 0; i < field.length(); i++) {
+            char ch = field.charAt(i);
+            if (ch == quote) {
+                out.write(quote);
+            }
+            out.write(ch);
+        }
+        out.write(quote);
+    }
+
+    private boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char ch = field.charAt(i);
+            if (ch == format.getDelimiter() || ch == format.getQuote() || ch == '\r' || ch == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage.xmlstorage;
 
 import java.io.File;
+import java.util.Objects;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -14,6 +16,9 @@ public class XmlAdaptedAttachment {
 
     @XmlValue
     private String filePath;
+    // name of the attachment if it differs from the file name, as for files in an attachment store
+    @XmlAttribute
+    private String name;
 
     /**
      * Constructs an XmlAdaptedAttachment. This is the no-arg constructor that is required by JAXB.
@@ -35,6 +40,9 @@ public class XmlAdaptedAttachment {
      */
     public XmlAdaptedAttachment(Attachment source) {
         filePath = source.file.getAbsolutePath();
+        if (!source.getName().equals(source.file.getName())) {
+            name = source.getName();
+        }
     }
 
     /**
@@ -45,7 +53,8 @@ public class XmlAdaptedAttachment {
      */
     public Attachment toModelType() throws IllegalValueException {
         //TODO: Check if attachment file exists
-        return new Attachment(new File(filePath));
+        File file = new File(filePath);
+        return new Attachment(file, name == null ? file.getName() : name);
     }
 
     @Override
@@ -58,6 +67,7 @@ public class XmlAdaptedAttachment {
             return false;
         }
 
-        return filePath.equals(((XmlAdaptedAttachment) other).filePath);
+        return filePath.equals(((XmlAdaptedAttachment) other).filePath)
+            && Objects.equals(name, ((XmlAdaptedAttachment) other).name);
     }
 }
@@ -42,10 +42,12 @@ public class XmlAdaptedTag {
      *                               task
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
-            throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+        try {
+            // shared tags are validated once per name, however many tasks use them
+            return Tag.of(tagName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS, e);
         }
-        return new Tag(tagName);
     }
 
     @Override
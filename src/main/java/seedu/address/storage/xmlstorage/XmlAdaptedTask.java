@@ -93,28 +93,35 @@ public class XmlAdaptedTask {
             throw new IllegalValueException(
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        // each constructor validates its field, so fields are validated once
+        final Name modelName;
+        try {
+            modelName = new Name(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS, e);
         }
-        final Name modelName = new Name(name);
 
         if (priority == null) {
             throw new IllegalValueException(
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Priority.class.getSimpleName()));
         }
-        if (!Priority.isValidPriority(priority)) {
-            throw new IllegalValueException(Priority.MESSAGE_PRIORITY_CONSTRAINTS);
+        final Priority modelPriority;
+        try {
+            modelPriority = new Priority(priority);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Priority.MESSAGE_PRIORITY_CONSTRAINTS, e);
         }
-        final Priority modelPriority = new Priority(priority);
 
         if (frequency == null) {
             throw new IllegalValueException(
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Frequency.class.getSimpleName()));
         }
-        if (!Frequency.isValidFrequency(frequency)) {
-            throw new IllegalValueException(Frequency.MESSAGE_FREQUENCY_CONSTRAINTS);
+        final Frequency modelFrequency;
+        try {
+            modelFrequency = new Frequency(frequency);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Frequency.MESSAGE_FREQUENCY_CONSTRAINTS, e);
         }
-        final Frequency modelFrequency = new Frequency(frequency);
 
         if (deadline == null) {
             throw new IllegalValueException(
@@ -1,16 +1,23 @@
 package seedu.address.storage.xmlstorage;
 
+import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.zip.ZipException;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 
 /**
- * Stores deadline manager data in an XML file
+ * Stores deadline manager data in an XML file, compressed if the file name says so
+ * (see {@link CompressionUtil}).
  */
 public class XmlFileStorage {
 
@@ -19,8 +26,8 @@ public class XmlFileStorage {
      */
     public static void saveDataToFile(Path file, XmlSerializableTaskCollection taskCollection)
         throws IOException {
-        try {
-            XmlUtil.saveDataToFile(file, taskCollection);
+        try (OutputStream out = CompressionUtil.newOutputStream(file)) {
+            XmlUtil.saveDataToStream(out, taskCollection);
         } catch (JAXBException e) {
             throw new IOException("Could not write data to file.", e);
         }
@@ -30,11 +37,15 @@ public class XmlFileStorage {
      * Returns deadline manager in the file or an empty deadline manager
      */
     public static XmlSerializableTaskCollection loadDataFromSaveFile(Path file)
-        throws DataConversionException,
-        FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableTaskCollection.class);
-        } catch (JAXBException e) {
+        throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = CompressionUtil.newInputStream(file)) {
+            return XmlUtil.getDataFromStream(in, XmlSerializableTaskCollection.class);
+        } catch (JAXBException | ZipException | EOFException e) {
+            // a compressed file that is not in its format, or is cut short, is corrupt data
             throw new DataConversionException(e);
         }
     }
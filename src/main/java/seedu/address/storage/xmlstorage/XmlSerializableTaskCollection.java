@@ -1,7 +1,13 @@
 package seedu.address.storage.xmlstorage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -18,6 +24,9 @@ import seedu.address.model.task.Task;
 @XmlRootElement(name = "taskcollection")
 public class XmlSerializableTaskCollection {
 
+    /** Number of tasks converted together by one task of the fork-join pool. */
+    static final int CHUNK_SIZE = 512;
+
     @XmlElement
     private List<XmlAdaptedTask> tasks;
 
@@ -40,19 +49,69 @@ public class XmlSerializableTaskCollection {
 
     /**
      * Converts this Task Collection into the model's {@code TaskCollection} object.
+     * See {@link #toModelType(ForkJoinPool)}.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in
      *                               the {@code XmlAdaptedTask}.
      */
     public TaskCollection toModelType() throws IllegalValueException {
-        TaskCollection taskCollection = new TaskCollection();
-        for (XmlAdaptedTask p : tasks) {
-            Task task = p.toModelType();
-            taskCollection.addTask(task);
+        return toModelType(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts this Task Collection into the model's {@code TaskCollection} object, converting the
+     * tasks in chunks, in parallel, on {@code pool}. The tasks keep their order, and are put in the
+     * collection at once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the
+     *                               {@code XmlAdaptedTask}. It is the error of the first invalid task
+     *                               in the list, however the chunks are scheduled.
+     */
+    public TaskCollection toModelType(ForkJoinPool pool) throws IllegalValueException {
+        requireNonNull(pool);
+        Deque<ForkJoinTask<ConvertedChunk>> pendingChunks = new ArrayDeque<>();
+        for (int start = 0; start < tasks.size(); start += CHUNK_SIZE) {
+            List<XmlAdaptedTask> chunk = tasks.subList(start, Math.min(start + CHUNK_SIZE, tasks.size()));
+            pendingChunks.add(pool.submit(convertChunk(chunk)));
+        }
+
+        List<Task> modelTasks = new ArrayList<>(tasks.size());
+        try {
+            while (!pendingChunks.isEmpty()) {
+                ConvertedChunk convertedChunk = pendingChunks.remove().join();
+                if (convertedChunk.error != null) {
+                    throw convertedChunk.error;
+                }
+                modelTasks.addAll(convertedChunk.tasks);
+            }
+        } finally {
+            // the chunks after an invalid task are not needed
+            pendingChunks.forEach(chunk -> chunk.cancel(false));
         }
+
+        TaskCollection taskCollection = new TaskCollection();
+        taskCollection.setTasks(modelTasks);
         return taskCollection;
     }
 
+    /**
+     * Returns a fork-join task converting the tasks in {@code chunk}, in order, up to the first invalid
+     * one.
+     */
+    private static ForkJoinTask<ConvertedChunk> convertChunk(List<XmlAdaptedTask> chunk) {
+        return ForkJoinTask.adapt(() -> {
+            List<Task> convertedTasks = new ArrayList<>(chunk.size());
+            for (XmlAdaptedTask task : chunk) {
+                try {
+                    convertedTasks.add(task.toModelType());
+                } catch (IllegalValueException ive) {
+                    return new ConvertedChunk(convertedTasks, ive);
+                }
+            }
+            return new ConvertedChunk(convertedTasks, null);
+        });
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -64,4 +123,18 @@ public class XmlSerializableTaskCollection {
         }
         return tasks.equals(((XmlSerializableTaskCollection) other).tasks);
     }
+
+    /**
+     * The tasks converted from a chunk, and the error of its first invalid task if there is one.
+     */
+    private static class ConvertedChunk {
+
+        private final List<Task> tasks;
+        private final IllegalValueException error;
+
+        ConvertedChunk(List<Task> tasks, IllegalValueException error) {
+            this.tasks = tasks;
+            this.error = error;
+        }
+    }
 }
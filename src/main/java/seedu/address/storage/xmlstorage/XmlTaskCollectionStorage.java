@@ -2,7 +2,6 @@ package seedu.address.storage.xmlstorage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,8 +45,7 @@ public class XmlTaskCollectionStorage implements TaskCollectionStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyTaskCollection> readTaskCollection(Path filePath)
-        throws DataConversionException,
-        FileNotFoundException {
+        throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
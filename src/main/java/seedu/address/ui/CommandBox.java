@@ -1,12 +1,20 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
@@ -20,16 +28,31 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed on the command worker, so the user can keep typing while they run.
+ * The command box shows the {@link #PENDING_PSEUDO_CLASS} pseudo class while any command is pending.
+ * Pressing Ctrl-R starts an incremental reverse search through the command history, and pressing
+ * Tab completes the word at the end of the command.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final PseudoClass PENDING_PSEUDO_CLASS = PseudoClass.getPseudoClass("pending");
+    public static final String SEARCH_PROMPT = "(reverse-i-search)`%s':";
+    public static final String FAILED_SEARCH_PROMPT = "(failed reverse-i-search)`%s':";
+    public static final String MESSAGE_COMPLETIONS = "Possible completions: %s";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private int pendingCommandCount = 0;
 
+    private boolean isSearching = false;
+    private String searchQuery = "";
+    private String textBeforeSearch = "";
+
+    @FXML
+    private Label searchLabel;
     @FXML
     private TextField commandTextField;
 
@@ -39,6 +62,7 @@ public class CommandBox extends UiPart<Region> {
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty()
             .addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, this::handleKeyTyped);
         historySnapshot = logic.getHistorySnapshot();
         registerAsAnEventHandler(this);
     }
@@ -48,6 +72,15 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleKeyPress(KeyEvent keyEvent) {
+        if (isSearching && handleSearchKeyPress(keyEvent)) {
+            return;
+        }
+        if (keyEvent.isControlDown() && keyEvent.getCode() == KeyCode.R) {
+            keyEvent.consume();
+            startSearch();
+            return;
+        }
+
         switch (keyEvent.getCode()) {
         case UP:
             // As up and down buttons will alter the position of the caret,
@@ -60,11 +93,162 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // consuming it also stops the focus from moving out of the command box
+            keyEvent.consume();
+            completeLastWord();
+            break;
         default:
             // let JavaFx handle the keypress
         }
     }
 
+    /**
+     * Handles the key press event, {@code keyEvent}, while searching through the history.
+     * Ctrl-R finds the next older match, Backspace shortens the query and Escape cancels the search.
+     * Navigation keys and Enter end the search, keeping the match in the text field.
+     *
+     * @return true if the key press has been handled.
+     */
+    private boolean handleSearchKeyPress(KeyEvent keyEvent) {
+        KeyCode code = keyEvent.getCode();
+        if (keyEvent.isControlDown() && code == KeyCode.R) {
+            keyEvent.consume();
+            showSearchResult(historySnapshot.findPrevious(searchQuery));
+            return true;
+        }
+
+        switch (code) {
+        case ESCAPE:
+            keyEvent.consume();
+            cancelSearch();
+            return true;
+        case BACK_SPACE:
+            keyEvent.consume();
+            if (!searchQuery.isEmpty()) {
+                searchQuery = searchQuery.substring(0, searchQuery.length() - 1);
+            }
+            historySnapshot.moveToLast();
+            if (searchQuery.isEmpty()) {
+                replaceText(textBeforeSearch);
+                updateSearchLabel(true);
+            } else {
+                showSearchResult(historySnapshot.findCurrentOrPrevious(searchQuery));
+            }
+            return true;
+        case ENTER:
+        case UP:
+        case DOWN:
+        case LEFT:
+        case RIGHT:
+        case HOME:
+        case END:
+        case TAB:
+            stopSearch();
+            return false;
+        default:
+            // characters are handled as they are typed, see #handleKeyTyped(KeyEvent)
+            return true;
+        }
+    }
+
+    /**
+     * Handles the key typed event, {@code keyEvent}. While searching through the history, typed
+     * characters are appended to the search query instead of the text field.
+     */
+    private void handleKeyTyped(KeyEvent keyEvent) {
+        String character = keyEvent.getCharacter();
+        if (!isSearching || keyEvent.isControlDown() || keyEvent.isAltDown() || character.isEmpty()
+            || Character.isISOControl(character.charAt(0))) {
+            return;
+        }
+        keyEvent.consume();
+        searchQuery += character;
+        showSearchResult(historySnapshot.findCurrentOrPrevious(searchQuery));
+    }
+
+    /**
+     * Starts a reverse search through the history from the most recent input.
+     */
+    private void startSearch() {
+        assert historySnapshot != null;
+        isSearching = true;
+        searchQuery = "";
+        textBeforeSearch = commandTextField.getText();
+        historySnapshot.moveToLast();
+        updateSearchLabel(true);
+        searchLabel.setManaged(true);
+        searchLabel.setVisible(true);
+    }
+
+    /**
+     * Shows {@code match} in the text field if it is present, and updates the search prompt.
+     */
+    private void showSearchResult(Optional<String> match) {
+        match.ifPresent(this::replaceText);
+        updateSearchLabel(match.isPresent());
+    }
+
+    private void updateSearchLabel(boolean isFound) {
+        searchLabel.setText(String.format(isFound ? SEARCH_PROMPT : FAILED_SEARCH_PROMPT, searchQuery));
+    }
+
+    /**
+     * Ends the search and restores the text entered before the search started.
+     */
+    private void cancelSearch() {
+        replaceText(textBeforeSearch);
+        historySnapshot.moveToLast();
+        stopSearch();
+    }
+
+    /**
+     * Ends the search, keeping the text field as it is.
+     */
+    private void stopSearch() {
+        isSearching = false;
+        searchLabel.setManaged(false);
+        searchLabel.setVisible(false);
+    }
+
+    /**
+     * Completes the word at the end of the text field, if the caret is at the end.
+     * A single completion replaces the word. Otherwise the word is extended as far as all the
+     * completions agree, and the completions are shown to the user.
+     */
+    private void completeLastWord() {
+        String text = commandTextField.getText();
+        if (commandTextField.getCaretPosition() != text.length()) {
+            return;
+        }
+        List<String> completions = logic.getCompletions(text);
+        if (completions.isEmpty()) {
+            return;
+        }
+        if (completions.size() == 1) {
+            replaceText(completions.get(0));
+            return;
+        }
+
+        String commonPrefix = completions.get(0);
+        for (String completion : completions) {
+            commonPrefix = Strings.commonPrefix(commonPrefix, completion);
+        }
+        if (commonPrefix.length() > text.length()) {
+            replaceText(commonPrefix);
+        }
+
+        int wordStart = text.length();
+        while (wordStart > 0 && !Character.isWhitespace(text.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        StringBuilder completedWords = new StringBuilder();
+        for (String completion : completions) {
+            completedWords.append(' ').append(completion.substring(wordStart));
+        }
+        raise(new NewResultAvailableEvent(String.format(MESSAGE_COMPLETIONS, completedWords.toString().trim())));
+    }
+
     /**
      * Updates the text field with the previous input in {@code historySnapshot}, if there exists a
      * previous input in {@code historySnapshot}
@@ -75,7 +259,11 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        replaceText(historySnapshot.previous());
+        try {
+            replaceText(historySnapshot.previous());
+        } catch (NoSuchElementException e) {
+            // the input was replaced in the history by a command that has just been added
+        }
     }
 
     /**
@@ -88,7 +276,11 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        replaceText(historySnapshot.next());
+        try {
+            replaceText(historySnapshot.next());
+        } catch (NoSuchElementException e) {
+            // the input was replaced in the history by a command that has just been added
+        }
     }
 
     /**
@@ -102,31 +294,65 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command is submitted to the command worker, and its result is handled on the JavaFX
+     * application thread once it is available.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
+        stopSearch();
+        String commandText = commandTextField.getText();
+        setPendingCommandCount(pendingCommandCount + 1);
+        logic.executeAsync(commandText).whenComplete((commandResult, error) ->
+            Platform.runLater(() -> handleCommandCompleted(commandText, commandResult, error)));
+    }
+
+    /**
+     * Shows the outcome of executing {@code commandText}.
+     * The text field is only cleared, or marked as failed, if the user has not edited it since the
+     * command was entered.
+     */
+    private void handleCommandCompleted(String commandText, CommandResult commandResult, Throwable error) {
+        initHistory();
+        boolean isInputUnchanged = commandTextField.getText().equals(commandText);
+
+        if (error == null) {
             historySnapshot.next();
             // process result of the command
-            commandTextField.setText("");
+            if (isInputUnchanged) {
+                commandTextField.setText("");
+            }
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.message));
-        } catch (CommandException e) {
-            initHistory();
+        } else {
             // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+            if (isInputUnchanged) {
+                setStyleToIndicateCommandFailure();
+            }
+            logger.info("Invalid command: " + commandText);
+            raise(getFailureResult(error));
         }
+        setPendingCommandCount(pendingCommandCount - 1);
+    }
+
+    /**
+     * Returns the result to show the user for a command that failed with {@code error}.
+     */
+    private NewResultAvailableEvent getFailureResult(Throwable error) {
+        if (error instanceof ParseException) {
+            return new NewResultAvailableEvent(((ParseException) error).message);
+        }
+        if (!(error instanceof CommandException)) {
+            logger.warning("Unexpected error while executing command: " + error);
+        }
+        return new NewResultAvailableEvent(error.getMessage());
+    }
+
+    /**
+     * Updates the number of pending commands and the pending indicator of the command box.
+     */
+    private void setPendingCommandCount(int count) {
+        pendingCommandCount = count;
+        commandTextField.pseudoClassStateChanged(PENDING_PSEUDO_CLASS, count > 0);
     }
 
     /**
@@ -0,0 +1,83 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is only ever modified on the JavaFX application thread.
+ * Changes made to the source list on other threads (e.g. by the command worker) are recorded when
+ * they happen and replayed on the application thread in the same order, so the source can be
+ * bound to controls such as a {@code ListView} without touching them from a background thread.
+ */
+class FxThreadListMirror<E> {
+
+    // kept so that a source view which only weakly listens to its backing list stays reachable
+    private final ObservableList<? extends E> source;
+    private final ObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final AtomicInteger queuedReplays = new AtomicInteger();
+
+    FxThreadListMirror(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::handleSourceChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the mirrored list.
+     * It must only be read on the JavaFX application thread.
+     */
+    ObservableList<E> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records {@code change} and replays it on the mirror.
+     * Changes made on the application thread are replayed immediately unless earlier changes are
+     * still waiting to be replayed.
+     */
+    private void handleSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // a permutation reorders the whole list, so it is cheaper to copy the final state once
+                List<E> reordered = new ArrayList<>(change.getList());
+                steps.clear();
+                steps.add(() -> mirror.setAll(reordered));
+                break;
+            } else if (!change.wasUpdated()) {
+                int from = change.getFrom();
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                steps.add(() -> {
+                    if (removedSize > 0) {
+                        mirror.remove(from, from + removedSize);
+                    }
+                    if (!added.isEmpty()) {
+                        mirror.addAll(from, added);
+                    }
+                });
+            }
+        }
+
+        if (Platform.isFxApplicationThread() && queuedReplays.get() == 0) {
+            steps.forEach(Runnable::run);
+            return;
+        }
+        queuedReplays.incrementAndGet();
+        Platform.runLater(() -> {
+            steps.forEach(Runnable::run);
+            queuedReplays.decrementAndGet();
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXMLLoader;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Caches the raw bytes of FXML documents so that {@code UiPart}s built from the same document do not
+ * read the resource again on every construction. Each construction still parses the document with its
+ * own {@code FXMLLoader}; parts that are created in large numbers, such as {@code TaskCard}, build their
+ * node graph in code instead.
+ * Templates can be warmed up ahead of time with {@link #preload(String...)}, which also parses each
+ * document once, only so that the classes it refers to are loaded before the first real use.
+ */
+public class FxmlTemplateCache {
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlTemplateCache.class);
+
+    private static final Map<String, byte[]> templates = new ConcurrentHashMap<>();
+
+    private FxmlTemplateCache() {}
+
+    /**
+     * Returns a stream over the FXML document at {@code location}, reading it from the cache if
+     * it has been read before.
+     *
+     * @throws IOException if the document cannot be read.
+     */
+    public static InputStream openTemplate(URL location) throws IOException {
+        requireNonNull(location);
+        String key = location.toExternalForm();
+        byte[] template = templates.get(key);
+        if (template == null) {
+            template = readTemplate(location);
+            templates.putIfAbsent(key, template);
+        }
+        return new ByteArrayInputStream(template);
+    }
+
+    /**
+     * Caches and parses the FXML documents {@code fxmlFileNames} within {@link UiPart#FXML_FILE_FOLDER}
+     * once, discarding the resulting object graphs. Documents that cannot be loaded are logged and
+     * skipped.
+     */
+    public static void preload(String... fxmlFileNames) {
+        for (String fxmlFileName : fxmlFileNames) {
+            URL location = UiPart.getFxmlFileUrl(fxmlFileName);
+            try (InputStream template = openTemplate(location)) {
+                FXMLLoader loader = new FXMLLoader(location);
+                loader.load(template);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to preload " + location + " : " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public static void clear() {
+        templates.clear();
+    }
+
+    private static byte[] readTemplate(URL location) throws IOException {
+        try (InputStream in = location.openStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
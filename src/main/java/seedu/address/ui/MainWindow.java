@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static seedu.address.commons.util.AppUtil.runOnFxThread;
+
 import java.io.File;
 import java.util.logging.Logger;
 
@@ -22,6 +24,7 @@ import seedu.address.commons.events.ui.SelectFileSaveEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.Logic;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
 
 /**
  * The Main Window. Provides the basic application layout containing a menu bar and space where
@@ -120,7 +123,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
 
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
+        // the model is modified on the command worker, so the list view observes a copy of the
+        // filtered list that is only updated on the JavaFX application thread
+        FxThreadListMirror<Task> taskListMirror = new FxThreadListMirror<>(logic.getFilteredTaskList());
+        taskListPanel = new TaskListPanel(taskListMirror.getList());
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -192,7 +198,7 @@ public class MainWindow extends UiPart<Stage> {
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        handleHelp();
+        runOnFxThread(this::handleHelp);
     }
 
     @Subscribe
@@ -1,10 +1,11 @@
 package seedu.address.ui;
 
+import static seedu.address.commons.util.AppUtil.runOnFxThread;
+
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -39,7 +40,7 @@ public class ResultDisplay extends UiPart<Region> {
     @Subscribe
     private void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        Platform.runLater(() -> {
+        runOnFxThread(() -> {
             displayed.clear();
             for (StyledText styledText : event.message) {
                 Text text = new Text(styledText.text);
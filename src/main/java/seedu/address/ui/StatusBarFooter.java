@@ -14,7 +14,14 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.AttachmentArchiveProgressEvent;
+import seedu.address.commons.events.logic.CommandQueueChangedEvent;
 import seedu.address.commons.events.model.TaskCollectionChangedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadFailedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadProgressEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadedEvent;
+import seedu.address.commons.events.storage.ExportFinishedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +30,16 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String COMMAND_STATUS_IDLE = "Ready";
+    public static final String COMMAND_STATUS_RUNNING = "Running command";
+    public static final String COMMAND_STATUS_QUEUED = "Running command (%d queued)";
+    public static final String EXPORT_STATUS_RUNNING = "Exporting to %s (%d of %d tasks)";
+    public static final String EXPORT_STATUS_SUCCESS = "Exported %d tasks to %s";
+    public static final String EXPORT_STATUS_FAILURE = "Export to %s failed: %s";
+    public static final String ARCHIVE_STATUS_RUNNING = "Saving attachments to %s (%d of %d attachments)";
+    public static final String LOAD_STATUS_READING = "Loading tasks";
+    public static final String LOAD_STATUS_RUNNING = "Loading tasks (%d of %d tasks)";
+    public static final String LOAD_STATUS_FAILURE = "Loading tasks failed after %d tasks; changes are disabled";
 
     /**
      * Used to generate time stamps.
@@ -41,12 +58,18 @@ public class StatusBarFooter extends UiPart<Region> {
     private StatusBar syncStatus;
     @FXML
     private StatusBar saveLocationStatus;
+    @FXML
+    private StatusBar commandStatus;
+    @FXML
+    private StatusBar exportStatus;
 
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
+        setCommandStatus(0);
+        setExportStatus("", 0);
         registerAsAnEventHandler(this);
     }
 
@@ -72,6 +95,90 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    /**
+     * Shows the number of pending commands, with an indeterminate progress indicator while any
+     * command is running.
+     */
+    private void setCommandStatus(int pendingCommandCount) {
+        String status;
+        if (pendingCommandCount == 0) {
+            status = COMMAND_STATUS_IDLE;
+        } else if (pendingCommandCount == 1) {
+            status = COMMAND_STATUS_RUNNING;
+        } else {
+            status = String.format(COMMAND_STATUS_QUEUED, pendingCommandCount - 1);
+        }
+        double progress = pendingCommandCount == 0 ? 0 : -1;
+        Platform.runLater(() -> {
+            commandStatus.setText(status);
+            commandStatus.setProgress(progress);
+        });
+    }
+
+    private void setExportStatus(String status, double progress) {
+        Platform.runLater(() -> {
+            exportStatus.setText(status);
+            exportStatus.setProgress(progress);
+        });
+    }
+
+    @Subscribe
+    public void handleExportProgressEvent(ExportProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        setExportStatus(String.format(EXPORT_STATUS_RUNNING, event.filename, event.exportedTaskCount,
+            event.totalTaskCount), (double) event.exportedTaskCount / event.totalTaskCount);
+    }
+
+    @Subscribe
+    public void handleExportFinishedEvent(ExportFinishedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.isSuccessful()) {
+            setExportStatus(String.format(EXPORT_STATUS_SUCCESS, event.taskCount, event.filename), 0);
+        } else {
+            setExportStatus(String.format(EXPORT_STATUS_FAILURE, event.filename, event.exception.getMessage()), 0);
+        }
+    }
+
+    @Subscribe
+    public void handleAttachmentArchiveProgressEvent(AttachmentArchiveProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.archivedAttachmentCount == event.totalAttachmentCount) {
+            setExportStatus("", 0);
+            return;
+        }
+        setExportStatus(String.format(ARCHIVE_STATUS_RUNNING, event.filename, event.archivedAttachmentCount,
+            event.totalAttachmentCount), (double) event.archivedAttachmentCount / event.totalAttachmentCount);
+    }
+
+    @Subscribe
+    public void handleTaskCollectionLoadProgressEvent(TaskCollectionLoadProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.totalTaskCount == TaskCollectionLoadProgressEvent.UNKNOWN_TOTAL) {
+            setExportStatus(LOAD_STATUS_READING, -1);
+            return;
+        }
+        setExportStatus(String.format(LOAD_STATUS_RUNNING, event.loadedTaskCount, event.totalTaskCount),
+            (double) event.loadedTaskCount / event.totalTaskCount);
+    }
+
+    @Subscribe
+    public void handleTaskCollectionLoadedEvent(TaskCollectionLoadedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        setExportStatus("", 0);
+    }
+
+    @Subscribe
+    public void handleTaskCollectionLoadFailedEvent(TaskCollectionLoadFailedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        setExportStatus(String.format(LOAD_STATUS_FAILURE, event.data.getTaskList().size()), 0);
+    }
+
+    @Subscribe
+    public void handleCommandQueueChangedEvent(CommandQueueChangedEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        setCommandStatus(event.pendingCommandCount);
+    }
+
     @Subscribe
     public void handleTaskCollectionChangedEvent(TaskCollectionChangedEvent abce) {
         long now = clock.millis();
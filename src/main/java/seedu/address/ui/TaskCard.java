@@ -3,19 +3,35 @@ package seedu.address.ui;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILENAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
 
-import javafx.fxml.FXML;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.commons.events.ui.ExecuteCommandEvent;
 import seedu.address.commons.events.ui.SelectFileSaveEvent;
 import seedu.address.logic.commands.AttachmentCommand;
 import seedu.address.model.attachment.Attachment;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 
 /**
  * An UI component that displays information of a {@code Task}.
+ * The node graph of a card is built in code rather than loaded from FXML, as cards are created far more
+ * often than any other UI part. A card can be rebound to another {@code Task} through
+ * {@link #setTask(Task, int)}, which reuses the node graph and the pooled tag and attachment labels
+ * instead of building a new card.
  */
 public class TaskCard extends UiPart<Region> {
 
@@ -23,68 +39,151 @@ public class TaskCard extends UiPart<Region> {
     public static final String PRIORITY_FORMAT = "Priority %s";
     public static final String FREQUENCY_FORMAT = "Frequency %s";
 
-    private static final String FXML = "TaskListCard.fxml";
+    private static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    private static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+    private static final double CARD_MIN_HEIGHT = 105;
+    private static final double COLUMN_MIN_WIDTH = 10;
+    private static final double COLUMN_PREF_WIDTH = 150;
+    private static final double SPACING = 5;
 
-    /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX. As
-     * a consequence, UI elements' variable names cannot be set to such keywords or an exception
-     * will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on
-     * TaskCollection level 4</a>
-     */
+    private Task task;
+    private int displayedIndex;
 
-    public final Task task;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label deadline;
-    @FXML
-    private Label priority;
-    @FXML
-    private Label frequency;
-    @FXML
-    private FlowPane tags;
-    @FXML
-    private FlowPane attachments;
+    private final List<Label> tagLabelPool = new ArrayList<>();
+    private final List<Label> attachmentLabelPool = new ArrayList<>();
+
+    private final Label id = buildLabel("id", BIG_LABEL_STYLE_CLASS);
+    private final Label name = buildLabel("name", BIG_LABEL_STYLE_CLASS);
+    private final Label deadline = buildLabel("deadline", SMALL_LABEL_STYLE_CLASS);
+    private final Label priority = buildLabel("priority", SMALL_LABEL_STYLE_CLASS);
+    private final Label frequency = buildLabel("frequency", SMALL_LABEL_STYLE_CLASS);
+    private final FlowPane tags = buildFlowPane("tags");
+    private final FlowPane attachments = buildFlowPane("attachments");
 
     public TaskCard(Task task, int displayedIndex) {
-        super(FXML);
+        super(new HBox());
+        buildCardPane((HBox) getRoot());
+        setTask(task, displayedIndex);
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Rebinds this card to display {@code task} at {@code displayedIndex}.
+     * Labels for tags and attachments are taken from the card's pools, and only grown when the new
+     * task has more tags or attachments than any task previously shown by this card.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(task.getName().value);
         priority.setText(String.format(PRIORITY_FORMAT, task.getPriority().value));
         frequency.setText(String.format(FREQUENCY_FORMAT, task.getFrequency().value));
         deadline.setText(String.format(DEADLINE_FORMAT, task.getDeadline().toString()));
-        task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        task.getAttachments().forEach(attachment ->
-            attachments.getChildren().add(buildAttachmentLabel(attachment, displayedIndex)));
+
+        int tagCount = 0;
+        for (Iterator<Tag> it = task.getTags().iterator(); it.hasNext(); tagCount++) {
+            getPooledLabel(tagLabelPool, tagCount, false).setText(it.next().tagName);
+        }
+        showPooledLabels(tags.getChildren(), tagLabelPool, tagCount);
+
+        int attachmentCount = 0;
+        for (Iterator<Attachment> it = task.getAttachments().iterator(); it.hasNext(); attachmentCount++) {
+            getPooledLabel(attachmentLabelPool, attachmentCount, true).setText(it.next().getName());
+        }
+        showPooledLabels(attachments.getChildren(), attachmentLabelPool, attachmentCount);
+    }
+
+    /**
+     * Lays out the card's labels in {@code cardPane}, in the same structure as the other list views.
+     */
+    private void buildCardPane(HBox cardPane) {
+        cardPane.setId("cardPane");
+
+        // ensures that the index is never truncated
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        HBox header = new HBox(SPACING, id, name);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        VBox details = new VBox(header, tags, deadline, priority, frequency, attachments);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(CARD_MIN_HEIGHT);
+        details.setPadding(new Insets(SPACING, SPACING, SPACING, 3 * SPACING));
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(COLUMN_MIN_WIDTH);
+        column.setPrefWidth(COLUMN_PREF_WIDTH);
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane.getChildren().add(grid);
+    }
+
+    private static Label buildLabel(String id, String styleClass) {
+        Label label = new Label();
+        label.setId(id);
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+
+    private static FlowPane buildFlowPane(String id) {
+        FlowPane flowPane = new FlowPane();
+        flowPane.setId(id);
+        return flowPane;
+    }
+
+    /**
+     * Returns the label at {@code position} of {@code pool}, creating it if the pool is too small.
+     */
+    private Label getPooledLabel(List<Label> pool, int position, boolean isAttachment) {
+        if (position < pool.size()) {
+            return pool.get(position);
+        }
+        Label label = isAttachment ? buildAttachmentLabel() : new Label();
+        pool.add(label);
+        return label;
+    }
+
+    /**
+     * Makes {@code children} show exactly the first {@code count} labels of {@code pool}.
+     * The children list is only modified when the number of shown labels changes.
+     */
+    private static void showPooledLabels(ObservableList<Node> children, List<Label> pool, int count) {
+        int shown = children.size();
+        if (shown > count) {
+            children.remove(count, shown);
+        } else if (shown < count) {
+            children.addAll(pool.subList(shown, count));
+        }
     }
 
     /**
-     * Helper method to construct a label for each attachment.
-     * Adds a mouse click handler to invoke the attachment get command when the label is clicked
-     * @param attachment the attachment
-     * @param index index of the attachmentin the current list/UI
+     * Helper method to construct a pooled label for attachments.
+     * Adds a mouse click handler to invoke the attachment get command when the label is clicked.
+     * The handler reads the attachment name from the label and the index from the card, so it stays
+     * correct after the card is rebound to another task.
      * @return label with mouse click handler
      */
-    private Label buildAttachmentLabel(Attachment attachment, int index) {
-        Label label = new Label(attachment.getName());
+    private Label buildAttachmentLabel() {
+        Label label = new Label();
         label.setOnMouseClicked(event -> {
+            String attachmentName = label.getText();
+            int index = displayedIndex;
             raise(new SelectFileSaveEvent(file -> {
                 String commandText = String.format("%s %d %s %s\"%s\" %s\"%s\"",
                     AttachmentCommand.COMMAND_WORD, index,
                     AttachmentCommand.COMMAND_GET_ACTION,
-                    PREFIX_FILENAME, attachment.getName(),
+                    PREFIX_FILENAME, attachmentName,
                     PREFIX_FILEPATH, file.getPath()
                 );
                 raise(new ExecuteCommandEvent(commandText));
-            }, attachment.getName()));
+            }, attachmentName));
         });
 
         return label;
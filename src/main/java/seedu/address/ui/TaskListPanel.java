@@ -66,10 +66,12 @@ public class TaskListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code
-     * TaskCard}.
+     * TaskCard}. Each cell loads its card once and rebinds it whenever the cell is reused.
      */
     class TaskListViewCell extends ListCell<Task> {
 
+        private TaskCard taskCard;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -78,7 +80,12 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (taskCard == null) {
+                    taskCard = new TaskCard(task, getIndex() + 1);
+                } else {
+                    taskCard.setTask(task, getIndex() + 1);
+                }
+                setGraphic(taskCard.getRoot());
             }
         }
     }
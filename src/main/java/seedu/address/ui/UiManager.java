@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static seedu.address.commons.util.AppUtil.runOnFxThread;
+
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +15,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.TaskCollectionLoadFailedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -28,9 +31,15 @@ public class UiManager extends ComponentManager implements Ui {
     public static final String FILE_OPS_ERROR_DIALOG_STAGE_TITLE = "File Op Error";
     public static final String FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE = "Could not save data";
     public static final String FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE = "Could not save data to file";
+    public static final String LOAD_ERROR_DIALOG_HEADER_MESSAGE = "Could not load all tasks";
+    public static final String LOAD_ERROR_DIALOG_CONTENT_MESSAGE =
+        "Changes are disabled until restart so that the data file is not overwritten";
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/clock.png";
+    private static final String[] PRELOADED_FXML_FILES = {
+        "ResultDisplay.fxml", "StatusBarFooter.fxml"
+    };
 
     private Logic logic;
     private Config config;
@@ -44,6 +53,16 @@ public class UiManager extends ComponentManager implements Ui {
         this.prefs = prefs;
     }
 
+    /**
+     * Reads the FXML documents of commonly created UI parts ahead of time and parses each once, so that
+     * their resources are cached and the classes they use are loaded before the first window is built.
+     * This does not require the JavaFX application thread and is meant to be called during
+     * {@code MainApp#init()}.
+     */
+    public static void preloadFxmlTemplates() {
+        FxmlTemplateCache.preload(PRELOADED_FXML_FILES);
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
@@ -119,8 +138,16 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+        runOnFxThread(() -> showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
             FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
-            event.exception);
+            event.exception));
+    }
+
+    @Subscribe
+    private void handleTaskCollectionLoadFailedEvent(TaskCollectionLoadFailedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        runOnFxThread(() -> showFileOperationAlertAndWait(LOAD_ERROR_DIALOG_HEADER_MESSAGE,
+            LOAD_ERROR_DIALOG_CONTENT_MESSAGE,
+            event.exception));
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -58,6 +59,14 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph has already been built in code, rooted at {@code root}.
+     * No FXML document is loaded.
+     */
+    protected UiPart(T root) {
+        fxmlLoader.setRoot(requireNonNull(root));
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
@@ -82,7 +91,8 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Loads the object hierarchy from a FXML document.
+     * Loads the object hierarchy from a FXML document. The document is read through
+     * {@link FxmlTemplateCache}, so it is only read from its resource once.
      *
      * @param location Location of the FXML document.
      * @param root     Specifies the root of the object hierarchy.
@@ -92,8 +102,8 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream template = FxmlTemplateCache.openTemplate(location)) {
+            fxmlLoader.load(template);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
@@ -102,7 +112,7 @@ public abstract class UiPart<T> {
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
-    private static URL getFxmlFileUrl(String fxmlFileName) {
+    static URL getFxmlFileUrl(String fxmlFileName) {
         requireNonNull(fxmlFileName);
         String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
         URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
@@ -3,6 +3,7 @@ package guitests.guihandles;
 import javafx.collections.ObservableList;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import seedu.address.ui.CommandBox;
 
 /**
  * A handle to the {@code CommandBox} in the GUI.
@@ -23,7 +24,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to finish.
      */
     public void run(String command) {
         click();
@@ -31,6 +32,21 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        waitForPendingCommands();
+    }
+
+    /**
+     * Waits until all commands entered in the Command Box have finished executing.
+     */
+    public void waitForPendingCommands() {
+        guiRobot.waitForEvent(() -> !isPending());
+    }
+
+    /**
+     * Returns true if the Command Box is waiting for a command to finish executing.
+     */
+    public boolean isPending() {
+        return getRootNode().getPseudoClassStates().contains(CommandBox.PENDING_PSEUDO_CLASS);
     }
 
     /**
@@ -0,0 +1,74 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.attachment.AttachmentStore;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+
+public class AppInitializerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private UserPrefs userPrefs;
+    private Storage storage;
+    private Attachment storedAttachment;
+
+    @Before
+    public void setUp() throws Exception {
+        Path root = testFolder.getRoot().toPath();
+        userPrefs = new UserPrefs();
+        userPrefs.setDeadlineManagerFilePath(root.resolve("data.xml"));
+        userPrefs.setCommandHistoryFilePath(root.resolve("history.txt"));
+        userPrefs.setAttachmentStorePath(root.resolve("attachments"));
+        storage = AppInitializer.initStorage(new JsonUserPrefsStorage(root.resolve("prefs.json")), userPrefs);
+
+        File file = root.resolve("spec.txt").toFile();
+        FileUtil.writeToFile(file.toPath(), "specification");
+        storedAttachment = new AttachmentStore(userPrefs.getAttachmentStorePath().get()).add(file);
+    }
+
+    @After
+    public void tearDown() {
+        storage.stop();
+    }
+
+    @Test
+    public void initModelManager_dataFileRead_unreferencedAttachmentsDeleted() throws Exception {
+        storage.saveTaskCollection(new TaskCollection());
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        assertEquals(0, model.getTaskCollection().getTaskList().size());
+        assertFalse(Files.exists(storedAttachment.file.toPath()));
+    }
+
+    @Test
+    public void initModelManager_corruptDataFile_attachmentsKept() throws Exception {
+        FileUtil.writeToFile(userPrefs.getDeadlineManagerFilePath(), "not a data file");
+        AppInitializer.initModelManager(storage, userPrefs);
+        assertTrue(Files.exists(storedAttachment.file.toPath()));
+    }
+
+    @Test
+    public void initModelManager_missingDataFile_attachmentsKept() {
+        AppInitializer.initModelManager(storage, userPrefs);
+        assertTrue(Files.exists(storedAttachment.file.toPath()));
+    }
+}
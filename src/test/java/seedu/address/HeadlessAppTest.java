@@ -0,0 +1,126 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class HeadlessAppTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Model model = new ModelManager();
+    private final HeadlessApp app = new HeadlessApp(new LogicManager(model));
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void parse_validArguments_success() {
+        HeadlessApp.Parameters parameters =
+            HeadlessApp.Parameters.parse("--config=config.json", "--script=commands.txt", "--batch");
+        assertEquals(Paths.get("config.json"), parameters.getConfigPath());
+        assertEquals(Paths.get("commands.txt"), parameters.getScriptPath());
+        assertTrue(parameters.isBatch());
+
+        parameters = HeadlessApp.Parameters.parse();
+        assertNull(parameters.getConfigPath());
+        assertNull(parameters.getScriptPath());
+        assertFalse(parameters.isBatch());
+    }
+
+    @Test
+    public void parse_invalidArguments_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> HeadlessApp.Parameters.parse("--unknown"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> HeadlessApp.Parameters.parse("--script=a\0"));
+    }
+
+    @Test
+    public void run_script_executesCommandsAndReportsFailures() throws Exception {
+        String script = "# a comment\n"
+            + TaskUtil.getAddCommand(ALICE) + "\n"
+            + "\n"
+            + "unknownCommand\n"
+            + TaskUtil.getAddCommand(BENSON) + "\n";
+
+        assertEquals(1, run(script, false));
+        assertTrue(model.hasTask(ALICE));
+        assertTrue(model.hasTask(BENSON));
+        assertTrue(err.toString().startsWith(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 4, "")));
+        assertTrue(model.canUndoTaskCollection());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        String script = ExitCommand.COMMAND_WORD + "\n" + TaskUtil.getAddCommand(ALICE) + "\n";
+
+        assertEquals(0, run(script, false));
+        assertFalse(model.hasTask(ALICE));
+    }
+
+    @Test
+    public void run_batch_commitsOnce() throws Exception {
+        String script = TaskUtil.getAddCommand(ALICE) + "\n" + TaskUtil.getAddCommand(BENSON) + "\n";
+
+        assertEquals(0, run(script, true));
+        assertTrue(model.hasTask(ALICE));
+        assertTrue(model.hasTask(BENSON));
+
+        // both additions are undone together
+        model.undoTaskCollection();
+        assertFalse(model.hasTask(ALICE));
+        assertFalse(model.canUndoTaskCollection());
+    }
+
+    @Test
+    public void run_batch_savesHistoryOnce() throws Exception {
+        run(ListCommand.COMMAND_WORD + "\nunknownCommand\n", true);
+        List<CommandHistoryChangedEvent> historyEvents = getHistoryEvents();
+        assertEquals(1, historyEvents.size());
+        assertEquals(Arrays.asList(ListCommand.COMMAND_WORD, "unknownCommand"), historyEvents.get(0).commandTexts);
+    }
+
+    @Test
+    public void run_notBatch_savesHistoryAfterEachCommand() throws Exception {
+        run(ListCommand.COMMAND_WORD + "\nunknownCommand\n", false);
+        assertEquals(2, getHistoryEvents().size());
+    }
+
+    private List<CommandHistoryChangedEvent> getHistoryEvents() {
+        return IntStream.range(0, eventsCollectorRule.eventsCollector.getSize())
+            .mapToObj(eventsCollectorRule.eventsCollector::get)
+            .filter(event -> event instanceof CommandHistoryChangedEvent)
+            .map(event -> (CommandHistoryChangedEvent) event)
+            .collect(Collectors.toList());
+    }
+
+    private int run(String script, boolean isBatch) throws Exception {
+        return app.run(new BufferedReader(new StringReader(script)), new PrintStream(out), new PrintStream(err),
+            isBatch);
+    }
+}
@@ -32,6 +32,8 @@ public class TestApp extends MainApp {
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
         TestUtil.getFilePathInSandboxFolder("pref_testing.json");
+    protected static final Path COMMAND_HISTORY_FILE_LOCATION_FOR_TESTING =
+        TestUtil.getFilePathInSandboxFolder("commandhistory_testing.txt");
     protected Supplier<ReadOnlyTaskCollection> initialDataSupplier = () -> null;
     protected Path saveFileLocation = SAVE_LOCATION_FOR_TESTING;
 
@@ -65,6 +67,7 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setDeadlineManagerFilePath(saveFileLocation);
+        userPrefs.setCommandHistoryFilePath(COMMAND_HISTORY_FILE_LOCATION_FOR_TESTING);
         return userPrefs;
     }
 
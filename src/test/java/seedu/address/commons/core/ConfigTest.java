@@ -17,7 +17,11 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Deadline Manager\n"
             + "Current log level : INFO\n"
-            + "Preference file Location : preferences.json";
+            + "Preference file Location : preferences.json\n"
+            + "Command server port : 0\n"
+            + "Command server token file : command-server.token\n"
+            + "Command server changes allowed : false\n"
+            + "Progressive startup : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,67 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class CsvFormatTest {
+
+    @Test
+    public void defaultFormat_followsRfc4180WithCalendarColumns() {
+        assertEquals(',', CsvFormat.DEFAULT.getDelimiter());
+        assertEquals('"', CsvFormat.DEFAULT.getQuote());
+        assertEquals("\r\n", CsvFormat.DEFAULT.getLineSeparator());
+        assertTrue(CsvFormat.DEFAULT.hasHeader());
+        assertEquals(CsvFormat.CALENDAR_COLUMNS, CsvFormat.DEFAULT.getColumns());
+    }
+
+    @Test
+    public void withAllColumns_calendarColumnsFirst() {
+        assertEquals(Arrays.asList(CsvFormat.Column.values()), CsvFormat.DEFAULT.withAllColumns().getColumns());
+        assertEquals(CsvFormat.CALENDAR_COLUMNS,
+            CsvFormat.DEFAULT.withAllColumns().getColumns().subList(0, CsvFormat.CALENDAR_COLUMNS.size()));
+    }
+
+    @Test
+    public void with_invalidDialect_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withDelimiter('"'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withDelimiter('\n'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withQuote('\r'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withDelimiter(';'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withValueSeparator(""));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withValueSeparator(", "));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withValueSeparator("\\"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CsvFormat.DEFAULT.withLineSeparator("\r"));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            CsvFormat.DEFAULT.withColumns(Collections.emptyList()));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            CsvFormat.DEFAULT.withColumns(Arrays.asList(CsvFormat.Column.TAGS, CsvFormat.Column.TAGS)));
+    }
+
+    @Test
+    public void equals() {
+        CsvFormat tabs = CsvFormat.DEFAULT.withDelimiter('\t');
+
+        // same values -> returns true
+        assertEquals(tabs, CsvFormat.DEFAULT.withDelimiter('\t'));
+        assertEquals(tabs.hashCode(), CsvFormat.DEFAULT.withDelimiter('\t').hashCode());
+        assertEquals(CsvFormat.DEFAULT, tabs.withDelimiter(','));
+
+        // different types -> returns false
+        assertFalse(tabs.equals(1));
+
+        // different values -> returns false
+        assertNotEquals(CsvFormat.DEFAULT, tabs);
+        assertNotEquals(CsvFormat.DEFAULT, CsvFormat.DEFAULT.withHeader(false));
+        assertNotEquals(CsvFormat.DEFAULT, CsvFormat.DEFAULT.withAllColumns());
+        assertNotEquals(CsvFormat.DEFAULT, CsvFormat.DEFAULT.withLineSeparator("\n"));
+    }
+}
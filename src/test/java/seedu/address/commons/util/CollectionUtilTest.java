@@ -1,16 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
+import seedu.address.testutil.Assert;
+
 public class CollectionUtilTest {
 
     @Test
@@ -82,6 +90,63 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void toCompactSet_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> toCompactSet(null));
+        Assert.assertThrows(NullPointerException.class, () -> toCompactSet(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void toCompactSet_equalToHashSet() {
+        for (int size = 0; size <= CollectionUtil.MAX_ARRAY_SET_SIZE + 2; size++) {
+            List<String> items = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                items.add("item" + i);
+            }
+            Set<String> expected = new HashSet<>(items);
+            Set<String> compactSet = toCompactSet(items);
+
+            assertEquals(expected, compactSet);
+            assertEquals(compactSet, expected);
+            assertEquals(expected.hashCode(), compactSet.hashCode());
+            assertEquals(size, compactSet.size());
+            assertFalse(compactSet.contains("other"));
+            assertFalse(compactSet.contains(null));
+        }
+    }
+
+    @Test
+    public void toCompactSet_duplicates_keptOnceInOrder() {
+        Set<String> compactSet = toCompactSet(Arrays.asList("b", "a", "b", "c", "a"));
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(compactSet));
+        assertEquals(Collections.singleton("a"), toCompactSet(Arrays.asList("a", "a")));
+    }
+
+    @Test
+    public void toCompactSet_manyElements_keptInOrder() {
+        List<String> items = new ArrayList<>();
+        for (int i = 2 * CollectionUtil.MAX_ARRAY_SET_SIZE; i > 0; i--) {
+            items.add("item" + i);
+        }
+        assertEquals(items, new ArrayList<>(toCompactSet(items)));
+    }
+
+    @Test
+    public void toCompactSet_empty_sameInstance() {
+        assertSame(toCompactSet(Collections.emptyList()), toCompactSet(new HashSet<Integer>()));
+    }
+
+    @Test
+    public void toCompactSet_modify_throwsUnsupportedOperationException() {
+        for (Set<String> set : Arrays.asList(toCompactSet(Collections.<String>emptySet()),
+            toCompactSet(Collections.singleton("a")), toCompactSet(Arrays.asList("a", "b")))) {
+            Assert.assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+            Assert.assertThrows(UnsupportedOperationException.class, () -> set.remove("c"));
+            Assert.assertThrows(UnsupportedOperationException.class, () -> set.clear());
+            Assert.assertThrows(UnsupportedOperationException.class, () -> set.removeIf(item -> true));
+        }
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code
      * NullPointerException} if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.ZipException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class CompressionUtilTest {
+
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void isCompressed() {
+        assertTrue(CompressionUtil.isCompressed(Paths.get("data", "tasks.xml.gz")));
+        assertTrue(CompressionUtil.isCompressed(Paths.get("tasks.csv.ZZ")));
+        assertFalse(CompressionUtil.isCompressed(Paths.get("tasks.xml")));
+        assertFalse(CompressionUtil.isCompressed(Paths.get("gz")));
+    }
+
+    @Test
+    public void getUncompressedFileName() {
+        assertEquals("Tasks.CSV", CompressionUtil.getUncompressedFileName(Paths.get("data", "Tasks.CSV.GZ")));
+        assertEquals("tasks.xml", CompressionUtil.getUncompressedFileName(Paths.get("tasks.xml.zz")));
+        assertEquals("tasks.xml", CompressionUtil.getUncompressedFileName(Paths.get("tasks.xml")));
+    }
+
+    @Test
+    public void newOutputStream_eachFormat_readBackAndCompressed() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("<task>Alice Pauline</task>\n");
+        }
+        byte[] data = text.toString().getBytes(UTF_8);
+        for (String fileName : new String[] {"tasks.xml", "tasks.xml.gz", "tasks.xml.zz"}) {
+            Path file = testFolder.getRoot().toPath().resolve(fileName);
+            try (OutputStream out = CompressionUtil.newOutputStream(file)) {
+                out.write(data);
+            }
+            try (InputStream in = CompressionUtil.newInputStream(file)) {
+                assertArrayEquals(data, in.readAllBytes());
+            }
+            assertEquals(CompressionUtil.isCompressed(file), Files.size(file) < data.length / 10);
+        }
+
+        byte[] gzipHeader = new byte[GZIP_MAGIC.length];
+        System.arraycopy(Files.readAllBytes(testFolder.getRoot().toPath().resolve("tasks.xml.gz")), 0,
+            gzipHeader, 0, gzipHeader.length);
+        assertArrayEquals(GZIP_MAGIC, gzipHeader);
+    }
+
+    @Test
+    public void newInputStream_notCompressed_throwsZipException() throws IOException {
+        Path file = testFolder.getRoot().toPath().resolve("tasks.xml.gz");
+        FileUtil.writeToFile(file, "<tasks/>");
+        Assert.assertThrows(ZipException.class, () -> CompressionUtil.newInputStream(file));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -163,5 +164,57 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for isAlphanumeric and isDigits -------------------------------------
 
+    @Test
+    public void isAlphanumeric() {
+        // EP: empty string
+        assertFalse(StringUtil.isAlphanumeric(""));
+
+        // EP: non-alphanumeric characters, including non-ASCII letters and digits
+        assertFalse(StringUtil.isAlphanumeric(" "));
+        assertFalse(StringUtil.isAlphanumeric("a b"));
+        assertFalse(StringUtil.isAlphanumeric("a_b"));
+        assertFalse(StringUtil.isAlphanumeric("caf\u00e9"));
+        assertFalse(StringUtil.isAlphanumeric("\u0661"));
+
+        // EP: alphanumeric strings, agreeing with the regex they replace
+        assertTrue(StringUtil.isAlphanumeric("a"));
+        assertTrue(StringUtil.isAlphanumeric("Z9"));
+        assertTrue(StringUtil.isAlphanumeric("abcXYZ0189"));
+        for (char c = 0; c < 256; c++) {
+            String s = String.valueOf(c);
+            assertEquals(s.matches("\\p{Alnum}+"), StringUtil.isAlphanumeric(s));
+        }
+    }
+
+    @Test
+    public void isAlphanumeric_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.isAlphanumeric(null);
+    }
+
+    @Test
+    public void isDigits() {
+        // EP: empty string
+        assertFalse(StringUtil.isDigits(""));
+
+        // EP: non-digits
+        assertFalse(StringUtil.isDigits("a"));
+        assertFalse(StringUtil.isDigits("-1"));
+        assertFalse(StringUtil.isDigits("+1"));
+        assertFalse(StringUtil.isDigits("1 2"));
+        assertFalse(StringUtil.isDigits("\u0661"));
+
+        // EP: digits
+        assertTrue(StringUtil.isDigits("0"));
+        assertTrue(StringUtil.isDigits("0123456789"));
+        assertTrue(StringUtil.isDigits("99999999999999999999"));
+    }
+
+    @Test
+    public void isDigits_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.isDigits(null);
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class CommandCompleterTest {
+
+    private CommandCompleter completer;
+
+    @Before
+    public void setUp() {
+        completer = new CommandCompleter(Arrays.asList(ALICE, BENSON, CARL));
+    }
+
+    @Test
+    public void getCompletions_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> completer.getCompletions(null));
+    }
+
+    @Test
+    public void getCompletions_commandWord() {
+        assertEquals(Arrays.asList("edit", "exit", "export"), completer.getCompletions("e"));
+        assertEquals(Collections.singletonList("  filter"), completer.getCompletions("  fil"));
+        assertEquals(Collections.emptyList(), completer.getCompletions("xyz"));
+    }
+
+    @Test
+    public void getCompletions_prefix() {
+        assertEquals(prefixCompletions("add n/Task p/1 "), completer.getCompletions("add n/Task p/1 "));
+        assertEquals(Collections.singletonList("add n/Task t/"), completer.getCompletions("add n/Task t"));
+    }
+
+    @Test
+    public void getCompletions_tag() {
+        assertEquals(Collections.singletonList("edit 1 t/owesMoney"), completer.getCompletions("edit 1 t/o"));
+        assertEquals(Arrays.asList("edit 1 t/friends", "edit 1 t/owesMoney"),
+            completer.getCompletions("edit 1 t/"));
+    }
+
+    @Test
+    public void getCompletions_name() {
+        assertEquals(Collections.singletonList("edit 1 n/Alice Pauline"), completer.getCompletions("edit 1 n/Al"));
+    }
+
+    @Test
+    public void getCompletions_filter() {
+        // filter keys
+        assertEquals(Collections.singletonList("filter tag"), completer.getCompletions("filter ta"));
+        assertEquals(Collections.singletonList("filter (!tag"), completer.getCompletions("filter (!ta"));
+
+        // last tag of a tag predicate
+        assertEquals(Collections.singletonList("filter t:friends,owesMoney"),
+            completer.getCompletions("filter t:friends,ow"));
+
+        // names with spaces are quoted
+        assertEquals(Collections.singletonList("filter n:\"Carl Kurz\""), completer.getCompletions("filter n:Ca"));
+        assertEquals(Collections.singletonList("filter name=\"Benson Meier\""),
+            completer.getCompletions("filter name=\"Be"));
+    }
+
+    @Test
+    public void update_addAndRemoveTasks_vocabularyUpdated() {
+        Task editedAlice = new TaskBuilder(ALICE).withName("Alicia").withTags("work").build();
+        completer.update(Collections.singletonList(editedAlice), Collections.singletonList(ALICE));
+
+        assertEquals(Collections.singletonList("edit 1 n/Alicia"), completer.getCompletions("edit 1 n/Al"));
+        assertEquals(Collections.singletonList("edit 1 t/work"), completer.getCompletions("edit 1 t/w"));
+
+        // friends is still used by Benson
+        assertEquals(Collections.singletonList("edit 1 t/friends"), completer.getCompletions("edit 1 t/fr"));
+
+        completer.update(Collections.emptyList(), Collections.singletonList(BENSON));
+        assertEquals(Collections.emptyList(), completer.getCompletions("edit 1 t/fr"));
+    }
+
+    private static List<String> prefixCompletions(String head) {
+        return Arrays.asList(head + "b/", head + "d/", head + "f/", head + "n/", head + "p/", head + "r/", head + "t/");
+    }
+}
@@ -6,10 +6,14 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import seedu.address.testutil.Assert;
+
 public class CommandHistoryTest {
 
     private CommandHistory history;
@@ -37,6 +41,52 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
+    }
+
+    @Test
+    public void add_fullHistory_replacesOldestInput() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        boundedHistory.add("a");
+        boundedHistory.add("b");
+        boundedHistory.add("c");
+        assertEquals(Arrays.asList("b", "c"), boundedHistory.getHistory());
+        assertEquals(2, boundedHistory.size());
+    }
+
+    @Test
+    public void getSnapshot_laterAdds_notIncluded() {
+        history.add("a");
+        List<String> snapshot = history.getSnapshot();
+        history.add("b");
+        assertEquals(Arrays.asList("a"), snapshot);
+    }
+
+    @Test
+    public void getSnapshot_inputReplaced_throwsConcurrentModificationException() {
+        CommandHistory boundedHistory = new CommandHistory(1);
+        boundedHistory.add("a");
+        List<String> snapshot = boundedHistory.getSnapshot();
+        boundedHistory.add("b");
+        Assert.assertThrows(ConcurrentModificationException.class, () -> snapshot.get(0));
+    }
+
+    @Test
+    public void lastIndexOfContaining_replacedInputs_notFound() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        for (String command : Arrays.asList("delete 1", "list", "delete 2", "delete 3", "list")) {
+            boundedHistory.add(command);
+        }
+        CommandHistory.Snapshot snapshot = boundedHistory.getSnapshot();
+
+        assertEquals(0, snapshot.lastIndexOfContaining("DELETE", 1));
+        assertEquals(-1, snapshot.lastIndexOfContaining("delete 2", 1));
+        assertEquals(1, snapshot.lastIndexOfContaining("li", 1));
+        assertEquals(-1, snapshot.lastIndexOfContaining("list", -1));
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
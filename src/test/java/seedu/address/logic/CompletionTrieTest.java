@@ -0,0 +1,98 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class CompletionTrieTest {
+
+    private CompletionTrie trie;
+
+    @Before
+    public void setUp() {
+        trie = new CompletionTrie();
+        trie.add("team");
+        trie.add("tea");
+        trie.add("test");
+        trie.add("toast");
+        trie.add("apple");
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_prefix_returnsWordsInOrder() {
+        assertEquals(Arrays.asList("tea", "team", "test", "toast"), trie.complete("t", 10));
+        assertEquals(Arrays.asList("tea", "team"), trie.complete("tea", 10));
+
+        // prefix ending inside a compressed edge
+        assertEquals(Collections.singletonList("toast"), trie.complete("toa", 10));
+
+        // empty prefix returns every word
+        assertEquals(Arrays.asList("apple", "tea", "team", "test", "toast"), trie.complete("", 10));
+
+        // no completion
+        assertEquals(Collections.emptyList(), trie.complete("tx", 10));
+        assertEquals(Collections.emptyList(), trie.complete("teams", 10));
+    }
+
+    @Test
+    public void complete_limit_returnsFirstWords() {
+        assertEquals(Arrays.asList("tea", "team"), trie.complete("t", 2));
+        assertEquals(Collections.emptyList(), trie.complete("t", 0));
+    }
+
+    @Test
+    public void countCompletions() {
+        assertEquals(4, trie.countCompletions("t"));
+        assertEquals(3, trie.countCompletions("te"));
+        assertEquals(5, trie.countCompletions(""));
+        assertEquals(0, trie.countCompletions("b"));
+    }
+
+    @Test
+    public void remove_referencedWord_keptUntilLastReferenceRemoved() {
+        trie.add("tea");
+        trie.remove("tea");
+        assertTrue(trie.contains("tea"));
+        assertEquals(4, trie.countCompletions("t"));
+
+        trie.remove("tea");
+        assertFalse(trie.contains("tea"));
+        assertTrue(trie.contains("team"));
+        assertEquals(Arrays.asList("team", "test", "toast"), trie.complete("t", 10));
+        assertEquals(3, trie.countCompletions("t"));
+    }
+
+    @Test
+    public void remove_leaf_mergesNodes() {
+        trie.remove("test");
+        trie.remove("tea");
+        assertEquals(Collections.singletonList("team"), trie.complete("te", 10));
+
+        // words can be added again after the nodes were merged
+        trie.add("ten");
+        assertEquals(Arrays.asList("team", "ten"), trie.complete("te", 10));
+        assertEquals(2, trie.countCompletions("te"));
+    }
+
+    @Test
+    public void remove_absentWord_doesNothing() {
+        trie.remove("te");
+        trie.remove("teams");
+        trie.remove("banana");
+        assertEquals(5, trie.countCompletions(""));
+        assertFalse(trie.contains("te"));
+    }
+}
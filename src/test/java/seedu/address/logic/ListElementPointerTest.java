@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -79,6 +80,74 @@ public class ListElementPointerTest {
         assertPreviousFailure();
     }
 
+    @Test
+    public void findPrevious_matchingElements_movesCursorToMatch() {
+        pointer = new ListElementPointer(pointerElements);
+        pointer.add("");
+        pointer.moveToLast();
+
+        // matches are case-insensitive and searched backwards from the cursor
+        assertEquals(Optional.of(SECOND_ELEMENT), pointer.findPrevious("SEC"));
+        assertEquals(SECOND_ELEMENT, pointer.current());
+        assertEquals(Optional.of(FIRST_ELEMENT), pointer.findPrevious("st"));
+        assertEquals(FIRST_ELEMENT, pointer.current());
+
+        // no match -> cursor unchanged
+        assertEquals(Optional.empty(), pointer.findPrevious("st"));
+        assertEquals(FIRST_ELEMENT, pointer.current());
+
+        // current element is included
+        assertEquals(Optional.of(FIRST_ELEMENT), pointer.findCurrentOrPrevious("first"));
+
+        pointer.moveToLast();
+        assertEquals("", pointer.current());
+    }
+
+    @Test
+    public void findPrevious_historySnapshot_usesSearchIndex() {
+        CommandHistory history = new CommandHistory();
+        history.add("add n/first task");
+        history.add("list");
+        history.add("add n/second task");
+        pointer = ListElementPointer.ofView(history.getSnapshot());
+        pointer.add("");
+        pointer.moveToLast();
+
+        assertEquals(Optional.of("add n/second task"), pointer.findPrevious("add"));
+        assertEquals(Optional.of("add n/first task"), pointer.findPrevious("add"));
+        assertEquals(Optional.empty(), pointer.findPrevious("add"));
+
+        pointer.moveToLast();
+        assertEquals(Optional.of("add n/second task"), pointer.findCurrentOrPrevious("SECOND"));
+        assertEquals(Optional.of("list"), pointer.findPrevious("is"));
+    }
+
+    @Test
+    public void navigate_historyWrapsAfterSnapshot_skipsReplacedElements() {
+        CommandHistory history = new CommandHistory(3);
+        history.add("add n/first task");
+        history.add("list");
+        history.add("add n/second task");
+        pointer = ListElementPointer.ofView(history.getSnapshot());
+        pointer.add("");
+        pointer.moveToLast();
+        assertEquals("add n/second task", pointer.previous());
+        assertEquals("list", pointer.previous());
+
+        // commands added meanwhile replace the two oldest elements of the snapshot
+        history.add("undo");
+        history.add("redo");
+
+        assertFalse(pointer.hasCurrent());
+        assertFalse(pointer.hasPrevious());
+        assertEquals(Optional.empty(), pointer.findPrevious("add"));
+        assertEquals(Optional.empty(), pointer.findCurrentOrPrevious("list"));
+        assertTrue(pointer.hasNext());
+        assertEquals("add n/second task", pointer.next());
+        assertEquals(Optional.of("add n/second task"), pointer.findCurrentOrPrevious("add"));
+        assertEquals("", pointer.next());
+    }
+
     @Test
     public void equals() {
         ListElementPointer firstPointer = new ListElementPointer(pointerElements);
@@ -1,14 +1,25 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,6 +28,7 @@ import seedu.address.logic.parser.exceptions.SimpleParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
 
 
 public class LogicManagerTest {
@@ -48,6 +60,72 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD;
+        CommandResult result = logic.executeAsync(listCommand).get();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.feedbackToUser);
+        assertHistoryCorrect(listCommand);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        String deleteCommand = "delete 9";
+        CompletableFuture<CommandResult> result = logic.executeAsync(deleteCommand);
+        try {
+            result.get();
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommandException);
+            assertEquals(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, e.getCause().getMessage());
+        }
+        assertHistoryCorrect(deleteCommand);
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        AssertionError error = new AssertionError("broken model");
+        Logic brokenLogic = new LogicManager(new ModelManager() {
+            @Override
+            public void updateFilteredTaskList(Predicate<Task> predicate) {
+                throw error;
+            }
+        });
+        CompletableFuture<CommandResult> result = brokenLogic.executeAsync(ListCommand.COMMAND_WORD);
+        try {
+            result.get(1, TimeUnit.MINUTES);
+            throw new AssertionError("The expected AssertionError was not thrown.");
+        } catch (ExecutionException e) {
+            assertSame(error, e.getCause());
+        }
+    }
+
+    @Test
+    public void runAsync_laterCommandsWaitForAction() throws Exception {
+        CompletableFuture<Void> canFinish = new CompletableFuture<>();
+        CompletableFuture<Void> action = logic.runAsync(() -> {
+            canFinish.join();
+            model.addLoadedTasks(Collections.singletonList(ALICE));
+            model.finishLoading();
+        });
+        CompletableFuture<CommandResult> result = logic.executeAsync("delete 1");
+        assertFalse(result.isDone());
+
+        canFinish.complete(null);
+        action.get();
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS, ALICE), result.get().feedbackToUser);
+    }
+
+    @Test
+    public void execute_loadingFailed_onlyReadOnlyCommandsRun() {
+        model.addLoadedTasks(Collections.singletonList(ALICE));
+        model.failLoading(new IllegalStateException("corrupt task"));
+
+        assertCommandException("delete 1", LogicManager.MESSAGE_CHANGES_DISABLED);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredTaskList());
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -120,6 +120,30 @@ public class AttachmentCommandTest {
         deleteTestFile(tempFile);
     }
 
+    @Test
+    public void execute_addAttachmentFileWithStore_fileCopiedIntoStore() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAttachmentStorePath(folder.getRoot().toPath().resolve("attachments"));
+        Model storeModel = new ModelManager(getTypicalTaskCollections(), userPrefs);
+        File tempFile = createTestFile();
+        AttachmentCommand attachmentCommand = new AttachmentCommand(INDEX_FIRST_TASK,
+            new AttachmentCommand.AddAttachmentAction(tempFile.getAbsolutePath()));
+
+        CommandResult result = attachmentCommand.execute(storeModel, commandHistory);
+        assertEquals(String.format(AttachmentCommand.AddAttachmentAction.MESSAGE_SUCCESS, tempFile.getName()),
+            result.feedbackToUser);
+
+        Attachment attachment = storeModel.getFilteredTaskList().get(INDEX_FIRST_TASK.getZeroBased())
+            .getAttachments().stream()
+            .filter(x -> x.getName().equals(tempFile.getName()))
+            .findFirst().get();
+        assertTrue(storeModel.getAttachmentStore().get().contains(attachment));
+
+        // the attachment remains available after the original file is deleted
+        deleteTestFile(tempFile);
+        assertTrue(attachment.isReadable());
+    }
+
     @Test
     public void execute_addAttachmentFileDuplicatedFile_error() {
         File tempFile = createTestFile();
@@ -4,11 +4,13 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.junit.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.events.storage.ImportExportExceptionEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.TaskCollection;
@@ -73,7 +75,7 @@ public class ExportCommandTest {
         }
 
         @Override
-        public void exportTaskCollection(String filename, boolean shouldOverwrite, boolean isCsvFormat) {
+        public void exportTaskCollection(String filename, boolean shouldOverwrite, Optional<CsvFormat> csvFormat) {
             if (shouldOverwrite) {
                 //No error.
                 return;
@@ -1,14 +1,19 @@
 package seedu.address.logic.commands;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.events.storage.ImportDataAvailableEvent;
 import seedu.address.model.ImportConflictResolver;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollectionSnapshot;
+import seedu.address.model.attachment.AttachmentStore;
 import seedu.address.model.task.Task;
 
 /**
@@ -31,6 +36,16 @@ public class ModelStub extends ComponentManager implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public TaskCollectionSnapshot getTaskCollectionSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<AttachmentStore> getAttachmentStore() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasTask(Task task) {
         throw new AssertionError("This method should not be called.");
@@ -87,7 +102,32 @@ public class ModelStub extends ComponentManager implements Model {
     }
 
     @Override
-    public void exportTaskCollection(String filename, boolean shouldOverwrite, boolean isCsvFormat) {
+    public void addLoadedTasks(List<Task> tasks) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void finishLoading() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void failLoading(Exception cause) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void beginBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void endBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void exportTaskCollection(String filename, boolean shouldOverwrite, Optional<CsvFormat> csvFormat) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskCollections;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.ZipFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains unit tests for ZipAttachmentCommand.
+ */
+public class ZipAttachmentCommandTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_displayedTasks_savedToZip() throws Exception {
+        File spec = folder.newFile("spec.txt");
+        Files.write(spec.toPath(), "specification".getBytes(StandardCharsets.UTF_8));
+        TaskCollection taskCollection = new TaskCollection();
+        Task task = new TaskBuilder().withName("Project")
+            .withAttachments(Collections.singleton(new Attachment(spec))).build();
+        taskCollection.addTask(task);
+        taskCollection.addTask(new TaskBuilder().withName("Lecture").withAttachments(Collections.emptySet()).build());
+        Model model = new ModelManager(taskCollection, new UserPrefs());
+        File zipFile = new File(folder.getRoot(), "attachments.zip");
+
+        CommandResult result = new ZipAttachmentCommand(zipFile.getPath()).execute(model, commandHistory);
+
+        assertEquals(String.format(ZipAttachmentCommand.MESSAGE_SUCCESS, 1, 2, zipFile.getPath()),
+            result.feedbackToUser);
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            assertEquals(1, zip.size());
+            assertTrue(zip.getEntry("1 Project/spec.txt") != null);
+        }
+
+        // saving again replaces the file and says so
+        result = new ZipAttachmentCommand(zipFile.getPath()).execute(model, commandHistory);
+        assertEquals(String.format(ZipAttachmentCommand.MESSAGE_SUCCESS, 1, 2, zipFile.getPath())
+            + String.format(ZipAttachmentCommand.MESSAGE_REPLACED, zipFile.getPath()), result.feedbackToUser);
+
+        // the temporary file written next to the archive is moved onto it
+        assertArrayEquals(new String[] {zipFile.getName(), spec.getName()}, sortedNames(folder.getRoot()));
+    }
+
+    @Test
+    public void execute_missingAttachments_reportedAsSkipped() throws Exception {
+        Model model = new ModelManager(getTypicalTaskCollections(), new UserPrefs());
+        File zipFile = new File(folder.getRoot(), "attachments.zip");
+
+        CommandResult result = new ZipAttachmentCommand(zipFile.getPath()).execute(model, commandHistory);
+
+        assertTrue(result.feedbackToUser.startsWith(
+            String.format(ZipAttachmentCommand.MESSAGE_SUCCESS, 0, model.getFilteredTaskList().size(),
+                zipFile.getPath())));
+        assertTrue(result.feedbackToUser.contains("could not be read"));
+    }
+
+    @Test
+    public void execute_destinationIsDirectory_failure() throws IOException {
+        Model model = new ModelManager(getTypicalTaskCollections(), new UserPrefs());
+        File directory = folder.newFolder();
+        assertCommandFailure(new ZipAttachmentCommand(directory.getPath()), model, commandHistory,
+            String.format(ZipAttachmentCommand.MESSAGE_ZIP_FAILED, directory.getPath()));
+
+        // the empty directory is not replaced and no temporary file is left behind
+        assertTrue(directory.isDirectory());
+        assertArrayEquals(new String[] {directory.getName()}, sortedNames(folder.getRoot()));
+    }
+
+    @Test
+    public void execute_missingParentDirectory_failure() {
+        Model model = new ModelManager(getTypicalTaskCollections(), new UserPrefs());
+        String savePath = new File(new File(folder.getRoot(), "missing"), "attachments.zip").getPath();
+        assertCommandFailure(new ZipAttachmentCommand(savePath), model, commandHistory,
+            String.format(ZipAttachmentCommand.MESSAGE_ZIP_FAILED, savePath));
+        assertArrayEquals(new String[0], sortedNames(folder.getRoot()));
+    }
+
+    private static String[] sortedNames(File directory) {
+        String[] names = directory.list();
+        Arrays.sort(names);
+        return names;
+    }
+
+    @Test
+    public void equals() {
+        ZipAttachmentCommand command = new ZipAttachmentCommand("a.zip");
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ZipAttachmentCommand("a.zip")));
+        assertFalse(command.equals(new ZipAttachmentCommand("b.zip")));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
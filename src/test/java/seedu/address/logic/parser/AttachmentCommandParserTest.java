@@ -5,6 +5,7 @@ import static seedu.address.logic.commands.AttachmentCommand.COMMAND_ADD_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.COMMAND_DELETE_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.COMMAND_GET_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.COMMAND_LIST_ACTION;
+import static seedu.address.logic.commands.AttachmentCommand.COMMAND_ZIP_ACTION;
 import static seedu.address.logic.commands.AttachmentCommand.MESSAGE_MISSING_ARGUMENTS;
 import static seedu.address.logic.commands.AttachmentCommand.MESSAGE_USAGE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -16,6 +17,7 @@ import org.junit.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AttachmentCommand;
+import seedu.address.logic.commands.ZipAttachmentCommand;
 
 /**
  * Test scope: Export command parser.
@@ -55,6 +57,19 @@ public class AttachmentCommandParserTest {
         assertParseFailure(parser, "1 $/#", expected);
     }
 
+    @Test
+    public void parse_zipAction_returnsZipAttachmentCommand() {
+        ZipAttachmentCommand expected = new ZipAttachmentCommand("all attachments.zip");
+        assertParseSuccess(parser, " " + COMMAND_ZIP_ACTION + " p/\"all attachments.zip\"", expected);
+    }
+
+    @Test
+    public void parse_zipActionMissingFilePath_throwsParseException() {
+        String expected = String.format(MESSAGE_MISSING_ARGUMENTS, "FILEPATH", COMMAND_ZIP_ACTION);
+        assertParseFailure(parser, " " + COMMAND_ZIP_ACTION, expected);
+        assertParseFailure(parser, " " + COMMAND_ZIP_ACTION + " n/\"hello.txt\"", expected);
+    }
+
     @Test
     public void parse_addActionUnquotedFilePath_returnsAttachmentCommand() {
         Index targetIndex = INDEX_SECOND_TASK;
@@ -4,8 +4,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Optional;
+
 import org.junit.Test;
 
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.logic.commands.ExportCommand;
 
 /**
@@ -77,6 +80,27 @@ public class ExportCommandParserTest {
             new ExportCommand("", false, true));
     }
 
+    @Test
+    public void parse_csvOptions_returnsExportCommandWithDialect() {
+        assertParseSuccess(parser, " csv full p/ab",
+            new ExportCommand("ab", false, Optional.of(CsvFormat.DEFAULT.withAllColumns())));
+        assertParseSuccess(parser, " csv tab full p/ab r/overwrite",
+            new ExportCommand("ab", true, Optional.of(CsvFormat.DEFAULT.withAllColumns().withDelimiter('\t'))));
+        assertParseSuccess(parser, " csv  semicolon p/ab",
+            new ExportCommand("ab", false,
+                Optional.of(CsvFormat.DEFAULT.withValueSeparator(",").withDelimiter(';'))));
+    }
+
+    @Test
+    public void parse_invalidCsvOptions_throwsParseException() {
+        assertParseFailure(parser, " full p/ab",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " csv full full p/ab",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " csv tab semicolon p/ab",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidParameters_throwsParseException() {
         assertParseFailure(parser, " notCSV p/file r/override",
@@ -4,11 +4,14 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Optional;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.model.DuplicateImportConflictResolver;
 import seedu.address.model.IgnoreImportConflictResolver;
+import seedu.address.model.MergeImportConflictResolver;
 import seedu.address.model.OverwriteImportConflictResolver;
 
 /**
@@ -83,4 +86,20 @@ public class ImportCommandParserTest {
         assertParseSuccess(parser, " p/'file p/name'",
             new ImportCommand("file p/name", new IgnoreImportConflictResolver()));
     }
+
+    @Test
+    public void parse_merge_returnsImportCommand() {
+        assertParseSuccess(parser, " p/ab r/merge",
+            new ImportCommand("ab", new MergeImportConflictResolver()));
+        assertParseSuccess(parser, " p/ab r/merge b/base.xml",
+            new ImportCommand("ab", new MergeImportConflictResolver(Optional.of("base.xml"))));
+    }
+
+    @Test
+    public void parse_baseWithoutMerge_throwsParseException() {
+        assertParseFailure(parser, " p/ab b/base.xml",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " p/ab r/overwrite b/base.xml",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.task.Task;
+
+public class ImportPlanTest {
+
+    @Test
+    public void importTask_noConflicts_tasksAppended() {
+        ImportPlan plan = new ImportPlan(Arrays.asList(ALICE, BENSON));
+        plan.importTask(CARL, new IgnoreImportConflictResolver());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), plan.getTasks());
+        assertEquals(Collections.singletonList(CARL), plan.getAddedTasks());
+        assertEquals(Collections.emptyList(), plan.getRemovedTasks());
+        assertEquals(0, plan.getConflictCount());
+    }
+
+    @Test
+    public void importTask_eachResolver_sameAsApplyingToList() {
+        List<Task> existing = Arrays.asList(ALICE, BENSON, ALICE, CARL);
+        List<Task> incoming = Arrays.asList(ALICE, CARL, BENSON, ALICE, ALICE, BENSON, CARL, CARL);
+        for (ImportConflictResolver resolver : Arrays.asList(new IgnoreImportConflictResolver(),
+            new OverwriteImportConflictResolver(), new DuplicateImportConflictResolver(), null)) {
+            ImportPlan plan = new ImportPlan(existing);
+            List<Task> expected = new ArrayList<>(existing);
+            for (Task task : incoming) {
+                plan.importTask(task, resolver);
+                if (!expected.contains(task)) {
+                    expected.add(task);
+                } else if (resolver != null) {
+                    resolver.resolve(expected::add, expected::remove, task);
+                }
+            }
+            assertEquals(expected, plan.getTasks());
+        }
+    }
+
+    @Test
+    public void removeTask_addedTwice_firstCopyRemoved() {
+        ImportPlan plan = new ImportPlan(Collections.singletonList(ALICE));
+        plan.addTask(BENSON);
+        plan.addTask(CARL);
+        plan.addTask(BENSON);
+        plan.removeTask(ALICE);
+        plan.removeTask(BENSON);
+        plan.removeTask(ALICE);
+
+        assertFalse(plan.hasTask(ALICE));
+        assertTrue(plan.hasTask(BENSON));
+        assertEquals(Arrays.asList(CARL, BENSON), plan.getTasks());
+        assertEquals(Arrays.asList(CARL, BENSON), plan.getAddedTasks());
+        assertEquals(Collections.singletonList(ALICE), plan.getRemovedTasks());
+    }
+
+    @Test
+    public void hasChanges() {
+        ImportPlan plan = new ImportPlan(Collections.singletonList(ALICE));
+        plan.importTask(ALICE, new IgnoreImportConflictResolver());
+        assertFalse(plan.hasChanges());
+        assertEquals(1, plan.getConflictCount());
+
+        plan.importTask(ALICE, new OverwriteImportConflictResolver());
+        assertTrue(plan.hasChanges());
+        assertEquals(Collections.singletonList(ALICE), plan.getTasks());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.CARL;
+import static seedu.address.testutil.TypicalTasks.DANIEL;
+import static seedu.address.testutil.TypicalTasks.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class MergeImportConflictResolverTest {
+
+    private final MergeImportConflictResolver resolver = new MergeImportConflictResolver();
+
+    @Test
+    public void plan_noBase_missingTasksAdded() {
+        ImportPlan plan = plan(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, CARL, CARL), Optional.empty());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, CARL), plan.getTasks());
+        assertEquals(Arrays.asList(CARL, CARL), plan.getAddedTasks());
+        assertEquals(Collections.emptyList(), plan.getRemovedTasks());
+    }
+
+    @Test
+    public void plan_sameTasks_noChanges() {
+        ImportPlan plan = plan(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, ALICE),
+            Optional.of(Collections.singletonList(CARL)));
+        assertFalse(plan.hasChanges());
+    }
+
+    @Test
+    public void plan_withBase_changesOnBothSidesKept() {
+        // we added DANIEL; they deleted BENSON and added ELLE
+        ImportPlan plan = plan(Arrays.asList(ALICE, BENSON, CARL, DANIEL), Arrays.asList(ALICE, CARL, ELLE),
+            Optional.of(Arrays.asList(ALICE, BENSON, CARL)));
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL, ELLE), plan.getTasks());
+        assertEquals(Collections.singletonList(ELLE), plan.getAddedTasks());
+        assertEquals(Collections.singletonList(BENSON), plan.getRemovedTasks());
+    }
+
+    @Test
+    public void plan_withBase_deletionOnOurSideKept() {
+        ImportPlan plan = plan(Collections.singletonList(ALICE), Arrays.asList(ALICE, BENSON),
+            Optional.of(Arrays.asList(ALICE, BENSON)));
+        assertFalse(plan.hasChanges());
+    }
+
+    @Test
+    public void plan_taskEditedOnTheirSide_updatedInPlace() {
+        Task editedAlice = new TaskBuilder(ALICE).withPriority("3").build();
+        ImportPlan plan = plan(Arrays.asList(ALICE, BENSON), Arrays.asList(editedAlice, BENSON),
+            Optional.of(Arrays.asList(ALICE, BENSON)));
+        assertEquals(Arrays.asList(editedAlice, BENSON), plan.getTasks());
+        assertEquals(1, plan.getUpdateCount());
+        assertEquals(Collections.singletonList(editedAlice), plan.getAddedTasks());
+        assertEquals(Collections.singletonList(ALICE), plan.getRemovedTasks());
+    }
+
+    private ImportPlan plan(List<Task> currentTasks, List<Task> incomingTasks, Optional<List<Task>> baseTasks) {
+        ImportPlan plan = new ImportPlan(currentTasks);
+        resolver.plan(plan, incomingTasks, baseTasks);
+        return plan;
+    }
+}
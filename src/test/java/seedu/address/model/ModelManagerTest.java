@@ -1,13 +1,18 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static seedu.address.testutil.TypicalTasks.ALICE;
 import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.CARL;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,6 +21,10 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.commons.events.model.ExportRequestEvent;
 import seedu.address.commons.events.model.ImportRequestEvent;
+import seedu.address.commons.events.model.TaskCollectionChangedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadFailedEvent;
+import seedu.address.commons.events.model.TaskCollectionLoadedEvent;
+import seedu.address.commons.events.storage.ImportDataAvailableEvent;
 import seedu.address.model.task.NameContainsKeywordsPredicate;
 import seedu.address.testutil.TaskManagerBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
@@ -57,7 +66,7 @@ public class ModelManagerTest {
     @Test
     public void exportTaskCollection_nullFilename_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
-        modelManager.exportTaskCollection(null, false, false);
+        modelManager.exportTaskCollection(null, false, Optional.empty());
     }
 
     @Test
@@ -68,11 +77,28 @@ public class ModelManagerTest {
         TaskCollection expectedTaskCollection = new TaskCollection();
         expectedTaskCollection.addTask(ALICE);
 
-        exportManager.exportTaskCollection(VALID_PATH, false, false);
+        exportManager.exportTaskCollection(VALID_PATH, false, Optional.empty());
         BaseEvent event = eventsCollectorRule.eventsCollector.getMostRecent();
         assertTrue(event instanceof ExportRequestEvent);
         assertTrue(((ExportRequestEvent) event).filename.equals(VALID_PATH));
-        assertTrue(((ExportRequestEvent) event).data.equals(expectedTaskCollection));
+        assertEquals(expectedTaskCollection.getTaskList(), ((ExportRequestEvent) event).data.getTaskList());
+    }
+
+    @Test
+    public void exportTaskCollection_filteredList_exportsUnchangingSnapshotWithFilter() {
+        ModelManager exportManager = new ModelManager();
+        exportManager.addTask(ALICE);
+        exportManager.addTask(BENSON);
+        exportManager.updateFilteredTaskList(task -> task.equals(BENSON));
+
+        exportManager.exportTaskCollection(VALID_PATH, false, Optional.empty());
+        ExportRequestEvent event = (ExportRequestEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertFalse(event.filter.test(ALICE));
+        assertTrue(event.filter.test(BENSON));
+
+        // later changes do not affect the tasks being exported
+        exportManager.deleteTask(ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON), event.data.getTaskList());
     }
 
     @Test
@@ -95,6 +121,191 @@ public class ModelManagerTest {
         assertTrue(((ImportRequestEvent) event).filename.equals(VALID_PATH));
     }
 
+    @Test
+    public void addTask_taskCollectionChangedEventRaisedWithAddedTask() {
+        modelManager.addTask(ALICE);
+        TaskCollectionChangedEvent event =
+            (TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonList(ALICE), event.addedTasks);
+        assertEquals(Collections.emptyList(), event.removedTasks);
+    }
+
+    @Test
+    public void resetData_taskCollectionChangedEventRaisedWithDifference() {
+        modelManager.addTask(ALICE);
+        modelManager.resetData(new TaskManagerBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        TaskCollectionChangedEvent event =
+            (TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonList(BENSON), event.addedTasks);
+        assertEquals(Collections.emptyList(), event.removedTasks);
+    }
+
+    @Test
+    public void addTask_snapshotPublishedWithEvent() {
+        TaskCollectionSnapshot initialSnapshot = modelManager.getTaskCollectionSnapshot();
+        modelManager.addTask(ALICE);
+        TaskCollectionChangedEvent event =
+            (TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertSame(modelManager.getTaskCollectionSnapshot(), event.data);
+        assertEquals(Collections.singletonList(ALICE), event.data.getTaskList());
+        assertTrue(modelManager.getTaskCollectionSnapshot().getVersion() > initialSnapshot.getVersion());
+
+        // published snapshots are not affected by later changes
+        modelManager.addTask(BENSON);
+        assertEquals(Collections.emptyList(), initialSnapshot.getTaskList());
+        assertEquals(Collections.singletonList(ALICE), event.data.getTaskList());
+    }
+
+    @Test
+    public void addTask_inBatch_snapshotPublishedAtEnd() {
+        TaskCollectionSnapshot initialSnapshot = modelManager.getTaskCollectionSnapshot();
+        modelManager.beginBatch();
+        modelManager.addTask(ALICE);
+        assertSame(initialSnapshot, modelManager.getTaskCollectionSnapshot());
+
+        modelManager.endBatch();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getTaskCollectionSnapshot().getTaskList());
+    }
+
+    @Test
+    public void endBatch_changesInBatch_committedAndAnnouncedOnce() {
+        modelManager.beginBatch();
+        modelManager.addTask(ALICE);
+        modelManager.commitTaskCollection();
+        modelManager.addTask(BENSON);
+        modelManager.deleteTask(ALICE);
+        modelManager.commitTaskCollection();
+
+        // nothing is announced or committed until the batch ends, but the batch's changes can be undone
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertTrue(modelManager.canUndoTaskCollection());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        TaskCollectionChangedEvent event =
+            (TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonList(BENSON), event.addedTasks);
+        assertEquals(Collections.emptyList(), event.removedTasks);
+
+        // the whole batch is undone at once
+        modelManager.undoTaskCollection();
+        assertFalse(modelManager.canUndoTaskCollection());
+        assertFalse(modelManager.hasTask(BENSON));
+    }
+
+    @Test
+    public void undoTaskCollection_inBatchAfterCommit_restoresStateBeforeBatch() {
+        modelManager.addTask(ALICE);
+        modelManager.commitTaskCollection();
+
+        modelManager.beginBatch();
+        modelManager.addTask(BENSON);
+        modelManager.commitTaskCollection();
+        modelManager.addTask(CARL);
+        modelManager.commitTaskCollection();
+        assertFalse(modelManager.canRedoTaskCollection());
+
+        // only the changes of the batch are undone, not the command before it
+        modelManager.undoTaskCollection();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredTaskList());
+        modelManager.endBatch();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getTaskCollectionSnapshot().getTaskList());
+
+        // nothing was committed for the undone batch
+        modelManager.undoTaskCollection();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredTaskList());
+        assertFalse(modelManager.canUndoTaskCollection());
+    }
+
+    @Test
+    public void addLoadedTasks_notAnnouncedUntilLoadingFinishes() {
+        TaskCollectionSnapshot initialSnapshot = modelManager.getTaskCollectionSnapshot();
+        modelManager.addLoadedTasks(Arrays.asList(ALICE, BENSON));
+        modelManager.addLoadedTasks(Collections.singletonList(CARL));
+
+        // the tasks are shown, but not announced (and hence not saved) or published
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredTaskList());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertSame(initialSnapshot, modelManager.getTaskCollectionSnapshot());
+
+        modelManager.finishLoading();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        TaskCollectionLoadedEvent event =
+            (TaskCollectionLoadedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertSame(modelManager.getTaskCollectionSnapshot(), event.data);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), event.data.getTaskList());
+    }
+
+    @Test
+    public void failLoading_tasksLoadedSoFarPublishedWithoutChange() {
+        IllegalStateException cause = new IllegalStateException("corrupt task");
+        modelManager.addLoadedTasks(Arrays.asList(ALICE, BENSON));
+        modelManager.failLoading(cause);
+
+        // no TaskCollectionChangedEvent, so the incomplete tasks are not saved
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        TaskCollectionLoadFailedEvent event =
+            (TaskCollectionLoadFailedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertSame(modelManager.getTaskCollectionSnapshot(), event.data);
+        assertEquals(Arrays.asList(ALICE, BENSON), event.data.getTaskList());
+        assertSame(cause, event.exception);
+        assertFalse(modelManager.canUndoTaskCollection());
+    }
+
+    @Test
+    public void finishLoading_loadedTasksCannotBeUndone() {
+        modelManager.addLoadedTasks(Arrays.asList(ALICE, BENSON));
+        modelManager.finishLoading();
+        assertFalse(modelManager.canUndoTaskCollection());
+
+        modelManager.deleteTask(ALICE);
+        modelManager.commitTaskCollection();
+        modelManager.undoTaskCollection();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredTaskList());
+        assertFalse(modelManager.canUndoTaskCollection());
+    }
+
+    @Test
+    public void endBatch_nestedBatch_takesEffectAtOutermostEnd() {
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.addTask(ALICE);
+        modelManager.endBatch();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void handleImportDataAvailableEvent_overwrite_appliedAsOneChange() {
+        modelManager.importTaskCollection(VALID_PATH, new OverwriteImportConflictResolver());
+        modelManager.addTask(ALICE);
+        modelManager.addTask(BENSON);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.handleImportDataAvailableEvent(new ImportDataAvailableEvent(
+            new TaskManagerBuilder().withPerson(CARL).withPerson(ALICE).build()));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        TaskCollectionChangedEvent event =
+            (TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Arrays.asList(CARL, ALICE), event.addedTasks);
+        assertEquals(Collections.singletonList(ALICE), event.removedTasks);
+        assertEquals(Arrays.asList(BENSON, CARL, ALICE), modelManager.getTaskCollection().getTaskList());
+        assertTrue(modelManager.canUndoTaskCollection());
+    }
+
+    @Test
+    public void handleImportDataAvailableEvent_ignoreOnlyConflicts_noChangeAnnounced() {
+        modelManager.importTaskCollection(VALID_PATH, new IgnoreImportConflictResolver());
+        modelManager.addTask(ALICE);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.handleImportDataAvailableEvent(new ImportDataAvailableEvent(
+            new TaskManagerBuilder().withPerson(ALICE).build()));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertEquals(Collections.singletonList(ALICE), modelManager.getTaskCollection().getTaskList());
+    }
 
     @Test
     public void equals() {
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalTasks.AMY;
@@ -62,6 +63,21 @@ public class VersionedTaskCollectionTest {
             Collections.emptyList());
     }
 
+    @Test
+    public void resetHistory_multipleTaskCollection_onlyCurrentStateKept() {
+        VersionedTaskCollection versionedTaskCollection = prepareTaskCollectionList(
+            emptyTaskCollection, taskCollectionsWithAmy, taskCollectionWithBob);
+        shiftCurrentStatePointerLeftwards(versionedTaskCollection, 1);
+
+        versionedTaskCollection.resetHistory();
+        assertTaskCollectionListStatus(versionedTaskCollection,
+            Collections.emptyList(),
+            taskCollectionsWithAmy,
+            Collections.emptyList());
+        assertFalse(versionedTaskCollection.canUndo());
+        assertFalse(versionedTaskCollection.canRedo());
+    }
+
     @Test
     public void canUndo_multipleTaskCollectionPointerAtEndOfStateList_returnsTrue() {
         VersionedTaskCollection versionedTaskCollection = prepareTaskCollectionList(
@@ -214,6 +230,36 @@ public class VersionedTaskCollectionTest {
             versionedTaskCollection::redo);
     }
 
+    @Test
+    public void publishSnapshot_noChanges_returnsLatestSnapshot() {
+        VersionedTaskCollection versionedTaskCollection = prepareTaskCollectionList(taskCollectionsWithAmy);
+        TaskCollectionSnapshot snapshot = versionedTaskCollection.getLatestSnapshot();
+
+        assertSame(snapshot, versionedTaskCollection.publishSnapshot());
+        versionedTaskCollection.commit();
+        assertSame(snapshot, versionedTaskCollection.getLatestSnapshot());
+    }
+
+    @Test
+    public void publishSnapshot_changes_publishesNewerVersion() {
+        VersionedTaskCollection versionedTaskCollection = prepareTaskCollectionList(taskCollectionsWithAmy);
+        TaskCollectionSnapshot oldSnapshot = versionedTaskCollection.getLatestSnapshot();
+
+        versionedTaskCollection.addTask(CARL);
+        // changes are not visible until they are published
+        assertSame(oldSnapshot, versionedTaskCollection.getLatestSnapshot());
+
+        TaskCollectionSnapshot newSnapshot = versionedTaskCollection.publishSnapshot();
+        assertSame(newSnapshot, versionedTaskCollection.getLatestSnapshot());
+        assertEquals(oldSnapshot.getVersion() + 1, newSnapshot.getVersion());
+        assertEquals(Arrays.asList(AMY, CARL), newSnapshot.getTaskList());
+        assertEquals(Collections.singletonList(AMY), oldSnapshot.getTaskList());
+
+        // the published snapshot is not affected by later changes
+        versionedTaskCollection.removeTask(AMY);
+        assertEquals(Arrays.asList(AMY, CARL), newSnapshot.getTaskList());
+    }
+
     @Test
     public void equals() {
         VersionedTaskCollection versionedTaskCollection = prepareTaskCollectionList(taskCollectionsWithAmy,
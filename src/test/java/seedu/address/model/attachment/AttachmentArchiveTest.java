@@ -0,0 +1,149 @@
+package seedu.address.model.attachment;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class AttachmentArchiveTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ExecutorService ioPool = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        ioPool.shutdownNow();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new AttachmentArchive(null));
+    }
+
+    @Test
+    public void write_attachmentsLaidOutByTask() throws IOException {
+        Attachment spec = new Attachment(writeFile("spec.txt", "specification"));
+        Attachment notes = new Attachment(writeFile("notes.txt", "notes"));
+        Task assignment = new TaskBuilder().withName("Assignment 1")
+            .withAttachments(new HashSet<>(Arrays.asList(spec, notes))).build();
+        Task sameName = new TaskBuilder().withName("Assignment 1").withPriority("2")
+            .withAttachments(Collections.singleton(spec)).build();
+        Task noAttachments = new TaskBuilder().withName("Lecture").withAttachments(Collections.emptySet()).build();
+        AttachmentArchive archive = new AttachmentArchive(Arrays.asList(assignment, noAttachments, sameName));
+        assertEquals(3, archive.getAttachmentCount());
+
+        List<String> progress = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int writtenCount = archive.write(out, ioPool, (processed, total) -> progress.add(processed + "/" + total));
+
+        assertEquals(3, writtenCount);
+        assertEquals(Arrays.asList("1/3", "2/3", "3/3"), progress);
+        Map<String, String> expectedEntries = new LinkedHashMap<>();
+        expectedEntries.put("1 Assignment 1/notes.txt", "notes");
+        expectedEntries.put("1 Assignment 1/spec.txt", "specification");
+        expectedEntries.put("3 Assignment 1/spec.txt", "specification");
+        assertEquals(expectedEntries, readEntries(out.toByteArray()));
+    }
+
+    @Test
+    public void write_namesSameAfterReplacement_numbered() throws IOException {
+        File source = writeFile("spec.txt", "specification");
+        Attachment colon = new Attachment(source, "a:b.txt");
+        Attachment underscore = new Attachment(source, "a_b.txt");
+        Attachment upperCase = new Attachment(source, "A_B.txt");
+        Task task = new TaskBuilder().withName("Project")
+            .withAttachments(new HashSet<>(Arrays.asList(colon, underscore, upperCase))).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(3, new AttachmentArchive(Collections.singletonList(task)).write(out, ioPool,
+            (processed, total) -> { }));
+        assertEquals(new HashSet<>(Arrays.asList("1 Project/A_B.txt", "1 Project/a_b (2).txt",
+            "1 Project/a_b (3).txt")), readEntries(out.toByteArray()).keySet());
+    }
+
+    @Test
+    public void write_unreadableAttachments_skipped() throws IOException {
+        Attachment missing = new Attachment(new File(folder.getRoot(), "missing.txt"));
+        Attachment directory = new Attachment(folder.newFolder("directory"));
+        Attachment spec = new Attachment(writeFile("spec.txt", "specification"));
+        Task task = new TaskBuilder().withAttachments(new HashSet<>(Arrays.asList(missing, directory, spec)))
+            .build();
+        AttachmentArchive archive = new AttachmentArchive(Collections.singletonList(task));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, archive.write(out, ioPool, (processed, total) -> { }));
+        assertEquals(Arrays.asList(directory, missing), archive.getSkippedAttachments());
+        assertEquals(Collections.singleton("1 " + task.getName().value + "/spec.txt"),
+            readEntries(out.toByteArray()).keySet());
+    }
+
+    @Test
+    public void write_largeAttachment_streamed() throws IOException {
+        byte[] content = new byte[(int) AttachmentArchive.MAX_READ_AHEAD_SIZE + 1];
+        Arrays.fill(content, (byte) 'a');
+        File largeFile = new File(folder.getRoot(), "large.bin");
+        Files.write(largeFile.toPath(), content);
+        Task task = new TaskBuilder().withAttachments(Collections.singleton(new Attachment(largeFile))).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, new AttachmentArchive(Collections.singletonList(task)).write(out, ioPool,
+            (processed, total) -> { }));
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            zip.getNextEntry();
+            assertArrayEquals(content, readAll(zip));
+        }
+    }
+
+    private File writeFile(String name, String content) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private Map<String, String> readEntries(byte[] archive) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(readAll(zip), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private byte[] readAll(ZipInputStream zip) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = zip.read(buffer)) != -1) {
+            content.write(buffer, 0, length);
+        }
+        return content.toByteArray();
+    }
+}
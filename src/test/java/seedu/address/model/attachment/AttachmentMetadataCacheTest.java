@@ -0,0 +1,128 @@
+package seedu.address.model.attachment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class AttachmentMetadataCacheTest {
+    /** How long to wait for a change to a file to be noticed, in milliseconds. */
+    private static final long WATCH_TIMEOUT = 30000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AttachmentMetadataCache cache = new AttachmentMetadataCache();
+
+    @After
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    public void getMetadata_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> cache.getMetadata(null));
+    }
+
+    @Test
+    public void getMetadata_existingFile_readsAttributes() throws IOException {
+        File file = writeFile("spec.txt", "specification");
+        AttachmentMetadata metadata = cache.getMetadata(new Attachment(file)).join();
+
+        assertTrue(metadata.isReadable());
+        assertEquals(file.length(), metadata.getSize());
+        assertEquals(Files.getLastModifiedTime(file.toPath()), metadata.getLastModifiedTime());
+        assertEquals(Optional.of(metadata), cache.getCachedMetadata(new Attachment(file)));
+    }
+
+    @Test
+    public void isReadable_directoryOrMissingFile_returnsFalse() throws IOException {
+        assertFalse(cache.isReadable(new Attachment(folder.newFolder())));
+        assertFalse(cache.isReadable(new Attachment(new File(folder.getRoot(), "missing.txt"))));
+        assertFalse(cache.isReadable(new Attachment(new File(folder.getRoot(), "missing/missing.txt"))));
+    }
+
+    @Test
+    public void getCachedMetadata_directoryNotWatched_returnsEmpty() {
+        Attachment attachment = new Attachment(new File(folder.getRoot(), "missing/missing.txt"));
+        cache.getMetadata(attachment).join();
+        assertEquals(Optional.empty(), cache.getCachedMetadata(attachment));
+    }
+
+    @Test
+    public void isReadable_fileDeleted_invalidated() throws Exception {
+        File file = writeFile("spec.txt", "specification");
+        Attachment attachment = new Attachment(file);
+        assertTrue(cache.isReadable(attachment));
+
+        Files.delete(file.toPath());
+        long deadline = System.currentTimeMillis() + WATCH_TIMEOUT;
+        while (cache.isReadable(attachment) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(cache.isReadable(attachment));
+    }
+
+    @Test
+    public void isReadable_fileWithoutReadPermission_returnsFalse() throws IOException {
+        File file = writeFile("secret.txt", "secret");
+        // the permission cannot be taken away on some file systems, or from an administrator
+        assumeTrue(file.setReadable(false) && !Files.isReadable(file.toPath()));
+        assertFalse(cache.isReadable(new Attachment(file)));
+    }
+
+    @Test
+    public void clear_dropsEntries() throws IOException {
+        Attachment attachment = new Attachment(writeFile("spec.txt", "specification"));
+        cache.getMetadata(attachment).join();
+        cache.clear();
+        assertEquals(Optional.empty(), cache.getCachedMetadata(attachment));
+    }
+
+    @Test
+    public void getMetadata_manyDirectories_watchedDirectoriesBounded() throws IOException {
+        Attachment firstAttachment = null;
+        for (int i = 0; i <= AttachmentMetadataCache.MAX_WATCHED_DIRECTORIES; i++) {
+            File file = new File(folder.newFolder(), "spec.txt");
+            Files.write(file.toPath(), "specification".getBytes(StandardCharsets.UTF_8));
+            Attachment attachment = new Attachment(file);
+            cache.getMetadata(attachment).join();
+            if (firstAttachment == null) {
+                firstAttachment = attachment;
+            }
+        }
+
+        assertTrue(cache.getWatchedDirectoryCount() <= AttachmentMetadataCache.MAX_WATCHED_DIRECTORIES);
+        // the oldest directory is no longer watched, so its entries are dropped
+        assertEquals(Optional.empty(), cache.getCachedMetadata(firstAttachment));
+        assertTrue(cache.isReadable(firstAttachment));
+    }
+
+    @Test
+    public void close_stopsWatchingDirectories() throws IOException {
+        Attachment attachment = new Attachment(writeFile("spec.txt", "specification"));
+        cache.getMetadata(attachment).join();
+        cache.close();
+        assertEquals(0, cache.getWatchedDirectoryCount());
+        assertEquals(Optional.empty(), cache.getCachedMetadata(attachment));
+    }
+
+    private File writeFile(String name, String content) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
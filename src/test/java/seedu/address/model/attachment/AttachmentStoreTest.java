@@ -0,0 +1,126 @@
+package seedu.address.model.attachment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class AttachmentStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private AttachmentStore store;
+
+    @Before
+    public void setUp() {
+        store = new AttachmentStore(folder.getRoot().toPath().resolve("attachments"));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new AttachmentStore(null));
+    }
+
+    @Test
+    public void add_copiesFileAndKeepsName() throws IOException {
+        File file = writeFile("spec.txt", "specification");
+        Attachment attachment = store.add(file);
+
+        assertEquals("spec.txt", attachment.getName());
+        assertTrue(store.contains(attachment));
+        assertEquals(store.getDirectory(), attachment.file.toPath().getParent());
+        assertEquals("specification", read(attachment.file.toPath()));
+
+        // the stored copy remains when the original is deleted
+        Files.delete(file.toPath());
+        assertTrue(attachment.isReadable());
+    }
+
+    @Test
+    public void add_sameContent_storedOnce() throws IOException {
+        Attachment first = store.add(writeFile("first.txt", "same content"));
+        Attachment second = store.add(writeFile("second.txt", "same content"));
+        Attachment different = store.add(writeFile("third.txt", "other content"));
+
+        assertEquals(first.file, second.file);
+        assertNotEquals(first, second);
+        assertNotEquals(first.file, different.file);
+        try (Stream<Path> storedFiles = Files.list(store.getDirectory())) {
+            assertEquals(2, storedFiles.count());
+        }
+    }
+
+    @Test
+    public void add_nonExistentFile_throwsIoException() {
+        Assert.assertThrows(IOException.class, () -> store.add(new File(folder.getRoot(), "missing.txt")));
+    }
+
+    @Test
+    public void contains_externalFile_returnsFalse() throws IOException {
+        assertFalse(store.contains(new Attachment(writeFile("spec.txt", "specification"))));
+    }
+
+    @Test
+    public void countReferences_countsSharedFiles() throws IOException {
+        Attachment first = store.add(writeFile("first.txt", "same content"));
+        Attachment second = store.add(writeFile("second.txt", "same content"));
+        Attachment external = new Attachment(writeFile("external.txt", "external content"));
+        Task task = new TaskBuilder().withName("Alice").withAttachments(Collections.singleton(first)).build();
+        Task otherTask = new TaskBuilder().withName("Benson")
+            .withAttachments(new HashSet<>(Arrays.asList(second, external))).build();
+
+        Map<Path, Integer> referenceCounts = store.countReferences(Arrays.asList(task, otherTask));
+        assertEquals(1, referenceCounts.size());
+        assertEquals(Integer.valueOf(2), referenceCounts.get(first.file.toPath()));
+    }
+
+    @Test
+    public void collectGarbage_deletesUnreferencedFiles() throws IOException {
+        Attachment kept = store.add(writeFile("kept.txt", "kept content"));
+        Attachment removed = store.add(writeFile("removed.txt", "removed content"));
+        Path leftover = Files.createFile(store.getDirectory().resolve("leftover.tmp"));
+        Path otherFile = Files.createFile(store.getDirectory().resolve("notes.txt"));
+        Task task = new TaskBuilder().withAttachments(Collections.singleton(kept)).build();
+
+        assertEquals(2, store.collectGarbage(Collections.singletonList(task)));
+        assertTrue(Files.exists(kept.file.toPath()));
+        assertFalse(Files.exists(removed.file.toPath()));
+        assertFalse(Files.exists(leftover));
+        assertTrue(Files.exists(otherFile));
+    }
+
+    @Test
+    public void collectGarbage_missingDirectory_returnsZero() throws IOException {
+        assertEquals(0, store.collectGarbage(Collections.emptyList()));
+    }
+
+    private File writeFile(String name, String content) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
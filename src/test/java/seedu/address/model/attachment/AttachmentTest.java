@@ -2,9 +2,12 @@ package seedu.address.model.attachment;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -33,6 +36,46 @@ public class AttachmentTest {
         assertEquals(relativeAttachment, absoluteAttachment);
     }
 
+    @Test
+    public void equality_differentName() {
+        File file = new File("hello.txt");
+        assertEquals(new Attachment(file), new Attachment(file, "hello.txt"));
+        assertNotEquals(new Attachment(file), new Attachment(file, "world.txt"));
+    }
+
+    @Test
+    public void getName_givenName_returnsGivenName() {
+        Attachment attachment = new Attachment(new File("0123abcd"), "spec.pdf");
+        assertEquals("spec.pdf", attachment.getName());
+        assertEquals("spec.pdf", attachment.toString());
+    }
+
+    @Test
+    public void saveTo_overwritesDestination() throws IOException {
+        File source = folder.newFile("source.txt");
+        Files.write(source.toPath(), "attachment content".getBytes(StandardCharsets.UTF_8));
+        File destination = folder.newFile("destination.txt");
+        Files.write(destination.toPath(), "longer existing content to replace".getBytes(StandardCharsets.UTF_8));
+
+        File savedFile = new Attachment(source).saveTo(destination.getPath());
+        assertEquals(destination, savedFile);
+        String savedContent = new String(Files.readAllBytes(destination.toPath()), StandardCharsets.UTF_8);
+        assertEquals("attachment content", savedContent);
+    }
+
+    @Test
+    public void saveTo_ownFile_contentKept() throws IOException {
+        File source = folder.newFile("source.txt");
+        Files.write(source.toPath(), "attachment content".getBytes(StandardCharsets.UTF_8));
+
+        // a different path to the same file
+        File destination = new File(new File(source.getParentFile(), "."), source.getName());
+        File savedFile = new Attachment(source).saveTo(destination.getPath());
+        assertEquals(destination, savedFile);
+        String savedContent = new String(Files.readAllBytes(source.toPath()), StandardCharsets.UTF_8);
+        assertEquals("attachment content", savedContent);
+    }
+
     @Test
     public void isReadable_returnFalse() throws IOException {
         File testFolder = folder.newFolder();
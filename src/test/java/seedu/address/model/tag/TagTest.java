@@ -1,5 +1,13 @@
 package seedu.address.model.tag;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -17,6 +25,51 @@ public class TagTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void of_sameName_returnsSameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of("friends"));
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals("friends", tag.tagName);
+    }
+
+    @Test
+    public void of_concurrentCalls_returnSameTag() {
+        List<Tag> tags = IntStream.range(0, 1000).parallel()
+            .mapToObj(i -> Tag.of("concurrent" + (i % 10)))
+            .collect(Collectors.toList());
+        for (int i = 0; i < tags.size(); i++) {
+            assertSame(Tag.of("concurrent" + (i % 10)), tags.get(i));
+        }
+    }
+
+    @Test
+    public void of_differentName_returnsDifferentTag() {
+        assertNotSame(Tag.of("friends"), Tag.of("Friends"));
+    }
+
+    @Test
+    public void equals() {
+        Tag tag = Tag.of("friends");
+        Tag unsharedTag = new Tag("friends");
+
+        // shared and unshared tags with the same name -> returns true
+        assertEquals(tag, unsharedTag);
+        assertEquals(unsharedTag, tag);
+        assertEquals(tag.hashCode(), unsharedTag.hashCode());
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
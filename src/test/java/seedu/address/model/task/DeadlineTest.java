@@ -2,8 +2,7 @@ package seedu.address.model.task;
 
 import static org.junit.Assert.assertEquals;
 
-import java.util.Calendar;
-import java.util.GregorianCalendar;
+import java.time.LocalDate;
 
 import org.junit.Test;
 
@@ -48,18 +47,41 @@ public class DeadlineTest {
 
     @Test
     public void constructor_validDeadline_hasCorrectDate() {
-        assertEquals(new GregorianCalendar(2018, 9, 1).getTime(), new Deadline("1/10/2018").value);
-        assertEquals(new GregorianCalendar(2018, 9, 31).getTime(), new Deadline("31/10/2018").value);
-        assertEquals(new GregorianCalendar(2019, 0, 5).getTime(), new Deadline("5/1/2019").value);
-        assertEquals(new GregorianCalendar(2019, 0, 5).getTime(), new Deadline("05/1/2019").value);
-        assertEquals(new GregorianCalendar(2019, 0, 5).getTime(), new Deadline("05/01/2019").value);
-        assertEquals(new GregorianCalendar(2015, 11, 15).getTime(), new Deadline("15/12/2015").value);
-        assertEquals(new GregorianCalendar(1, 0, 1).getTime(), new Deadline("1/1/1").value);
-        assertEquals(new GregorianCalendar(2, 11, 15).getTime(), new Deadline("15/12/2").value);
-        assertEquals(new GregorianCalendar(22, 11, 15).getTime(), new Deadline("15/12/22").value);
-        assertEquals(new GregorianCalendar(123, 11, 15).getTime(), new Deadline("15/12/123").value);
-        assertEquals(new GregorianCalendar(new GregorianCalendar().get(Calendar.YEAR), 11, 15).getTime(),
-            new Deadline("15/12").value);
+        assertEquals(LocalDate.of(2018, 10, 1).toEpochDay(), new Deadline("1/10/2018").value);
+        assertEquals(LocalDate.of(2018, 10, 31).toEpochDay(), new Deadline("31/10/2018").value);
+        assertEquals(LocalDate.of(2019, 1, 5).toEpochDay(), new Deadline("5/1/2019").value);
+        assertEquals(LocalDate.of(2019, 1, 5).toEpochDay(), new Deadline("05/1/2019").value);
+        assertEquals(LocalDate.of(2019, 1, 5).toEpochDay(), new Deadline("05/01/2019").value);
+        assertEquals(LocalDate.of(2015, 12, 15).toEpochDay(), new Deadline("15/12/2015").value);
+        assertEquals(LocalDate.of(1, 1, 1).toEpochDay(), new Deadline("1/1/1").value);
+        assertEquals(LocalDate.of(2, 12, 15).toEpochDay(), new Deadline("15/12/2").value);
+        assertEquals(LocalDate.of(22, 12, 15).toEpochDay(), new Deadline("15/12/22").value);
+        assertEquals(LocalDate.of(123, 12, 15).toEpochDay(), new Deadline("15/12/123").value);
+        assertEquals(LocalDate.of(LocalDate.now().getYear(), 12, 15).toEpochDay(), new Deadline("15/12").value);
+    }
+
+    @Test
+    public void toString_formatsDayMonthYear() {
+        assertEquals("1/10/2018", new Deadline("01/10/2018").toString());
+        assertEquals("15/12/0002", new Deadline("15/12/2").toString());
+        assertEquals("15/12/0123", new Deadline("15/12/123").toString());
+        assertEquals("1/1/10000", new Deadline("1/1/10000").toString());
+        assertEquals("29/2/2020", new Deadline(LocalDate.of(2020, 2, 29)).toString());
+    }
+
+    @Test
+    public void addDays() {
+        assertEquals(new Deadline("1/3/2020"), new Deadline("28/2/2020").addDays(2));
+        assertEquals(new Deadline("1/1/2019"), new Deadline("31/12/2018").addDays(1));
+        assertEquals(new Deadline("31/12/2018"), new Deadline("31/12/2018").addDays(0));
+    }
+
+    @Test
+    public void equals() {
+        Deadline deadline = new Deadline("1/10/2018");
+        assertEquals(deadline, new Deadline(LocalDate.of(2018, 10, 1)));
+        assertEquals(deadline.hashCode(), new Deadline("01/10/2018").hashCode());
+        assertEquals(LocalDate.of(2018, 10, 1), deadline.toLocalDate());
     }
 
     @Test
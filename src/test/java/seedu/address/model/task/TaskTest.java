@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FREQUENCY_BOB;
@@ -9,10 +10,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalTasks.ALICE;
 import static seedu.address.testutil.TypicalTasks.BOB;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.attachment.Attachment;
 import seedu.address.testutil.TaskBuilder;
 
 public class TaskTest {
@@ -27,6 +34,45 @@ public class TaskTest {
         task.getTags().remove(0);
     }
 
+    @Test
+    public void getAttachments_modifySet_throwsUnsupportedOperationException() {
+        Task task = new TaskBuilder().withAttachments("hello.txt").build();
+        thrown.expect(UnsupportedOperationException.class);
+        task.getAttachments().clear();
+    }
+
+    @Test
+    public void constructor_duplicateAttachmentNames_throwsIllegalArgumentException() {
+        Attachment hello = new Attachment(new File("hello.txt"));
+        Attachment otherHello = new Attachment(new File("folder", "hello.txt"));
+        thrown.expect(IllegalArgumentException.class);
+        new TaskBuilder().withAttachments(new HashSet<>(Arrays.asList(hello, otherHello))).build();
+    }
+
+    @Test
+    public void getAttachment() {
+        Attachment hello = new Attachment(new File("hello.txt"));
+        Task task = new TaskBuilder().withAttachments("hello.txt", "world.txt").build();
+        assertEquals(Optional.of(hello), task.getAttachment("hello.txt"));
+        assertEquals(Optional.empty(), task.getAttachment("missing.txt"));
+        assertTrue(task.hasAttachment("world.txt"));
+        assertFalse(task.hasAttachment("World.txt"));
+    }
+
+    @Test
+    public void getAttachments_sameAsSetOfAttachments() {
+        Attachment hello = new Attachment(new File("hello.txt"));
+        Attachment world = new Attachment(new File("world.txt"));
+        Task task = new TaskBuilder().withAttachments("hello.txt", "world.txt").build();
+
+        assertEquals(new HashSet<>(Arrays.asList(hello, world)), task.getAttachments());
+        assertEquals(task.getAttachments(), new HashSet<>(Arrays.asList(hello, world)));
+        assertEquals(new HashSet<>(Arrays.asList(hello, world)).hashCode(), task.getAttachments().hashCode());
+        assertTrue(task.getAttachments().contains(hello));
+        // same name at another path
+        assertFalse(task.getAttachments().contains(new Attachment(new File("folder", "hello.txt"))));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
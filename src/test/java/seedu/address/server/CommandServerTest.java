@@ -0,0 +1,207 @@
+package seedu.address.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.AMY;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskCollections;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class CommandServerTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model;
+    private Path tokenFile;
+    private CommandServer server;
+    private String token;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalTaskCollections(), new UserPrefs());
+        tokenFile = testFolder.getRoot().toPath().resolve("server.token");
+        server = CommandServer.start(0, tokenFile, true, new LogicManager(model), model);
+        token = new String(Files.readAllBytes(tokenFile), UTF_8);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void start_writesTokenReadableOnlyByUser() throws Exception {
+        assertFalse(token.isEmpty());
+        if (Files.getFileStore(tokenFile).supportsFileAttributeView("posix")) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)));
+        }
+    }
+
+    @Test
+    public void stop_deletesTokenFile() throws Exception {
+        server.stop();
+        assertFalse(Files.exists(tokenFile));
+
+        server = CommandServer.start(0, tokenFile, true, new LogicManager(model), model);
+    }
+
+    @Test
+    public void execute_changesNotAllowed_throwsChangesNotAllowedException() throws Exception {
+        server.stop();
+        server = CommandServer.start(0, tokenFile, false, new LogicManager(model), model);
+        Assert.assertThrows(CommandServer.ChangesNotAllowedException.class, () ->
+            server.execute(TaskUtil.getAddCommand(AMY)));
+        assertFalse(model.hasTask(AMY));
+
+        // read-only commands are still allowed
+        assertTrue(server.execute(ListCommand.COMMAND_WORD).tasks.contains(BENSON));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_modelUnchanged() throws Exception {
+        CommandServer.Result result = server.execute(FilterCommand.COMMAND_WORD + " n:" + KEYWORD_MATCHING_MEIER);
+        assertTrue(result.tasks.contains(BENSON));
+        assertTrue(result.tasks.size() < model.getTaskCollection().getTaskList().size());
+
+        // the filter only applies to the server's private view
+        assertEquals(model.getTaskCollection().getTaskList().size(), model.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void execute_mutatingCommand_modelChanged() throws Exception {
+        CommandServer.Result result = server.execute(TaskUtil.getAddCommand(AMY));
+        assertTrue(model.hasTask(AMY));
+        assertTrue(result.tasks.contains(AMY));
+
+        // later read-only commands see the change
+        assertTrue(server.execute(ListCommand.COMMAND_WORD).tasks.contains(AMY));
+    }
+
+    @Test
+    public void postCommand_validCommand_returnsResultAndTasks() throws Exception {
+        HttpURLConnection connection = post(ListCommand.COMMAND_WORD);
+        assertEquals(200, connection.getResponseCode());
+        String body = read(connection.getInputStream());
+        assertTrue(body.contains(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(body.contains(BENSON.getName().value));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpURLConnection connection = post("unknownCommand");
+        assertEquals(400, connection.getResponseCode());
+        assertTrue(read(connection.getErrorStream()).contains("\"error\""));
+    }
+
+    @Test
+    public void getTasks_returnsAllTasks() throws Exception {
+        HttpURLConnection connection = open(CommandServer.TASKS_PATH);
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(read(connection.getInputStream()).contains(BENSON.getName().value));
+    }
+
+    @Test
+    public void getTasks_missingToken_returnsUnauthorized() throws Exception {
+        HttpURLConnection connection = openWithoutToken(CommandServer.TASKS_PATH);
+        assertEquals(401, connection.getResponseCode());
+    }
+
+    @Test
+    public void postCommand_invalidToken_returnsUnauthorized() throws Exception {
+        HttpURLConnection connection = openWithoutToken(CommandServer.COMMAND_PATH);
+        connection.setRequestProperty("Authorization", "Bearer " + token + "x");
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(TaskUtil.getAddCommand(AMY).getBytes(UTF_8));
+        }
+        assertEquals(401, connection.getResponseCode());
+        assertFalse(model.hasTask(AMY));
+    }
+
+    @Test
+    public void getTasks_withOrigin_returnsForbidden() throws Exception {
+        HttpURLConnection connection = open(CommandServer.TASKS_PATH);
+        connection.setRequestProperty("Origin", "http://example.com");
+        assertEquals(403, connection.getResponseCode());
+    }
+
+    @Test
+    public void isLoopbackHost() {
+        assertTrue(CommandServer.isLoopbackHost("localhost"));
+        assertTrue(CommandServer.isLoopbackHost("127.0.0.1:8080"));
+        assertTrue(CommandServer.isLoopbackHost("LOCALHOST:8080"));
+        assertTrue(CommandServer.isLoopbackHost("[::1]:8080"));
+
+        assertFalse(CommandServer.isLoopbackHost(null));
+        assertFalse(CommandServer.isLoopbackHost("example.com:8080"));
+        assertFalse(CommandServer.isLoopbackHost("localhost.example.com"));
+        assertFalse(CommandServer.isLoopbackHost("[::1"));
+    }
+
+    @Test
+    public void getCommand_returnsMethodNotAllowed() throws Exception {
+        HttpURLConnection connection = open(CommandServer.COMMAND_PATH);
+        assertEquals(405, connection.getResponseCode());
+        assertFalse(model.hasTask(AMY));
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        HttpURLConnection connection = openWithoutToken(path);
+        connection.setRequestProperty("Authorization", "Bearer " + token);
+        return connection;
+    }
+
+    private HttpURLConnection openWithoutToken(String path) throws IOException {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(), path);
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    private HttpURLConnection post(String commandText) throws IOException {
+        HttpURLConnection connection = open(CommandServer.COMMAND_PATH);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(commandText.getBytes(UTF_8));
+        }
+        return connection;
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            return new String(stream.readAllBytes(), UTF_8);
+        }
+    }
+}
@@ -4,9 +4,21 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static seedu.address.testutil.TypicalTasks.BENSON;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Frequency;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
 import seedu.address.storage.csvstorage.CsvAdaptedTask;
+import seedu.address.testutil.Assert;
 
 public class CsvAdaptedTaskTest {
 
@@ -15,17 +27,23 @@ public class CsvAdaptedTaskTest {
 
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_DEADLINE = BENSON.getDeadline().toString();
+    private static final String VALID_PRIORITY = BENSON.getPriority().toString();
+    private static final String VALID_FREQUENCY = BENSON.getFrequency().toString();
+    private static final List<String> VALID_TAGS = Arrays.asList("friends", "owesMoney");
+    private static final List<String> VALID_ATTACHMENTS = Arrays.asList("hello.txt", "world.txt");
 
     @Test
     public void constructor_validData_success() {
-        CsvAdaptedTask taskValidNameInvalidDeadline =
-            new CsvAdaptedTask(VALID_NAME, INVALID_DEADLINE);
-        CsvAdaptedTask taskValidNameInvalidDeadline2 =
-            new CsvAdaptedTask(VALID_NAME, INVALID_DEADLINE);
-        CsvAdaptedTask taskValidNameValidDeadline =
-            new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE);
-        CsvAdaptedTask taskInvalidNameValidDeadline =
-            new CsvAdaptedTask(INVALID_NAME, VALID_DEADLINE);
+        CsvAdaptedTask taskValidNameInvalidDeadline = new CsvAdaptedTask(VALID_NAME, INVALID_DEADLINE,
+            VALID_PRIORITY, VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        CsvAdaptedTask taskValidNameInvalidDeadline2 = new CsvAdaptedTask(VALID_NAME, INVALID_DEADLINE,
+            VALID_PRIORITY, VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        CsvAdaptedTask taskValidNameValidDeadline = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE,
+            VALID_PRIORITY, VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        CsvAdaptedTask taskInvalidNameValidDeadline = new CsvAdaptedTask(INVALID_NAME, VALID_DEADLINE,
+            VALID_PRIORITY, VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        CsvAdaptedTask taskNoTags = new CsvAdaptedTask(VALID_NAME, INVALID_DEADLINE,
+            VALID_PRIORITY, VALID_FREQUENCY, Collections.emptyList(), VALID_ATTACHMENTS);
 
         assertEquals(taskValidNameInvalidDeadline,
             taskValidNameInvalidDeadline2);
@@ -33,13 +51,100 @@ public class CsvAdaptedTaskTest {
             taskValidNameValidDeadline);
         assertNotEquals(taskValidNameInvalidDeadline2,
             taskInvalidNameValidDeadline);
+        assertNotEquals(taskValidNameInvalidDeadline, taskNoTags);
     }
 
     @Test
     public void constructor_validTask_success() {
         CsvAdaptedTask fromTask = new CsvAdaptedTask(BENSON);
-        CsvAdaptedTask fromParams = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE);
+        CsvAdaptedTask fromParams = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE, VALID_PRIORITY, VALID_FREQUENCY,
+            VALID_TAGS, VALID_ATTACHMENTS);
         assertEquals(fromTask, fromParams);
     }
 
+    @Test
+    public void getFields_defaultFormat_calendarFields() {
+        assertEquals(Arrays.asList(VALID_NAME, VALID_DEADLINE, CsvAdaptedTask.ALL_DAY_EVENT),
+            new CsvAdaptedTask(BENSON).getFields(CsvFormat.DEFAULT));
+    }
+
+    @Test
+    public void getFields_allColumns_allFieldsWithSortedValues() {
+        assertEquals(Arrays.asList(VALID_NAME, VALID_DEADLINE, CsvAdaptedTask.ALL_DAY_EVENT, VALID_PRIORITY,
+            VALID_FREQUENCY, "friends;owesMoney", "hello.txt;world.txt"),
+            new CsvAdaptedTask(BENSON).getFields(CsvFormat.DEFAULT.withAllColumns()));
+
+        CsvFormat tagsFirst = CsvFormat.DEFAULT.withColumns(
+            Arrays.asList(CsvFormat.Column.TAGS, CsvFormat.Column.SUBJECT)).withValueSeparator(" ");
+        assertEquals(Arrays.asList("friends owesMoney", VALID_NAME), new CsvAdaptedTask(BENSON).getFields(tagsFirst));
+    }
+
+    @Test
+    public void toModelType_validTask_returnsTask() throws Exception {
+        assertEquals(BENSON, new CsvAdaptedTask(BENSON).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidFields_throwsIllegalValueException() {
+        CsvAdaptedTask invalidName = new CsvAdaptedTask(INVALID_NAME, VALID_DEADLINE, VALID_PRIORITY,
+            VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        Assert.assertThrows(IllegalValueException.class, Name.MESSAGE_NAME_CONSTRAINTS, invalidName::toModelType);
+
+        CsvAdaptedTask invalidDeadline = new CsvAdaptedTask(VALID_NAME, INVALID_DEADLINE, VALID_PRIORITY,
+            VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        Assert.assertThrows(IllegalValueException.class, Deadline.MESSAGE_DEADLINE_CONSTRAINTS,
+            invalidDeadline::toModelType);
+
+        CsvAdaptedTask nullDeadline = new CsvAdaptedTask(VALID_NAME, null, VALID_PRIORITY,
+            VALID_FREQUENCY, VALID_TAGS, VALID_ATTACHMENTS);
+        Assert.assertThrows(IllegalValueException.class, String.format(CsvAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT,
+            Deadline.class.getSimpleName()), nullDeadline::toModelType);
+
+        CsvAdaptedTask sameAttachmentNames = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE, VALID_PRIORITY,
+            VALID_FREQUENCY, VALID_TAGS, Arrays.asList("a/hello.txt", "b/hello.txt"));
+        Assert.assertThrows(IllegalValueException.class, Attachment.MESSAGE_DUPLICATE_ATTACHMENT_NAME,
+            sameAttachmentNames::toModelType);
+    }
+
+    @Test
+    public void fromFields_reorderedAndUnknownColumns_fieldsMapped() {
+        List<CsvFormat.Column> columns = Arrays.asList(CsvFormat.Column.TAGS, null, CsvFormat.Column.SUBJECT,
+            CsvFormat.Column.START_DATE);
+        CsvAdaptedTask expected = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE, Priority.NO_PRIORITY,
+            Frequency.NO_FREQUENCY, VALID_TAGS, Collections.emptyList());
+        assertEquals(expected, CsvAdaptedTask.fromFields(
+            Arrays.asList(" friends; owesMoney ;", "ignored", VALID_NAME, VALID_DEADLINE), columns, CsvFormat.DEFAULT));
+    }
+
+    @Test
+    public void getFields_valuesContainingSeparator_roundTrip() {
+        CsvFormat format = CsvFormat.DEFAULT.withAllColumns();
+        List<String> attachments = Arrays.asList("a;b/x;y.txt", "c\\d;.txt", "e\\.txt");
+        CsvAdaptedTask task = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE, VALID_PRIORITY, VALID_FREQUENCY,
+            VALID_TAGS, attachments);
+
+        List<String> fields = task.getFields(format);
+        assertEquals("a\\;b/x\\;y.txt;c\\\\d\\;.txt;e\\\\.txt", fields.get(fields.size() - 1));
+        assertEquals(task, CsvAdaptedTask.fromFields(fields, format.getColumns(), format));
+
+        // a value ending with part of a multi-character separator
+        CsvFormat doubleBar = format.withValueSeparator("||");
+        List<String> barAttachments = Arrays.asList("a||b.txt", "c|", "d.txt");
+        task = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE, VALID_PRIORITY, VALID_FREQUENCY, VALID_TAGS,
+            barAttachments);
+        fields = task.getFields(doubleBar);
+        assertEquals("a\\|\\|b.txt||c\\|||d.txt", fields.get(fields.size() - 1));
+        assertEquals(task, CsvAdaptedTask.fromFields(fields, doubleBar.getColumns(), doubleBar));
+    }
+
+    @Test
+    public void fromFields_unescapedBackslashes_keptAsIs() {
+        List<CsvFormat.Column> columns = Arrays.asList(CsvFormat.Column.SUBJECT, CsvFormat.Column.START_DATE,
+            CsvFormat.Column.ATTACHMENTS);
+        CsvAdaptedTask expected = new CsvAdaptedTask(VALID_NAME, VALID_DEADLINE, Priority.NO_PRIORITY,
+            Frequency.NO_FREQUENCY, Collections.emptyList(), Arrays.asList("C:\\Users\\a.txt", "b.txt"));
+        assertEquals(expected, CsvAdaptedTask.fromFields(
+            Arrays.asList(VALID_NAME, VALID_DEADLINE, "C:\\Users\\a.txt;b.txt"), columns, CsvFormat.DEFAULT));
+    }
+
 }
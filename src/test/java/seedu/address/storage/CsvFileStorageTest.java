@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskCollections;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.Frequency;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.storage.csvstorage.CsvFileStorage;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class CsvFileStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TaskCollection taskCollection = new TaskCollection();
+
+    @Test
+    public void saveDataToFile_defaultFormat_calendarColumns() throws IOException {
+        taskCollection.addTask(ALICE);
+        taskCollection.addTask(BENSON);
+        assertEquals("Subject,Start Date,All Day Event\r\n"
+            + "Alice Pauline,1/10/2018,True\r\n"
+            + "Benson Meier,1/11/2018,True\r\n", save(CsvFormat.DEFAULT));
+    }
+
+    @Test
+    public void saveDataToFile_allColumnsWithoutHeader_allFields() throws IOException {
+        taskCollection.addTask(BENSON);
+        assertEquals("Benson Meier,1/11/2018,True,2,205,friends;owesMoney,hello.txt;world.txt\r\n",
+            save(CsvFormat.DEFAULT.withAllColumns().withHeader(false)));
+    }
+
+    @Test
+    public void saveDataToFile_attachmentWithDelimiter_quoted() throws IOException {
+        taskCollection.addTask(new TaskBuilder(ALICE).withAttachments("notes, final.txt").build());
+        CsvFormat format = CsvFormat.DEFAULT.withColumns(
+            Arrays.asList(CsvFormat.Column.SUBJECT, CsvFormat.Column.ATTACHMENTS));
+        assertEquals("Subject,Attachments\r\nAlice Pauline,\"notes, final.txt\"\r\n", save(format));
+    }
+
+    @Test
+    public void loadDataFromFile_allColumnsInEveryDialect_sameTasks() throws Exception {
+        TaskCollection original = getTypicalTaskCollections();
+        for (CsvFormat format : Arrays.asList(CsvFormat.DEFAULT, CsvFormat.DEFAULT.withDelimiter('\t'),
+            CsvFormat.DEFAULT.withValueSeparator(",").withDelimiter(';'))) {
+            Path file = getFile();
+            CsvFileStorage.saveDataToFile(file, original, format.withAllColumns());
+            assertEquals(original, CsvFileStorage.loadDataFromFile(file));
+        }
+    }
+
+    @Test
+    public void loadDataFromFile_compressedFile_sameTasks() throws Exception {
+        TaskCollection original = getTypicalTaskCollections();
+        Path file = testFolder.getRoot().toPath().resolve("tasks.csv.gz");
+        CsvFileStorage.saveDataToFile(file, original, CsvFormat.DEFAULT.withAllColumns());
+        assertEquals(original, CsvFileStorage.loadDataFromFile(file));
+    }
+
+    @Test
+    public void loadDataFromFile_truncatedCompressedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("tasks.csv.zz");
+        CsvFileStorage.saveDataToFile(file, getTypicalTaskCollections(), CsvFormat.DEFAULT.withAllColumns());
+        byte[] saved = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(saved, saved.length / 2));
+        Assert.assertThrows(DataConversionException.class, () -> CsvFileStorage.loadDataFromFile(file));
+    }
+
+    @Test
+    public void loadDataFromFile_calendarColumns_noPriorityOrFrequency() throws Exception {
+        taskCollection.addTask(ALICE);
+        save(CsvFormat.DEFAULT);
+        Task expected = new TaskBuilder(ALICE).withPriority(Priority.NO_PRIORITY)
+            .withFrequency(Frequency.NO_FREQUENCY).withTags().withAttachments().build();
+        assertEquals(Collections.singletonList(expected), CsvFileStorage.loadDataFromFile(getFile()).getTaskList());
+    }
+
+    @Test
+    public void loadDataFromFile_headerOnly_noTasks() throws Exception {
+        FileUtil.writeToFile(getFile(), "\uFEFFsubject,START DATE,Location\r\n\r\n");
+        assertEquals(new TaskCollection(), CsvFileStorage.loadDataFromFile(getFile()));
+    }
+
+    @Test
+    public void loadDataFromFile_missingColumns_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(getFile(), "Subject,Priority\nAlice Pauline,1\n");
+        Assert.assertThrows(DataConversionException.class, () -> CsvFileStorage.loadDataFromFile(getFile()));
+    }
+
+    @Test
+    public void loadDataFromFile_invalidRows_reportedWithLineNumbers() throws IOException {
+        FileUtil.writeToFile(getFile(), "Subject,Start Date,Priority\n"
+            + "Alice Pauline,1/10/2018,1\n"
+            + "\"Benson\nMeier\",1/11/2018,2\n"
+            + "Carl Kurz,1/11/2018,-1\n");
+        try {
+            CsvFileStorage.loadDataFromFile(getFile());
+            throw new AssertionError("Invalid rows should not be imported.");
+        } catch (DataConversionException dce) {
+            assertEquals(String.format(CsvFileStorage.MESSAGE_ROW_ERROR, 3, Name.MESSAGE_NAME_CONSTRAINTS) + "\n"
+                + String.format(CsvFileStorage.MESSAGE_ROW_ERROR, 5, Priority.MESSAGE_PRIORITY_CONSTRAINTS),
+                dce.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void loadDataFromFile_manyRows_orderKept() throws Exception {
+        for (int i = 0; i < 10000; i++) {
+            taskCollection.addTask(new TaskBuilder(ALICE).withName("Task " + i).build());
+        }
+        save(CsvFormat.DEFAULT.withAllColumns());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(taskCollection, CsvFileStorage.loadDataFromFile(getFile(), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void loadDataFromFile_manyInvalidRows_firstFewReported() throws IOException {
+        StringBuilder data = new StringBuilder("Subject,Start Date\n");
+        for (int i = 0; i < 20; i++) {
+            data.append("Task ").append(i).append(",\n");
+        }
+        FileUtil.writeToFile(getFile(), data.toString());
+        try {
+            CsvFileStorage.loadDataFromFile(getFile());
+            throw new AssertionError("Invalid rows should not be imported.");
+        } catch (DataConversionException dce) {
+            String[] messages = dce.getCause().getMessage().split("\n");
+            assertEquals(11, messages.length);
+            assertEquals(String.format(CsvFileStorage.MESSAGE_MORE_ROW_ERRORS, 10), messages[10]);
+        }
+    }
+
+    private Path getFile() {
+        return testFolder.getRoot().toPath().resolve("tasks.csv");
+    }
+
+    private String save(CsvFormat format) throws IOException {
+        Path file = getFile();
+        CsvFileStorage.saveDataToFile(file, taskCollection, format);
+        return FileUtil.readFromFile(file);
+    }
+}
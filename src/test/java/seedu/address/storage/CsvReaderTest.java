@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.csvstorage.CsvReader;
+import seedu.address.storage.csvstorage.CsvWriter;
+import seedu.address.testutil.Assert;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CsvReader(null, CsvFormat.DEFAULT));
+        Assert.assertThrows(NullPointerException.class, () -> new CsvReader(new StringReader(""), null));
+    }
+
+    @Test
+    public void readRow_plainFields_success() throws Exception {
+        CsvReader reader = reader("Alice Pauline,1/10/2018, spaced \r\n,\nsingle", CsvFormat.DEFAULT);
+        assertEquals(Arrays.asList("Alice Pauline", "1/10/2018", " spaced "), reader.readRow());
+        assertEquals(1, reader.getRowLineNumber());
+        assertEquals(Arrays.asList("", ""), reader.readRow());
+        assertEquals(2, reader.getRowLineNumber());
+        assertEquals(Collections.singletonList("single"), reader.readRow());
+        assertEquals(3, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedFields_unescaped() throws Exception {
+        CsvReader reader = reader("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"\"\r\nnext\r\n", CsvFormat.DEFAULT);
+        assertEquals(Arrays.asList("a,b", "say \"hi\"", "two\nlines", ""), reader.readRow());
+        assertEquals(1, reader.getRowLineNumber());
+        assertEquals(Collections.singletonList("next"), reader.readRow());
+        assertEquals(3, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_otherDialect_success() throws Exception {
+        CsvFormat format = CsvFormat.DEFAULT.withDelimiter('\t').withQuote('\'');
+        CsvReader reader = reader("'a\tb'\t'it''s'\n", format);
+        assertEquals(Arrays.asList("a\tb", "it's"), reader.readRow());
+    }
+
+    @Test
+    public void readRow_unterminatedQuote_throwsIllegalValueException() throws Exception {
+        CsvReader reader = reader("first\n\"open,\nfield", CsvFormat.DEFAULT);
+        reader.readRow();
+        Assert.assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_UNTERMINATED_QUOTE, 2),
+            reader::readRow);
+    }
+
+    @Test
+    public void readRow_writtenByCsvWriter_sameFields() throws Exception {
+        List<String> fields = Arrays.asList("a;b", "\"quoted\"", "line\r\nbreak", "", " x ");
+        CsvFormat format = CsvFormat.DEFAULT.withValueSeparator(",").withDelimiter(';');
+        StringWriter output = new StringWriter();
+        new CsvWriter(output, format).writeRow(fields);
+        assertEquals(fields, reader(output.toString(), format).readRow());
+    }
+
+    @Test
+    public void readRow_emptyInput_returnsNull() throws IOException, IllegalValueException {
+        assertNull(reader("", CsvFormat.DEFAULT).readRow());
+    }
+
+    private static CsvReader reader(String text, CsvFormat format) {
+        return new CsvReader(new StringReader(text), format);
+    }
+}
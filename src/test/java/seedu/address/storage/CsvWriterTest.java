@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.CsvFormat;
+import seedu.address.storage.csvstorage.CsvWriter;
+import seedu.address.testutil.Assert;
+
+public class CsvWriterTest {
+
+    private final StringWriter output = new StringWriter();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CsvWriter(null, CsvFormat.DEFAULT));
+        Assert.assertThrows(NullPointerException.class, () -> new CsvWriter(output, null));
+    }
+
+    @Test
+    public void writeRow_plainFields_writtenUnquoted() throws IOException {
+        CsvWriter writer = new CsvWriter(output, CsvFormat.DEFAULT);
+        writer.writeRow(Arrays.asList("Alice Pauline", "1/10/2018", " spaced "));
+        writer.writeRow(Arrays.asList("", ""));
+        writer.writeRow(Collections.singletonList("single"));
+        assertEquals("Alice Pauline,1/10/2018, spaced \r\n,\r\nsingle\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_specialCharacters_quotedAndEscaped() throws IOException {
+        CsvWriter writer = new CsvWriter(output, CsvFormat.DEFAULT);
+        writer.writeRow(Arrays.asList("a,b", "say \"hi\"", "two\nlines", "cr\rlf", "'single'"));
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\rlf\",'single'\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_customDialect_usesDialect() throws IOException {
+        CsvFormat format = CsvFormat.DEFAULT.withDelimiter('\t').withQuote('\'').withLineSeparator("\n");
+        CsvWriter writer = new CsvWriter(output, format);
+        writer.writeRow(Arrays.asList("a,b", "tab\there", "it's", "\"quoted\""));
+        assertEquals("a,b\t'tab\there'\t'it''s'\t\"quoted\"\n", output.toString());
+    }
+}
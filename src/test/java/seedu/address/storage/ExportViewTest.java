@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.ALICE;
+import static seedu.address.testutil.TypicalTasks.BENSON;
+import static seedu.address.testutil.TypicalTasks.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+
+public class ExportViewTest {
+
+    private final List<Integer> reportedProgress = new ArrayList<>();
+    private final ExportView.ProgressListener recordingListener = (readTaskCount, totalTaskCount) -> {
+        assertEquals(3, totalTaskCount);
+        reportedProgress.add(readTaskCount);
+    };
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new ExportView(null, task -> true, (x, y) -> { }));
+        Assert.assertThrows(NullPointerException.class, () ->
+            new ExportView(Collections.emptyList(), null, (x, y) -> { }));
+        Assert.assertThrows(NullPointerException.class, () ->
+            new ExportView(Collections.emptyList(), task -> true, null));
+    }
+
+    @Test
+    public void getTaskList_filter_containsMatchingTasksInOrder() {
+        ExportView view = new ExportView(Arrays.asList(ALICE, BENSON, CARL), task -> !task.equals(BENSON),
+            (x, y) -> { });
+        assertEquals(Arrays.asList(ALICE, CARL), view.getTaskList());
+    }
+
+    @Test
+    public void getTaskList_modify_throwsUnsupportedOperationException() {
+        ExportView view = new ExportView(Arrays.asList(ALICE, BENSON), task -> true, (x, y) -> { });
+        Assert.assertThrows(UnsupportedOperationException.class, () -> view.getTaskList().remove(0));
+    }
+
+    @Test
+    public void getTaskList_readInOrder_reportsEveryTaskForSmallList() {
+        ExportView view = new ExportView(Arrays.asList(ALICE, BENSON, CARL), task -> true, recordingListener);
+        view.getTaskList().forEach(unused -> { });
+        assertEquals(Arrays.asList(1, 2, 3), reportedProgress);
+
+        // reading the tasks again does not report completion twice
+        view.getTaskList().forEach(unused -> { });
+        assertEquals(Arrays.asList(1, 2, 3), reportedProgress);
+    }
+
+    @Test
+    public void getTaskList_readInOrder_reportsBoundedNumberOfTimes() {
+        int taskCount = ExportView.PROGRESS_REPORT_COUNT * 10 + 7;
+        List<Task> tasks = Collections.nCopies(taskCount, ALICE);
+        List<Integer> progress = new ArrayList<>();
+        ExportView view = new ExportView(tasks, task -> true, (readTaskCount, totalTaskCount) ->
+            progress.add(readTaskCount));
+
+        IntStream.range(0, taskCount).forEach(view.getTaskList()::get);
+        assertEquals(ExportView.PROGRESS_REPORT_COUNT + 1, progress.size());
+        assertEquals(taskCount, (int) progress.get(progress.size() - 1));
+    }
+}
@@ -10,22 +10,36 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
+import seedu.address.commons.core.CsvFormat;
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.ExportRequestEvent;
 import seedu.address.commons.events.model.ImportRequestEvent;
 import seedu.address.commons.events.model.TaskCollectionChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportFinishedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 import seedu.address.commons.events.storage.ImportDataAvailableEvent;
 import seedu.address.commons.events.storage.ImportExportExceptionEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
 import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.TaskCollection;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Task;
+import seedu.address.storage.csvstorage.CsvFileStorage;
 import seedu.address.storage.xmlstorage.XmlTaskCollectionStorage;
 import seedu.address.testutil.Assert;
 import seedu.address.ui.testutil.EventsCollectorRule;
@@ -43,7 +57,11 @@ public class StorageManagerTest {
     public void setUp() {
         XmlTaskCollectionStorage taskCollectionStorage = new XmlTaskCollectionStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(taskCollectionStorage, userPrefsStorage);
+        TextFileCommandHistoryStorage commandHistoryStorage =
+            new TextFileCommandHistoryStorage(getTempFilePath("history"), CommandHistory.DEFAULT_CAPACITY);
+        // exports run on the calling thread so that their outcome can be checked at once
+        storageManager = new StorageManager(taskCollectionStorage, userPrefsStorage, commandHistoryStorage,
+            MoreExecutors.newDirectExecutorService());
     }
 
     private Path getTempFilePath(String fileName) {
@@ -78,6 +96,17 @@ public class StorageManagerTest {
         assertEquals(original, new TaskCollection(retrieved));
     }
 
+    @Test
+    public void commandHistoryReadAppend() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TextFileCommandHistoryStorage} class.
+         */
+        storageManager.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("list"));
+        storageManager.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("undo"));
+        assertEquals(Arrays.asList("list", "undo"), storageManager.readCommandHistory());
+    }
+
     @Test
     public void getTaskCollectionFilePath() {
         assertNotNull(storageManager.getTaskCollectionFilePath());
@@ -88,7 +117,8 @@ public class StorageManagerTest {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(
             new XmlTaskCollectionStorageExceptionThrowingStub(Paths.get("dummy")),
-            new JsonUserPrefsStorage(Paths.get("dummy")));
+            new JsonUserPrefsStorage(Paths.get("dummy")),
+            new TextFileCommandHistoryStorage(Paths.get("dummy"), CommandHistory.DEFAULT_CAPACITY));
         storage.handleTaskCollectionChangedEvent(new TaskCollectionChangedEvent(new TaskCollection()));
         assertTrue(eventsCollectorRule.eventsCollector
             .getMostRecent() instanceof DataSavingExceptionEvent);
@@ -238,6 +268,38 @@ public class StorageManagerTest {
         }
     }
 
+    @Test
+    public void handleImportRequestEvent_csvFile_importDataAvailableEventRaised() throws IOException {
+        TaskCollection original = getTypicalTaskCollections();
+        Path csvFile = getTempFilePath("tasks.CSV");
+        storageManager.exportTaskCollection(original, csvFile, false,
+            Optional.of(CsvFormat.DEFAULT.withAllColumns()));
+        storageManager.handleImportRequestEvent(new ImportRequestEvent(csvFile.toString()));
+        BaseEvent event = eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event instanceof ImportDataAvailableEvent);
+        assertEquals(original, ((ImportDataAvailableEvent) event).data);
+    }
+
+    @Test
+    public void importTaskCollection_invalidCsvRow_rowReported() throws IOException {
+        Path csvFile = getTempFilePath("invalid.csv");
+        FileUtil.writeToFile(csvFile, "Subject,Start Date\nAlice Pauline,31/2/2018\n");
+        String rowError = String.format(CsvFileStorage.MESSAGE_ROW_ERROR, 2, Deadline.MESSAGE_DEADLINE_CONSTRAINTS);
+        Assert.assertThrows(IOException.class, String.format(Storage.MESSAGE_READ_CSV_FILE_ERROR, csvFile, rowError),
+            () -> storageManager.importTaskCollection(csvFile));
+    }
+
+    @Test
+    public void handleImportRequestEvent_withBaseFile_baseIncluded() throws IOException {
+        TaskCollection original = getTypicalTaskCollections();
+        storageManager.saveTaskCollection(original);
+        String filename = storageManager.getTaskCollectionFilePath().toString();
+        storageManager.handleImportRequestEvent(new ImportRequestEvent(filename, Optional.of(filename)));
+        ImportDataAvailableEvent event = (ImportDataAvailableEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(original, event.data);
+        assertEquals(Optional.of(original), event.base);
+    }
+
     @Test
     public void handleImportRequestEvent_nullEvent_importExportExceptionEventRaised() {
         storageManager.handleImportRequestEvent(null);
@@ -259,7 +321,30 @@ public class StorageManagerTest {
         storageManager.handleExportRequestEvent(
             new ExportRequestEvent(original, getTempFilePath("exportNewNonExistent").toString(),
                 false, false));
-        //Should not throw nor return anything.
+        BaseEvent event = eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event instanceof ExportFinishedEvent);
+        assertTrue(((ExportFinishedEvent) event).isSuccessful());
+        assertEquals(original.getTaskList().size(), ((ExportFinishedEvent) event).taskCount);
+        assertTrue(getTempFilePath("exportNewNonExistent").toFile().exists());
+    }
+
+    @Test
+    public void handleExportRequestEvent_filter_exportsMatchingTasksWithProgress() throws Exception {
+        TaskCollection original = getTypicalTaskCollections();
+        Task exportedTask = original.getTaskList().get(0);
+        Path exportPath = getTempFilePath("exportFiltered");
+        storageManager.handleExportRequestEvent(
+            new ExportRequestEvent(original, exportedTask::equals, exportPath.toString(), false,
+                Optional.empty()));
+
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        ExportProgressEvent progressEvent = (ExportProgressEvent) eventsCollectorRule.eventsCollector.get(0);
+        assertEquals(1, progressEvent.exportedTaskCount);
+        assertEquals(1, progressEvent.totalTaskCount);
+        assertTrue(((ExportFinishedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).isSuccessful());
+
+        TaskCollection exported = new TaskCollection(storageManager.importTaskCollection(exportPath).get());
+        assertEquals(Collections.singletonList(exportedTask), exported.getTaskList());
     }
 
     @Test
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class TextFileCommandHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nonPositiveMaxEntries_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new TextFileCommandHistoryStorage(getTempFilePath("history.txt"), 0));
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        TextFileCommandHistoryStorage storage = new TextFileCommandHistoryStorage(
+            getTempFilePath("missing.txt"), 10);
+        assertEquals(Collections.emptyList(), storage.readCommandHistory());
+    }
+
+    @Test
+    public void appendCommandHistory_thenRead_success() throws Exception {
+        TextFileCommandHistoryStorage storage = new TextFileCommandHistoryStorage(
+            getTempFilePath("history.txt"), 10);
+        storage.appendCommandHistory("list");
+        storage.appendCommandHistory("add n/a\nb");
+        assertEquals(Arrays.asList("list", "add n/a b"), storage.readCommandHistory());
+    }
+
+    @Test
+    public void appendCommandHistory_severalCommands_appendedInOrder() throws Exception {
+        TextFileCommandHistoryStorage storage = new TextFileCommandHistoryStorage(
+            getTempFilePath("history.txt"), 10);
+        storage.appendCommandHistory("list");
+        storage.appendCommandHistory(Arrays.asList("undo", "add n/a\nb"));
+        assertEquals(Arrays.asList("list", "undo", "add n/a b"), storage.readCommandHistory());
+    }
+
+    @Test
+    public void readCommandHistory_moreThanMaxEntries_returnsMostRecentAndCompacts() throws Exception {
+        Path filePath = getTempFilePath("history.txt");
+        TextFileCommandHistoryStorage storage = new TextFileCommandHistoryStorage(filePath, 2);
+        for (String command : Arrays.asList("a", "b", "c", "d", "e")) {
+            storage.appendCommandHistory(command);
+        }
+
+        assertEquals(Arrays.asList("d", "e"), storage.readCommandHistory());
+        // more than twice the maximum number of entries were stored, so the file has been compacted
+        assertEquals(Arrays.asList("d", "e"), Files.readAllLines(filePath, StandardCharsets.UTF_8));
+
+        storage.appendCommandHistory("f");
+        assertEquals(Arrays.asList("e", "f"), storage.readCommandHistory());
+        assertTrue(Files.readAllLines(filePath, StandardCharsets.UTF_8).contains("d"));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
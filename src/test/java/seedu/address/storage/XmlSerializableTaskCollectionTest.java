@@ -1,10 +1,15 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
 
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -12,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.TaskCollection;
+import seedu.address.model.task.Name;
 import seedu.address.storage.xmlstorage.XmlSerializableTaskCollection;
 import seedu.address.testutil.TypicalTasks;
 
@@ -24,9 +30,21 @@ public class XmlSerializableTaskCollectionTest {
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER
         .resolve("invalidTaskInTaskCollection.xml");
 
+    private static ForkJoinPool pool;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() {
+        pool.shutdown();
+    }
+
     @Test
     public void toModelType_typicalTasksFile_success() throws Exception {
         XmlSerializableTaskCollection dataFromFile = XmlUtil.getDataFromFile(TYPICAL_TASKS_FILE,
@@ -44,4 +62,44 @@ public class XmlSerializableTaskCollectionTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_manyTasks_keepsOrder() throws Exception {
+        int taskCount = 5 * 512 + 3;
+        XmlSerializableTaskCollection data = getDataWithTasks(taskCount, -1, -1);
+        TaskCollection taskCollection = data.toModelType(pool);
+
+        assertEquals(taskCount, taskCollection.getTaskList().size());
+        for (int i = 0; i < taskCount; i++) {
+            assertEquals("Task " + i, taskCollection.getTaskList().get(i).getName().value);
+        }
+    }
+
+    @Test
+    public void toModelType_invalidTasksInSeveralChunks_throwsErrorOfFirstInvalidTask() throws Exception {
+        // the later invalid task is in a smaller chunk, which may well finish first
+        XmlSerializableTaskCollection data = getDataWithTasks(4 * 512 + 1, 1500, 2048);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        data.toModelType(pool);
+    }
+
+    /**
+     * Returns a collection of {@code taskCount} tasks named after their position, where the task at
+     * {@code invalidNameIndex} has an invalid name and the one at {@code invalidPriorityIndex} an invalid
+     * priority.
+     */
+    private static XmlSerializableTaskCollection getDataWithTasks(int taskCount, int invalidNameIndex,
+                                                                  int invalidPriorityIndex) throws Exception {
+        StringBuilder xml = new StringBuilder("<taskcollection>");
+        for (int i = 0; i < taskCount; i++) {
+            xml.append("<tasks><name>").append(i == invalidNameIndex ? "Task_" : "Task ").append(i)
+                .append("</name><priority>").append(i == invalidPriorityIndex ? "9" : "1")
+                .append("</priority><frequency>0</frequency><deadline>1/10/2018</deadline>")
+                .append("<tagged>friends</tagged></tasks>");
+        }
+        xml.append("</taskcollection>");
+        return XmlUtil.getDataFromStream(new ByteArrayInputStream(xml.toString().getBytes(UTF_8)),
+            XmlSerializableTaskCollection.class);
+    }
+
 }
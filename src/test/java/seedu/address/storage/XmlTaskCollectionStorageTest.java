@@ -8,8 +8,10 @@ import static seedu.address.testutil.TypicalTasks.IDA;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskCollections;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,9 +19,11 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.TaskCollection;
 import seedu.address.storage.xmlstorage.XmlTaskCollectionStorage;
+import seedu.address.testutil.Assert;
 
 public class XmlTaskCollectionStorageTest {
 
@@ -106,6 +110,41 @@ public class XmlTaskCollectionStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveTaskCollection_compressedFile_success() throws Exception {
+        TaskCollection original = getTypicalTaskCollections();
+        for (String fileName : new String[] {"TempTaskCollection.xml.gz", "TempTaskCollection.xml.zz"}) {
+            Path filePath = testFolder.getRoot().toPath().resolve(fileName);
+            XmlTaskCollectionStorage xmlTaskCollectionStorage = new XmlTaskCollectionStorage(filePath);
+            xmlTaskCollectionStorage.saveTaskCollection(original);
+            assertEquals(original, new TaskCollection(xmlTaskCollectionStorage.readTaskCollection().get()));
+        }
+    }
+
+    @Test
+    public void readTaskCollection_corruptCompressedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskCollection.xml.gz");
+        FileUtil.writeToFile(filePath, "not compressed");
+        thrown.expect(DataConversionException.class);
+        new XmlTaskCollectionStorage(filePath).readTaskCollection();
+    }
+
+    @Test
+    public void readTaskCollection_truncatedCompressedFile_throwsDataConversionException() throws Exception {
+        for (String fileName : new String[] {"TempTaskCollection.xml.gz", "TempTaskCollection.xml.zz"}) {
+            Path filePath = testFolder.getRoot().toPath().resolve(fileName);
+            XmlTaskCollectionStorage xmlTaskCollectionStorage = new XmlTaskCollectionStorage(filePath);
+            xmlTaskCollectionStorage.saveTaskCollection(getTypicalTaskCollections());
+            byte[] saved = Files.readAllBytes(filePath);
+            Files.write(filePath, Arrays.copyOf(saved, saved.length / 2));
+            Assert.assertThrows(DataConversionException.class, xmlTaskCollectionStorage::readTaskCollection);
+
+            // an empty file has no compression header at all
+            Files.write(filePath, new byte[0]);
+            Assert.assertThrows(DataConversionException.class, xmlTaskCollectionStorage::readTaskCollection);
+        }
+    }
+
     @Test
     public void saveTaskCollection_nullTaskCollection_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -135,6 +135,7 @@ public class CommandBoxTest extends GuiUnitTest {
         assertInputHistory(KeyCode.DOWN, "");
 
         postNow(COMMAND_EVENT_SUCCEEDS);
+        commandBoxHandle.waitForPendingCommands();
         assertEquals("", commandBoxHandle.getInput());
         assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
 
@@ -162,6 +163,33 @@ public class CommandBoxTest extends GuiUnitTest {
         assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
     }
 
+    @Test
+    public void handleKeyPress_reverseSearch() {
+        commandBoxHandle.run(COMMAND_THAT_SUCCEEDS);
+        commandBoxHandle.run(COMMAND_THAT_FAILS);
+
+        guiRobot.push(KeyCode.CONTROL, KeyCode.R);
+        guiRobot.write("lis");
+        assertEquals(COMMAND_THAT_SUCCEEDS, commandBoxHandle.getInput());
+
+        // no older match -> input unchanged
+        guiRobot.push(KeyCode.CONTROL, KeyCode.R);
+        assertEquals(COMMAND_THAT_SUCCEEDS, commandBoxHandle.getInput());
+
+        // escape restores the input from before the search
+        guiRobot.push(KeyCode.ESCAPE);
+        assertEquals(COMMAND_THAT_FAILS, commandBoxHandle.getInput());
+
+        guiRobot.push(KeyCode.CONTROL, KeyCode.R);
+        guiRobot.write("list");
+        assertEquals(COMMAND_THAT_SUCCEEDS, commandBoxHandle.getInput());
+
+        // enter ends the search and executes the match
+        guiRobot.push(KeyCode.ENTER);
+        commandBoxHandle.waitForPendingCommands();
+        assertEquals("", commandBoxHandle.getInput());
+    }
+
     /**
      * Pushes {@code keycode} and checks that the input in the {@code commandBox} equals to {@code
      * expectedCommand}.
@@ -0,0 +1,56 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.net.URL;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class FxmlTemplateCacheTest {
+
+    private static final String MISSING_FILE_PATH = "FxmlTemplateCacheTest/missingFile.fxml";
+    private static final String VALID_FILE_NAME = "UiPartTest/validFile.fxml";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        FxmlTemplateCache.clear();
+    }
+
+    @Test
+    public void openTemplate_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> FxmlTemplateCache.openTemplate(null));
+    }
+
+    @Test
+    public void openTemplate_missingFile_throwsFileNotFoundException() throws Exception {
+        URL missingFileUrl = new URL(testFolder.getRoot().toURI().toURL(), MISSING_FILE_PATH);
+        Assert.assertThrows(FileNotFoundException.class, () -> FxmlTemplateCache.openTemplate(missingFileUrl));
+    }
+
+    @Test
+    public void openTemplate_validFile_returnsResourceContents() throws Exception {
+        URL validFileUrl = UiPart.getFxmlFileUrl(VALID_FILE_NAME);
+        byte[] expected;
+        try (InputStream in = validFileUrl.openStream()) {
+            expected = in.readAllBytes();
+        }
+
+        // first read fills the cache, second read is served from it
+        try (InputStream in = FxmlTemplateCache.openTemplate(validFileUrl)) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+        try (InputStream in = FxmlTemplateCache.openTemplate(validFileUrl)) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+    }
+}
@@ -67,6 +67,13 @@ public class EventsCollectorRule implements TestRule {
             return events.size();
         }
 
+        /**
+         * Returns the event collected at {@code index}, counting from the earliest
+         */
+        public BaseEvent get(int index) {
+            return events.get(index);
+        }
+
         /**
          * Returns the most recent event collected
          */